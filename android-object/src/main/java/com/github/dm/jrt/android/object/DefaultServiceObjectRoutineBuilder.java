@@ -41,6 +41,7 @@ import com.github.dm.jrt.object.annotation.AsyncOutput.OutputMode;
 import com.github.dm.jrt.object.annotation.SharedFields;
 import com.github.dm.jrt.object.builder.Builders;
 import com.github.dm.jrt.object.builder.Builders.MethodInfo;
+import com.github.dm.jrt.object.builder.Builders.MethodInvoker;
 import com.github.dm.jrt.object.common.Mutex;
 import com.github.dm.jrt.object.config.ObjectConfiguration;
 
@@ -60,8 +61,8 @@ import java.util.Set;
 import static com.github.dm.jrt.android.core.invocation.TargetInvocationFactory.factoryOf;
 import static com.github.dm.jrt.core.util.Reflection.asArgs;
 import static com.github.dm.jrt.core.util.Reflection.findMethod;
-import static com.github.dm.jrt.object.builder.Builders.callFromInvocation;
 import static com.github.dm.jrt.object.builder.Builders.getAnnotatedMethod;
+import static com.github.dm.jrt.object.builder.Builders.getMethodInvoker;
 import static com.github.dm.jrt.object.builder.Builders.getSharedMutex;
 import static com.github.dm.jrt.object.builder.Builders.getTargetMethodInfo;
 import static com.github.dm.jrt.object.builder.Builders.invokeRoutine;
@@ -444,9 +445,7 @@ class DefaultServiceObjectRoutineBuilder implements ServiceObjectRoutineBuilder
    */
   private static class ProxyInvocation extends CallContextInvocation<Object, Object> {
 
-    private final InputMode mInputMode;
-
-    private final OutputMode mOutputMode;
+    private final MethodInvoker mInvoker;
 
     private final Set<String> mSharedFields;
 
@@ -479,8 +478,7 @@ class DefaultServiceObjectRoutineBuilder implements ServiceObjectRoutineBuilder
       mTarget = target;
       mTargetMethod =
           target.getTargetClass().getMethod(targetMethodName, forNames(targetParameterTypes));
-      mInputMode = inputMode;
-      mOutputMode = outputMode;
+      mInvoker = getMethodInvoker(mTargetMethod, inputMode, outputMode);
     }
 
     @Override
@@ -497,8 +495,7 @@ class DefaultServiceObjectRoutineBuilder implements ServiceObjectRoutineBuilder
     @Override
     protected void onCall(@NotNull final List<?> objects,
         @NotNull final Channel<Object, ?> result) throws Exception {
-      callFromInvocation(mMutex, mInstance, mTargetMethod, objects, result, mInputMode,
-          mOutputMode);
+      mInvoker.call(mMutex, mInstance, objects, result);
     }
   }
 
@@ -43,6 +43,7 @@ import com.github.dm.jrt.object.annotation.AsyncInput.InputMode;
 import com.github.dm.jrt.object.annotation.AsyncOutput.OutputMode;
 import com.github.dm.jrt.object.builder.Builders;
 import com.github.dm.jrt.object.builder.Builders.MethodInfo;
+import com.github.dm.jrt.object.builder.Builders.MethodInvoker;
 import com.github.dm.jrt.object.common.Mutex;
 import com.github.dm.jrt.object.config.ObjectConfiguration;
 
@@ -57,7 +58,6 @@ import java.util.List;
 
 import static com.github.dm.jrt.core.util.Reflection.asArgs;
 import static com.github.dm.jrt.core.util.Reflection.findMethod;
-import static com.github.dm.jrt.object.builder.Builders.callFromInvocation;
 import static com.github.dm.jrt.object.builder.Builders.getAnnotatedMethod;
 
 /**
@@ -467,12 +467,10 @@ class DefaultLoaderObjectRoutineBuilder implements LoaderObjectRoutineBuilder {
    */
   private static class ProxyInvocation extends CallContextInvocation<Object, Object> {
 
-    private final InputMode mInputMode;
+    private final MethodInvoker mInvoker;
 
     private final ObjectConfiguration mObjectConfiguration;
 
-    private final OutputMode mOutputMode;
-
     private final ContextInvocationTarget<?> mTarget;
 
     private final Method mTargetMethod;
@@ -497,8 +495,7 @@ class DefaultLoaderObjectRoutineBuilder implements LoaderObjectRoutineBuilder {
       mTargetMethod = targetMethod;
       mObjectConfiguration = objectConfiguration;
       mTarget = target;
-      mInputMode = inputMode;
-      mOutputMode = outputMode;
+      mInvoker = Builders.getMethodInvoker(mTargetMethod, inputMode, outputMode);
     }
 
     @Override
@@ -527,8 +524,7 @@ class DefaultLoaderObjectRoutineBuilder implements LoaderObjectRoutineBuilder {
     @Override
     protected void onCall(@NotNull final List<?> objects,
         @NotNull final Channel<Object, ?> result) throws Exception {
-      callFromInvocation(mMutex, mInstance, mTargetMethod, objects, result, mInputMode,
-          mOutputMode);
+      mInvoker.call(mMutex, mInstance, objects, result);
     }
   }
 
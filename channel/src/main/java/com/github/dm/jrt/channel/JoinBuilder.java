@@ -5,6 +5,7 @@ import com.github.dm.jrt.core.channel.Channel;
 import com.github.dm.jrt.core.channel.ChannelConsumer;
 import com.github.dm.jrt.core.channel.OutputDeadlockException;
 import com.github.dm.jrt.core.common.Backoff;
+import com.github.dm.jrt.core.common.BackoffBuilder;
 import com.github.dm.jrt.core.common.RoutineException;
 import com.github.dm.jrt.core.config.ChannelConfiguration;
 import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
@@ -81,7 +82,9 @@ class JoinBuilder<OUT> extends AbstractBuilder<Channel<?, List<OUT>>> {
     int i = 0;
     final boolean isFlush = mIsFlush;
     final OUT placeholder = mPlaceholder;
-    final Backoff backoff = configuration.getBackoffOrElse(null);
+    final Backoff configBackoff = configuration.getBackoffOrElse(null);
+    final Backoff backoff =
+        (configBackoff != null) ? BackoffBuilder.channelBackoff(configBackoff) : null;
     final int maxSize = configuration.getMaxSizeOrElse(Integer.MAX_VALUE);
     for (final Channel<?, ? extends OUT> channel : channels) {
       channel.bind(
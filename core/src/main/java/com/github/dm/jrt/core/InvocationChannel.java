@@ -119,7 +119,8 @@ class InvocationChannel<IN, OUT> implements Channel<IN, OUT> {
     mRunner = ConstantConditions.notNull("invocation runner", invocationRunner);
     mInputOrder =
         new LocalValue<OrderType>(configuration.getInputOrderTypeOrElse(OrderType.UNSORTED));
-    mInputBackoff = configuration.getInputBackoffOrElse(BackoffBuilder.noDelay());
+    mInputBackoff = BackoffBuilder.channelBackoff(
+        configuration.getInputBackoffOrElse(BackoffBuilder.noDelay()));
     mMaxInput = configuration.getInputMaxSizeOrElse(Integer.MAX_VALUE);
     mInputDelay = new LocalValue<UnitDuration>(zero());
     mInputQueue = new NestedQueue<IN>() {
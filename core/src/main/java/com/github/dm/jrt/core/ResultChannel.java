@@ -157,7 +157,8 @@ class ResultChannel<OUT> implements Channel<OUT, OUT> {
     mOutputTimeout = configuration.getOutputTimeoutOrElse(zero());
     mTimeoutActionType = new LocalValue<TimeoutActionType>(
         configuration.getOutputTimeoutActionOrElse(TimeoutActionType.FAIL));
-    mOutputBackoff = configuration.getBackoffOrElse(BackoffBuilder.noDelay());
+    mOutputBackoff =
+        BackoffBuilder.channelBackoff(configuration.getBackoffOrElse(BackoffBuilder.noDelay()));
     mMaxOutput = configuration.getMaxSizeOrElse(Integer.MAX_VALUE);
     mOutputQueue = new NestedQueue<Object>() {
 
@@ -203,7 +204,8 @@ class ResultChannel<OUT> implements Channel<OUT, OUT> {
     mOutputTimeout = configuration.getOutputTimeoutOrElse(zero());
     mTimeoutActionType = new LocalValue<TimeoutActionType>(
         configuration.getOutputTimeoutActionOrElse(TimeoutActionType.FAIL));
-    mOutputBackoff = configuration.getOutputBackoffOrElse(BackoffBuilder.noDelay());
+    mOutputBackoff = BackoffBuilder.channelBackoff(
+        configuration.getOutputBackoffOrElse(BackoffBuilder.noDelay()));
     mMaxOutput = configuration.getOutputMaxSizeOrElse(Integer.MAX_VALUE);
     mOutputQueue = new NestedQueue<Object>() {
 
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.github.dm.jrt.core.util.Reflection.asArgs;
 
@@ -69,6 +70,20 @@ public class BackoffBuilder {
     return new BackoffBuilder(count);
   }
 
+  /**
+   * Returns the backoff instance to be employed by a single channel.
+   * <br>
+   * Adaptive backoffs are forked, so that the counts passed by unrelated channels are not mixed
+   * up in the same window, while stateless backoffs are returned as they are.
+   *
+   * @param backoff the configured backoff.
+   * @return the channel backoff.
+   */
+  @NotNull
+  public static Backoff channelBackoff(@NotNull final Backoff backoff) {
+    return (backoff instanceof AdaptiveBackoff) ? ((AdaptiveBackoff) backoff).fork() : backoff;
+  }
+
   /**
    * Returns the no delay backoff instance.
    * <br>
@@ -81,6 +96,50 @@ public class BackoffBuilder {
     return sNoDelay;
   }
 
+  /**
+   * Returns an adaptive backoff.
+   * <br>
+   * The backoff applies an AIMD (additive-increase, multiplicative-decrease) policy to a window of
+   * pending data, whose size starts at, and never exceeds, the builder count. Each time the passed
+   * count decreases, that is, the consumer has drained some data, the window is increased by one.
+   * While, each time the count grows past the window size, the window is halved. The returned
+   * delay is then computed as: {@code delay * (count - window)}.
+   * <p>
+   * Note that, unlike the other policies, the returned instance is stateful. Channels employ a
+   * fork of it each (see {@link #channelBackoff(Backoff)}), so that every channel adapts its own
+   * window, while the delay metrics are collected across all of them.
+   *
+   * @param value the delay value.
+   * @param unit  the delay unit.
+   * @return the backoff instance.
+   * @throws java.lang.IllegalArgumentException if the delay is negative.
+   */
+  @NotNull
+  public AdaptiveBackoff adaptiveDelay(final long value, @NotNull final TimeUnit unit) {
+    return new AdaptiveBackoff(mCount, unit.toMillis(value));
+  }
+
+  /**
+   * Returns an adaptive backoff.
+   * <br>
+   * The backoff applies an AIMD (additive-increase, multiplicative-decrease) policy to a window of
+   * pending data, whose size starts at, and never exceeds, the builder count. Each time the passed
+   * count decreases, that is, the consumer has drained some data, the window is increased by one.
+   * While, each time the count grows past the window size, the window is halved. The returned
+   * delay is then computed as: {@code delay * (count - window)}.
+   * <p>
+   * Note that, unlike the other policies, the returned instance is stateful. Channels employ a
+   * fork of it each (see {@link #channelBackoff(Backoff)}), so that every channel adapts its own
+   * window, while the delay metrics are collected across all of them.
+   *
+   * @param delay the delay.
+   * @return the backoff instance.
+   */
+  @NotNull
+  public AdaptiveBackoff adaptiveDelay(@NotNull final UnitDuration delay) {
+    return new AdaptiveBackoff(mCount, delay.toMillis());
+  }
+
   /**
    * Returns a constant backoff.
    * <br>
@@ -197,6 +256,139 @@ public class BackoffBuilder {
     return new LinearBackoff(mCount, delay.toMillis());
   }
 
+  /**
+   * Adaptive backoff policy implementation.
+   * <br>
+   * The instance exposes some metrics about the computed delays, which are shared with all its
+   * forks. The window state is instead kept by each instance and atomically updated.
+   */
+  public static class AdaptiveBackoff extends BaseBackoff {
+
+    private static final long COUNT_MASK = 0xffffffffL;
+
+    private final long mDelay;
+
+    private final AtomicLong mDelayCount;
+
+    private final int mMaxWindow;
+
+    private final int mMinWindow;
+
+    private final AtomicLong mState;
+
+    private final AtomicLong mTotalDelay;
+
+    /**
+     * Constructor.
+     *
+     * @param offset      the maximum window size.
+     * @param delayMillis the delay in milliseconds.
+     * @throws java.lang.IllegalArgumentException if the delay is negative.
+     */
+    private AdaptiveBackoff(final int offset, final long delayMillis) {
+      this(offset, ConstantConditions.notNegative("backoff delay", delayMillis), new AtomicLong(),
+          new AtomicLong());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param offset      the maximum window size.
+     * @param delayMillis the delay in milliseconds.
+     * @param delayCount  the shared delay count.
+     * @param totalDelay  the shared total delay.
+     */
+    private AdaptiveBackoff(final int offset, final long delayMillis,
+        @NotNull final AtomicLong delayCount, @NotNull final AtomicLong totalDelay) {
+      super(asArgs(offset, delayMillis));
+      mMaxWindow = offset;
+      mMinWindow = Math.min(1, offset);
+      mDelay = delayMillis;
+      mDelayCount = delayCount;
+      mTotalDelay = totalDelay;
+      // The window is stored in the high bits and the last count in the low ones
+      mState = new AtomicLong(((long) offset) << 32);
+    }
+
+    @Override
+    public int hashCode() {
+      // The instance is stateful, so it is equal only to itself
+      return System.identityHashCode(this);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return (this == o);
+    }
+
+    /**
+     * Returns a new instance sharing the metrics of this one, but adapting its own window.
+     *
+     * @return the forked backoff.
+     */
+    @NotNull
+    public AdaptiveBackoff fork() {
+      return new AdaptiveBackoff(mMaxWindow, mDelay, mDelayCount, mTotalDelay);
+    }
+
+    /**
+     * Returns the number of times a delay different than {@code NO_DELAY} has been returned.
+     *
+     * @return the delay count.
+     */
+    public long getDelayCount() {
+      return mDelayCount.get();
+    }
+
+    /**
+     * Returns the sum of all the returned delays.
+     *
+     * @return the total delay.
+     */
+    @NotNull
+    public UnitDuration getTotalDelay() {
+      return UnitDuration.millis(mTotalDelay.get());
+    }
+
+    /**
+     * Returns the current window size, that is, the count after which a delay is applied.
+     *
+     * @return the window size.
+     */
+    public int getWindow() {
+      return (int) (mState.get() >>> 32);
+    }
+
+    public long getDelay(final int count) {
+      final AtomicLong state = mState;
+      long current;
+      int window;
+      do {
+        current = state.get();
+        final int lastCount = (int) current;
+        window = (int) (current >>> 32);
+        if (count < lastCount) {
+          // The consumer is keeping up with the producer
+          window = Math.min(window + 1, mMaxWindow);
+
+        } else if ((count > window) && (lastCount <= window)) {
+          window = Math.max(window >> 1, mMinWindow);
+        }
+
+      } while (!state.compareAndSet(current, (((long) window) << 32) | (count & COUNT_MASK)));
+
+      final int excess = count - window;
+      if (excess <= 0) {
+        return NO_DELAY;
+      }
+
+      final long delay = mDelay * excess;
+      mDelayCount.incrementAndGet();
+      mTotalDelay.addAndGet(delay);
+      return delay;
+    }
+  }
+
   /**
    * Base backoff policy implementation.
    */
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.core.log;
+
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log implementation handing the log messages to a background thread, which in turn writes them
+ * into the wrapped log instance.
+ * <p>
+ * The messages are stored, still unformatted, into a bounded lock-free ring buffer. If the buffer
+ * is full, new messages are discarded and counted as dropped, so that the logging threads are
+ * never blocked.
+ * <br>
+ * Note that, since formatting is deferred, the format arguments should not be modified after
+ * being passed to the log. Note also that thread information printed by the wrapped log will
+ * refer to the background thread.
+ * <br>
+ * The background thread keeps running until the log is closed.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+@SuppressWarnings("WeakerAccess")
+public class AsyncLog implements EventLog {
+
+  private static final int DEFAULT_CAPACITY = 1024;
+
+  private final AtomicReferenceArray<LogEvent> mBuffer;
+
+  private final AtomicLong mDroppedCount = new AtomicLong();
+
+  private final Log mLog;
+
+  private final int mMask;
+
+  private final AtomicLongArray mSequences;
+
+  private final AtomicLong mTail = new AtomicLong();
+
+  private final Thread mThread;
+
+  private long mHead;
+
+  private volatile boolean mIsClosed;
+
+  private volatile boolean mIsWaiting;
+
+  /**
+   * Constructor.
+   *
+   * @param log the wrapped log instance.
+   */
+  public AsyncLog(@NotNull final Log log) {
+    this(log, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructor.
+   * <br>
+   * Note that the capacity is rounded up to the next power of two, and it cannot be less than 2.
+   *
+   * @param log      the wrapped log instance.
+   * @param capacity the maximum number of pending messages.
+   * @throws java.lang.IllegalArgumentException if the capacity is 0 or negative.
+   */
+  public AsyncLog(@NotNull final Log log, final int capacity) {
+    mLog = ConstantConditions.notNull("log instance", log);
+    ConstantConditions.positive("buffer capacity", capacity);
+    final int size = (capacity > 2) ? Integer.highestOneBit(capacity - 1) << 1 : 2;
+    mMask = size - 1;
+    mBuffer = new AtomicReferenceArray<LogEvent>(size);
+    mSequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; ++i) {
+      mSequences.set(i, i);
+    }
+
+    final Thread thread = (mThread = new Thread(new Runnable() {
+
+      public void run() {
+        writeEvents();
+      }
+    }, "jrt-async-log"));
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Closes this log.
+   * <br>
+   * The method waits for the pending messages to be written into the wrapped log and then stops
+   * the background thread. The messages logged after the log has been closed are discarded and
+   * counted as dropped.
+   */
+  public void close() {
+    mIsClosed = true;
+    final Thread thread = mThread;
+    LockSupport.unpark(thread);
+    if (thread == Thread.currentThread()) {
+      return;
+    }
+
+    boolean isInterrupted = false;
+    while (thread.isAlive()) {
+      try {
+        thread.join();
+
+      } catch (final InterruptedException e) {
+        isInterrupted = true;
+      }
+    }
+
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public void dbg(@NotNull final List<Object> contexts, @Nullable final String message,
+      @Nullable final Throwable throwable) {
+    offer(new LogEvent(Level.DEBUG, contexts, message, null, false, throwable));
+  }
+
+  public void err(@NotNull final List<Object> contexts, @Nullable final String message,
+      @Nullable final Throwable throwable) {
+    offer(new LogEvent(Level.ERROR, contexts, message, null, false, throwable));
+  }
+
+  /**
+   * Returns the number of messages discarded since the buffer was full.
+   *
+   * @return the dropped message count.
+   */
+  public long getDroppedCount() {
+    return mDroppedCount.get();
+  }
+
+  /**
+   * Returns the wrapped log instance.
+   *
+   * @return the log instance.
+   */
+  @NotNull
+  public Log getLog() {
+    return mLog;
+  }
+
+  public void log(@NotNull final Level level, @NotNull final List<Object> contexts,
+      @NotNull final String format, @Nullable final Object[] args,
+      @Nullable final Throwable throwable) {
+    offer(new LogEvent(level, contexts, format, args, true, throwable));
+  }
+
+  public void wrn(@NotNull final List<Object> contexts, @Nullable final String message,
+      @Nullable final Throwable throwable) {
+    offer(new LogEvent(Level.WARNING, contexts, message, null, false, throwable));
+  }
+
+  private void offer(@NotNull final LogEvent event) {
+    if (mIsClosed) {
+      mDroppedCount.incrementAndGet();
+      return;
+    }
+
+    final AtomicLongArray sequences = mSequences;
+    final AtomicLong tail = mTail;
+    final int mask = mMask;
+    while (true) {
+      final long position = tail.get();
+      final int index = (int) position & mask;
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          mBuffer.set(index, event);
+          sequences.set(index, position + 1);
+          break;
+        }
+
+      } else if (difference < 0) {
+        mDroppedCount.incrementAndGet();
+        return;
+      }
+    }
+
+    if (mIsWaiting) {
+      LockSupport.unpark(mThread);
+    }
+  }
+
+  @Nullable
+  private LogEvent poll() {
+    final long head = mHead;
+    final int index = (int) head & mMask;
+    final AtomicLongArray sequences = mSequences;
+    if (sequences.get(index) != (head + 1)) {
+      return null;
+    }
+
+    final AtomicReferenceArray<LogEvent> buffer = mBuffer;
+    final LogEvent event = buffer.get(index);
+    buffer.set(index, null);
+    sequences.set(index, head + mMask + 1);
+    mHead = head + 1;
+    return event;
+  }
+
+  private void write(@NotNull final LogEvent event) {
+    final Log log = mLog;
+    if (!event.mIsFormat) {
+      Logs.log(log, event.mLevel, event.mContexts, event.mMessage, event.mThrowable);
+
+    } else if (log instanceof EventLog) {
+      ((EventLog) log).log(event.mLevel, event.mContexts, event.mMessage, event.mArgs,
+          event.mThrowable);
+
+    } else {
+      Logs.log(log, event.mLevel, event.mContexts, String.format(event.mMessage, event.mArgs),
+          event.mThrowable);
+    }
+  }
+
+  private void writeEvents() {
+    while (true) {
+      LogEvent event = poll();
+      if (event == null) {
+        if (mIsClosed) {
+          return;
+        }
+
+        mIsWaiting = true;
+        event = poll();
+        if ((event == null) && !mIsClosed) {
+          LockSupport.park(this);
+        }
+
+        mIsWaiting = false;
+        if (event == null) {
+          continue;
+        }
+      }
+
+      try {
+        write(event);
+
+      } catch (final RuntimeException ignored) {
+        // Keep on writing the next events
+      }
+    }
+  }
+
+  /**
+   * Log event implementation.
+   */
+  private static class LogEvent {
+
+    private final Object[] mArgs;
+
+    private final List<Object> mContexts;
+
+    private final boolean mIsFormat;
+
+    private final Level mLevel;
+
+    private final String mMessage;
+
+    private final Throwable mThrowable;
+
+    /**
+     * Constructor.
+     *
+     * @param level     the log level.
+     * @param contexts  the list of contexts.
+     * @param message   the message or the message format.
+     * @param args      the format arguments.
+     * @param isFormat  whether the message must be formatted.
+     * @param throwable the optional throwable or null.
+     */
+    private LogEvent(@NotNull final Level level, @NotNull final List<Object> contexts,
+        @Nullable final String message, @Nullable final Object[] args, final boolean isFormat,
+        @Nullable final Throwable throwable) {
+      mLevel = level;
+      mContexts = contexts;
+      mMessage = message;
+      mArgs = args;
+      mIsFormat = isFormat;
+      mThrowable = throwable;
+    }
+  }
+}
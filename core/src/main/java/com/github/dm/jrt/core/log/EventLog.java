@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.core.log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Interface defining a log object receiving the log messages before they get formatted.
+ * <p>
+ * A logger employing an instance of this interface will not format the messages itself, but will
+ * instead pass the raw format and arguments, thus leaving the implementing class free to defer
+ * formatting, or to skip it altogether.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @see com.github.dm.jrt.core.log.Logger Logger
+ */
+public interface EventLog extends Log {
+
+  /**
+   * Logs a message with the specified level.
+   * <br>
+   * The message is obtained by applying the arguments to the specified format, as done by
+   * {@link java.lang.String#format(String, Object...) String.format(String, Object...)}.
+   *
+   * @param level     the log level.
+   * @param contexts  the list of contexts.
+   * @param format    the message format.
+   * @param args      the format arguments.
+   * @param throwable the optional throwable or null.
+   */
+  void log(@NotNull Level level, @NotNull List<Object> contexts, @NotNull String format,
+      @Nullable Object[] args, @Nullable Throwable throwable);
+}
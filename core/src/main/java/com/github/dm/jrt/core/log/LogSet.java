@@ -32,7 +32,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
  * Created by davide-maestroni on 12/28/2015.
  */
 @SuppressWarnings("WeakerAccess")
-public class LogSet extends CopyOnWriteArraySet<Log> implements Log {
+public class LogSet extends CopyOnWriteArraySet<Log> implements EventLog {
 
   private static final long serialVersionUID = -1;
 
@@ -236,6 +236,24 @@ public class LogSet extends CopyOnWriteArraySet<Log> implements Log {
     }
   }
 
+  public void log(@NotNull final Level level, @NotNull final List<Object> contexts,
+      @NotNull final String format, @Nullable final Object[] args,
+      @Nullable final Throwable throwable) {
+    String message = null;
+    for (final Log log : this) {
+      if (log instanceof EventLog) {
+        ((EventLog) log).log(level, contexts, format, args, throwable);
+
+      } else {
+        if (message == null) {
+          message = String.format(format, args);
+        }
+
+        Logs.log(log, level, contexts, message, throwable);
+      }
+    }
+  }
+
   public void wrn(@NotNull final List<Object> contexts, @Nullable final String message,
       @Nullable final Throwable throwable) {
     for (final Log log : this) {
@@ -33,6 +33,10 @@ import static com.github.dm.jrt.core.util.Reflection.asArgs;
 /**
  * Utility class used for logging messages.
  * <p>
+ * Messages are formatted only when the log level is enabled. In case the log instance implements
+ * {@link com.github.dm.jrt.core.log.EventLog EventLog}, the format and the arguments are passed
+ * unchanged, so that the formatting is deferred to the log implementation.
+ * <p>
  * Created by davide-maestroni on 10/03/2014.
  */
 @SuppressWarnings("WeakerAccess")
@@ -52,6 +56,8 @@ public class Logger {
 
   private final Object[] mContexts;
 
+  private final EventLog mEventLog;
+
   private final int mLevel;
 
   private final Log mLog;
@@ -69,6 +75,7 @@ public class Logger {
       @Nullable final Level level) {
     mContexts = contexts.clone();
     mLog = (log == null) ? sLog.get() : log;
+    mEventLog = (mLog instanceof EventLog) ? (EventLog) mLog : null;
     mLogLevel = (level == null) ? sLogLevel.get() : level;
     mLevel = mLogLevel.ordinal();
     mContextList = Arrays.asList(mContexts);
@@ -158,7 +165,7 @@ public class Logger {
    */
   public void dbg(@NotNull final String format, @Nullable final Object arg1) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1), null);
+      log(Level.DEBUG, format, asArgs(arg1), null);
     }
   }
 
@@ -172,7 +179,7 @@ public class Logger {
   public void dbg(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1, arg2), null);
+      log(Level.DEBUG, format, asArgs(arg1, arg2), null);
     }
   }
 
@@ -187,7 +194,7 @@ public class Logger {
   public void dbg(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2, @Nullable final Object arg3) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1, arg2, arg3), null);
+      log(Level.DEBUG, format, asArgs(arg1, arg2, arg3), null);
     }
   }
 
@@ -203,7 +210,7 @@ public class Logger {
   public void dbg(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2, @Nullable final Object arg3, @Nullable final Object arg4) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1, arg2, arg3, arg4), null);
+      log(Level.DEBUG, format, asArgs(arg1, arg2, arg3, arg4), null);
     }
   }
 
@@ -215,7 +222,7 @@ public class Logger {
    */
   public void dbg(@NotNull final String format, @Nullable final Object... args) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, args), null);
+      log(Level.DEBUG, format, args, null);
     }
   }
 
@@ -252,7 +259,7 @@ public class Logger {
   public void dbg(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1), throwable);
+      log(Level.DEBUG, format, asArgs(arg1), throwable);
     }
   }
 
@@ -267,7 +274,7 @@ public class Logger {
   public void dbg(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1, @Nullable final Object arg2) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1, arg2), throwable);
+      log(Level.DEBUG, format, asArgs(arg1, arg2), throwable);
     }
   }
 
@@ -283,7 +290,7 @@ public class Logger {
   public void dbg(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1, @Nullable final Object arg2, @Nullable final Object arg3) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1, arg2, arg3), throwable);
+      log(Level.DEBUG, format, asArgs(arg1, arg2, arg3), throwable);
     }
   }
 
@@ -301,7 +308,7 @@ public class Logger {
       @Nullable final Object arg1, @Nullable final Object arg2, @Nullable final Object arg3,
       @Nullable final Object arg4) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, arg1, arg2, arg3, arg4), throwable);
+      log(Level.DEBUG, format, asArgs(arg1, arg2, arg3, arg4), throwable);
     }
   }
 
@@ -315,7 +322,7 @@ public class Logger {
   public void dbg(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object... args) {
     if (mLevel <= DEBUG_LEVEL) {
-      mLog.dbg(mContextList, String.format(format, args), throwable);
+      log(Level.DEBUG, format, args, throwable);
     }
   }
 
@@ -338,7 +345,7 @@ public class Logger {
    */
   public void err(@NotNull final String format, @Nullable final Object arg1) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1), null);
+      log(Level.ERROR, format, asArgs(arg1), null);
     }
   }
 
@@ -352,7 +359,7 @@ public class Logger {
   public void err(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1, arg2), null);
+      log(Level.ERROR, format, asArgs(arg1, arg2), null);
     }
   }
 
@@ -367,7 +374,7 @@ public class Logger {
   public void err(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2, @Nullable final Object arg3) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1, arg2, arg3), null);
+      log(Level.ERROR, format, asArgs(arg1, arg2, arg3), null);
     }
   }
 
@@ -383,7 +390,7 @@ public class Logger {
   public void err(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2, @Nullable final Object arg3, @Nullable final Object arg4) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1, arg2, arg3, arg4), null);
+      log(Level.ERROR, format, asArgs(arg1, arg2, arg3, arg4), null);
     }
   }
 
@@ -395,7 +402,7 @@ public class Logger {
    */
   public void err(@NotNull final String format, @Nullable final Object... args) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, args), null);
+      log(Level.ERROR, format, args, null);
     }
   }
 
@@ -432,7 +439,7 @@ public class Logger {
   public void err(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1), throwable);
+      log(Level.ERROR, format, asArgs(arg1), throwable);
     }
   }
 
@@ -447,7 +454,7 @@ public class Logger {
   public void err(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1, @Nullable final Object arg2) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1, arg2), throwable);
+      log(Level.ERROR, format, asArgs(arg1, arg2), throwable);
     }
   }
 
@@ -463,7 +470,7 @@ public class Logger {
   public void err(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1, @Nullable final Object arg2, @Nullable final Object arg3) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1, arg2, arg3), throwable);
+      log(Level.ERROR, format, asArgs(arg1, arg2, arg3), throwable);
     }
   }
 
@@ -481,7 +488,7 @@ public class Logger {
       @Nullable final Object arg1, @Nullable final Object arg2, @Nullable final Object arg3,
       @Nullable final Object arg4) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, arg1, arg2, arg3, arg4), throwable);
+      log(Level.ERROR, format, asArgs(arg1, arg2, arg3, arg4), throwable);
     }
   }
 
@@ -495,7 +502,7 @@ public class Logger {
   public void err(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object... args) {
     if (mLevel <= ERROR_LEVEL) {
-      mLog.err(mContextList, String.format(format, args), throwable);
+      log(Level.ERROR, format, args, throwable);
     }
   }
 
@@ -566,7 +573,7 @@ public class Logger {
    */
   public void wrn(@NotNull final String format, @Nullable final Object arg1) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1), null);
+      log(Level.WARNING, format, asArgs(arg1), null);
     }
   }
 
@@ -580,7 +587,7 @@ public class Logger {
   public void wrn(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1, arg2), null);
+      log(Level.WARNING, format, asArgs(arg1, arg2), null);
     }
   }
 
@@ -595,7 +602,7 @@ public class Logger {
   public void wrn(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2, @Nullable final Object arg3) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1, arg2, arg3), null);
+      log(Level.WARNING, format, asArgs(arg1, arg2, arg3), null);
     }
   }
 
@@ -611,7 +618,7 @@ public class Logger {
   public void wrn(@NotNull final String format, @Nullable final Object arg1,
       @Nullable final Object arg2, @Nullable final Object arg3, @Nullable final Object arg4) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1, arg2, arg3, arg4), null);
+      log(Level.WARNING, format, asArgs(arg1, arg2, arg3, arg4), null);
     }
   }
 
@@ -623,7 +630,7 @@ public class Logger {
    */
   public void wrn(@NotNull final String format, @Nullable final Object... args) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, args), null);
+      log(Level.WARNING, format, args, null);
     }
   }
 
@@ -660,7 +667,7 @@ public class Logger {
   public void wrn(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1), throwable);
+      log(Level.WARNING, format, asArgs(arg1), throwable);
     }
   }
 
@@ -675,7 +682,7 @@ public class Logger {
   public void wrn(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1, @Nullable final Object arg2) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1, arg2), throwable);
+      log(Level.WARNING, format, asArgs(arg1, arg2), throwable);
     }
   }
 
@@ -691,7 +698,7 @@ public class Logger {
   public void wrn(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object arg1, @Nullable final Object arg2, @Nullable final Object arg3) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1, arg2, arg3), throwable);
+      log(Level.WARNING, format, asArgs(arg1, arg2, arg3), throwable);
     }
   }
 
@@ -709,7 +716,7 @@ public class Logger {
       @Nullable final Object arg1, @Nullable final Object arg2, @Nullable final Object arg3,
       @Nullable final Object arg4) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, arg1, arg2, arg3, arg4), throwable);
+      log(Level.WARNING, format, asArgs(arg1, arg2, arg3, arg4), throwable);
     }
   }
 
@@ -723,7 +730,18 @@ public class Logger {
   public void wrn(@NotNull final Throwable throwable, @NotNull final String format,
       @Nullable final Object... args) {
     if (mLevel <= WARNING_LEVEL) {
-      mLog.wrn(mContextList, String.format(format, args), throwable);
+      log(Level.WARNING, format, args, throwable);
+    }
+  }
+
+  private void log(@NotNull final Level level, @NotNull final String format,
+      @Nullable final Object[] args, @Nullable final Throwable throwable) {
+    final EventLog eventLog = mEventLog;
+    if (eventLog != null) {
+      eventLog.log(level, mContextList, format, args, throwable);
+
+    } else {
+      Logs.log(mLog, level, mContextList, String.format(format, args), throwable);
     }
   }
 }
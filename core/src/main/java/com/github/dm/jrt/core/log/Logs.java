@@ -16,9 +16,13 @@
 
 package com.github.dm.jrt.core.log;
 
+import com.github.dm.jrt.core.log.Log.Level;
 import com.github.dm.jrt.core.util.ConstantConditions;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
 
 /**
  * Utility class for creating and sharing log instances.
@@ -57,4 +61,27 @@ public class Logs {
   public static SystemLog systemLog() {
     return sSystemLog;
   }
+
+  /**
+   * Logs the specified message by calling the log method corresponding to the passed level.
+   *
+   * @param log       the log instance.
+   * @param level     the log level.
+   * @param contexts  the list of contexts.
+   * @param message   the message.
+   * @param throwable the optional throwable or null.
+   */
+  static void log(@NotNull final Log log, @NotNull final Level level,
+      @NotNull final List<Object> contexts, @Nullable final String message,
+      @Nullable final Throwable throwable) {
+    if (level == Level.DEBUG) {
+      log.dbg(contexts, message, throwable);
+
+    } else if (level == Level.WARNING) {
+      log.wrn(contexts, message, throwable);
+
+    } else if (level == Level.ERROR) {
+      log.err(contexts, message, throwable);
+    }
+  }
 }
@@ -26,7 +26,12 @@ import java.util.List;
  * <p>
  * Created by davide-maestroni on 10/04/2014.
  */
-public class NullLog extends TemplateLog {
+public class NullLog extends TemplateLog implements EventLog {
+
+  public void log(@NotNull final Level level, @NotNull final List<Object> contexts,
+      @NotNull final String format, @Nullable final Object[] args,
+      @Nullable final Throwable throwable) {
+  }
 
   @Override
   protected void log(@NotNull final Level level, @NotNull final List<Object> contexts,
@@ -167,6 +167,32 @@ public class Runners {
     return scheduledRunner(new ScheduledThreadExecutor(service));
   }
 
+  /**
+   * Returns a runner employing the specified executor service, and scheduling delayed executions
+   * through the specified timing wheel.
+   * <p>
+   * Be aware that the created runner will not fully comply with the interface contract. Java
+   * executor services do not in fact publish the used threads, so that knowing in advance whether
+   * a thread belongs to the managed pool is not feasible. This issue actually exposes routines
+   * employing the runner to possible deadlocks, in case the specified service is not exclusively
+   * accessed by the runner itself.
+   * <br>
+   * Be then careful when employing runners returned by this method.
+   * <p>
+   * Note that the timing wheel is not stopped by the runner, so it is up to the caller to stop it
+   * when it is no more needed.
+   *
+   * @param service     the executor service.
+   * @param timingWheel the timing wheel.
+   * @return the runner instance.
+   * @see com.github.dm.jrt.core.runner.TimingWheel#sharedInstance()
+   */
+  @NotNull
+  public static Runner scheduledRunner(@NotNull final ExecutorService service,
+      @NotNull final TimingWheel timingWheel) {
+    return scheduledRunner(new ScheduledThreadExecutor(service, timingWheel));
+  }
+
   /**
    * Returns the shared instance of a thread pool asynchronous runner.
    *
@@ -20,14 +20,27 @@ import com.github.dm.jrt.core.util.ConstantConditions;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Scheduled thread executor wrapping an executor service.
+ * <br>
+ * Delayed commands are scheduled through a timing wheel, which hands them straight to the wrapped
+ * service when they expire, while the internal thread is employed only for the commands to be
+ * executed immediately. The commands still waiting in the wheel are cancelled when the executor is
+ * shut down.
  * <p>
  * Created by davide-maestroni on 05/24/2016.
  */
@@ -35,19 +48,38 @@ class ScheduledThreadExecutor extends ScheduledThreadPoolExecutor {
 
   private final ExecutorService mExecutor;
 
+  private final ConcurrentHashMap<WheelCommand, Boolean> mPendingCommands =
+      new ConcurrentHashMap<WheelCommand, Boolean>();
+
+  private final TimingWheel mTimingWheel;
+
   /**
    * Constructor.
    *
    * @param service the executor service.
    */
   ScheduledThreadExecutor(@NotNull final ExecutorService service) {
+    this(service, TimingWheel.sharedInstance());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param service     the executor service.
+   * @param timingWheel the timing wheel.
+   */
+  ScheduledThreadExecutor(@NotNull final ExecutorService service,
+      @NotNull final TimingWheel timingWheel) {
     super(1);
     mExecutor = ConstantConditions.notNull("executor service", service);
+    mTimingWheel = ConstantConditions.notNull("timing wheel", timingWheel);
   }
 
   @Override
   public int hashCode() {
-    return mExecutor.hashCode();
+    int result = mExecutor.hashCode();
+    result = 31 * result + mTimingWheel.hashCode();
+    return result;
   }
 
   @Override
@@ -61,14 +93,35 @@ class ScheduledThreadExecutor extends ScheduledThreadPoolExecutor {
     }
 
     final ScheduledThreadExecutor that = (ScheduledThreadExecutor) o;
-    return mExecutor.equals(that.mExecutor);
+    return mExecutor.equals(that.mExecutor) && mTimingWheel.equals(that.mTimingWheel);
   }
 
   @NotNull
   @Override
   public ScheduledFuture<?> schedule(final Runnable command, final long delay,
       final TimeUnit unit) {
-    return super.schedule(new CommandRunnable(mExecutor, command), delay, unit);
+    final CommandRunnable runnable = new CommandRunnable(mExecutor, command);
+    if (delay <= 0) {
+      return super.schedule(runnable, 0, unit);
+    }
+
+    if (isShutdown()) {
+      throw new RejectedExecutionException("the executor has been shut down");
+    }
+
+    // The command is owned by the first one removing it from the pending ones, so it must be
+    // added before the timer is started
+    final WheelCommand wheelCommand = new WheelCommand(runnable);
+    final ConcurrentHashMap<WheelCommand, Boolean> pendingCommands = mPendingCommands;
+    pendingCommands.put(wheelCommand, Boolean.TRUE);
+    final ScheduledFuture<?> future = mTimingWheel.schedule(wheelCommand, delay, unit);
+    wheelCommand.mFuture = future;
+    if (isShutdown() && (pendingCommands.remove(wheelCommand) != null)) {
+      future.cancel(false);
+      throw new RejectedExecutionException("the executor has been shut down");
+    }
+
+    return wheelCommand;
   }
 
   @NotNull
@@ -92,6 +145,40 @@ class ScheduledThreadExecutor extends ScheduledThreadPoolExecutor {
     return ConstantConditions.unsupported();
   }
 
+  @Override
+  public void shutdown() {
+    super.shutdown();
+    cancelPendingCommands();
+  }
+
+  @NotNull
+  @Override
+  public List<Runnable> shutdownNow() {
+    final List<Runnable> runnables = super.shutdownNow();
+    runnables.addAll(cancelPendingCommands());
+    return runnables;
+  }
+
+  @NotNull
+  private List<Runnable> cancelPendingCommands() {
+    final ConcurrentHashMap<WheelCommand, Boolean> pendingCommands = mPendingCommands;
+    final ArrayList<Runnable> runnables = new ArrayList<Runnable>();
+    for (final WheelCommand command : pendingCommands.keySet()) {
+      if (pendingCommands.remove(command) != null) {
+        command.mIsCancelled = true;
+        // The future might not be set yet, in which case the timer will be just ignored
+        final ScheduledFuture<?> future = command.mFuture;
+        if (future != null) {
+          future.cancel(false);
+        }
+
+        runnables.add(command.mRunnable);
+      }
+    }
+
+    return runnables;
+  }
+
   /**
    * Runnable executing another runnable.
    */
@@ -117,4 +204,76 @@ class ScheduledThreadExecutor extends ScheduledThreadPoolExecutor {
       mService.execute(mCommand);
     }
   }
+
+  /**
+   * Runnable handing a command to the executor service when its timer expires.
+   * <br>
+   * The instance is also employed as the future of the scheduled timer.
+   */
+  private class WheelCommand implements Runnable, ScheduledFuture<Object> {
+
+    private final Runnable mRunnable;
+
+    private volatile ScheduledFuture<?> mFuture;
+
+    private volatile boolean mIsCancelled;
+
+    /**
+     * Constructor.
+     *
+     * @param runnable the runnable to run.
+     */
+    private WheelCommand(@NotNull final Runnable runnable) {
+      mRunnable = runnable;
+    }
+
+    public void run() {
+      if (mPendingCommands.remove(this) != null) {
+        mRunnable.run();
+      }
+    }
+
+    public long getDelay(@NotNull final TimeUnit timeUnit) {
+      return mFuture.getDelay(timeUnit);
+    }
+
+    public int compareTo(@NotNull final Delayed delayed) {
+      return mFuture.compareTo(delayed);
+    }
+
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+      if (mPendingCommands.remove(this) != null) {
+        mIsCancelled = true;
+        mFuture.cancel(mayInterruptIfRunning);
+        return true;
+      }
+
+      return false;
+    }
+
+    public boolean isCancelled() {
+      return mIsCancelled;
+    }
+
+    public boolean isDone() {
+      return mIsCancelled || mFuture.isDone();
+    }
+
+    public Object get() throws InterruptedException, ExecutionException {
+      if (mIsCancelled) {
+        throw new CancellationException();
+      }
+
+      return mFuture.get();
+    }
+
+    public Object get(final long timeout, @NotNull final TimeUnit timeUnit) throws
+        InterruptedException, ExecutionException, TimeoutException {
+      if (mIsCancelled) {
+        throw new CancellationException();
+      }
+
+      return mFuture.get(timeout, timeUnit);
+    }
+  }
 }
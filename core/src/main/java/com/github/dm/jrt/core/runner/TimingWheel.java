@@ -0,0 +1,563 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.dm.jrt.core.runner;
+
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.UnitDuration;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class implementing a hierarchical timing wheel, employed to schedule delayed commands.
+ * <p>
+ * Each level of the wheel is made of a fixed number of slots, holding linked lists of timers,
+ * with each slot spanning the whole range of the previous level. Timers are inserted and
+ * cancelled in constant time, while a single background thread advances the wheel, tick by tick,
+ * cascading the timers of the outer levels and expiring all the ones in the current slot at once.
+ * <br>
+ * No tick is processed while no timer is pending.
+ * <p>
+ * Note that a command may be run up to one tick later than its delay, and that it will be run in
+ * the wheel background thread, so it should just hand the actual work to another thread.
+ * <br>
+ * The background thread of a wheel keeps running until the wheel is stopped.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+@SuppressWarnings("WeakerAccess")
+public class TimingWheel {
+
+  private static final int CANCELLED = 2;
+
+  private static final int DONE = 3;
+
+  private static final int EXPIRED = 1;
+
+  private static final int LEVEL_COUNT = 4;
+
+  private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 2;
+
+  private static final int MAX_SIZE = 1 << 15;
+
+  private static final int PENDING = 0;
+
+  private static final Object sMutex = new Object();
+
+  private static TimingWheel sSharedInstance;
+
+  private final ConcurrentLinkedQueue<TimerEntry> mAdded = new ConcurrentLinkedQueue<TimerEntry>();
+
+  private final int mBits;
+
+  private final ConcurrentLinkedQueue<TimerEntry> mCancelled =
+      new ConcurrentLinkedQueue<TimerEntry>();
+
+  private final AtomicLong mExpiredCount = new AtomicLong();
+
+  private final TimerEntry[][] mHeads;
+
+  private final int mMask;
+
+  private final AtomicInteger mPendingCount = new AtomicInteger();
+
+  private final long mStartTime;
+
+  private final Thread mThread;
+
+  private final long mTickNanos;
+
+  private final AtomicLong mTotalLag = new AtomicLong();
+
+  private long mCurrentTick;
+
+  private int mEntryCount;
+
+  private volatile boolean mIsStopped;
+
+  private volatile boolean mIsWaiting;
+
+  private volatile long mMaxLag;
+
+  /**
+   * Constructor.
+   * <br>
+   * Note that the wheel size is rounded up to the next power of two, and it cannot be less than 2
+   * or greater than 32768.
+   *
+   * @param tick      the tick duration.
+   * @param timeUnit  the tick time unit.
+   * @param wheelSize the number of slots of each level of the wheel.
+   * @throws java.lang.IllegalArgumentException if the tick duration or the wheel size are 0 or
+   *                                            negative.
+   */
+  public TimingWheel(final long tick, @NotNull final TimeUnit timeUnit, final int wheelSize) {
+    mTickNanos = ConstantConditions.positive("tick duration", timeUnit.toNanos(tick));
+    ConstantConditions.positive("wheel size", wheelSize);
+    final int size =
+        (wheelSize > 2) ? Math.min(Integer.highestOneBit(wheelSize - 1) << 1, MAX_SIZE) : 2;
+    mBits = Integer.numberOfTrailingZeros(size);
+    mMask = size - 1;
+    mHeads = new TimerEntry[LEVEL_COUNT][size];
+    mStartTime = System.nanoTime();
+    final Thread thread = (mThread = new Thread(new Runnable() {
+
+      public void run() {
+        processTicks();
+      }
+    }, "jrt-timing-wheel"));
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Returns the shared timing wheel instance.
+   * <br>
+   * The shared wheel has a 1 millisecond tick and 512 slots for each level.
+   *
+   * @return the timing wheel instance.
+   */
+  @NotNull
+  public static TimingWheel sharedInstance() {
+    synchronized (sMutex) {
+      if (sSharedInstance == null) {
+        sSharedInstance = new TimingWheel(1, TimeUnit.MILLISECONDS, 512);
+      }
+
+      return sSharedInstance;
+    }
+  }
+
+  /**
+   * Returns the number of expired timers.
+   *
+   * @return the expired timer count.
+   */
+  public long getExpiredCount() {
+    return mExpiredCount.get();
+  }
+
+  /**
+   * Returns the maximum lag between the expected and the actual expiration time of a timer.
+   *
+   * @return the maximum lag.
+   */
+  @NotNull
+  public UnitDuration getMaxLag() {
+    return UnitDuration.nanos(mMaxLag);
+  }
+
+  /**
+   * Returns the number of timers still waiting to expire.
+   *
+   * @return the pending timer count.
+   */
+  public int getPendingCount() {
+    return mPendingCount.get();
+  }
+
+  /**
+   * Returns the sum of the lags between the expected and the actual expiration time of the
+   * expired timers.
+   *
+   * @return the total lag.
+   */
+  @NotNull
+  public UnitDuration getTotalLag() {
+    return UnitDuration.nanos(mTotalLag.get());
+  }
+
+  /**
+   * Stops this wheel.
+   * <br>
+   * All the pending timers are cancelled and the background thread is terminated. Any further
+   * scheduling will be rejected.
+   *
+   * @throws java.lang.UnsupportedOperationException if this is the shared instance.
+   */
+  public void stop() {
+    synchronized (sMutex) {
+      if (this == sSharedInstance) {
+        throw new UnsupportedOperationException("the shared timing wheel cannot be stopped");
+      }
+    }
+
+    mIsStopped = true;
+    LockSupport.unpark(mThread);
+  }
+
+  /**
+   * Schedules the specified command after the specified delay.
+   *
+   * @param command  the command.
+   * @param delay    the delay.
+   * @param timeUnit the delay time unit.
+   * @return the future, whose cancellation prevents the command from running.
+   * @throws java.util.concurrent.RejectedExecutionException if the wheel has been stopped.
+   */
+  @NotNull
+  ScheduledFuture<?> schedule(@NotNull final Runnable command, final long delay,
+      @NotNull final TimeUnit timeUnit) {
+    if (mIsStopped) {
+      throw new RejectedExecutionException("the timing wheel has been stopped");
+    }
+
+    final long delayNanos = Math.min(timeUnit.toNanos(Math.max(delay, 0)), MAX_DELAY_NANOS);
+    final long deadline = System.nanoTime() + delayNanos;
+    final long tickNanos = mTickNanos;
+    final TimerEntry entry = new TimerEntry(ConstantConditions.notNull("command", command),
+        deadline, (deadline - mStartTime + tickNanos - 1) / tickNanos);
+    mPendingCount.incrementAndGet();
+    mAdded.add(entry);
+    if (mIsStopped) {
+      // The background thread might have already terminated
+      entry.cancel(false);
+      throw new RejectedExecutionException("the timing wheel has been stopped");
+    }
+
+    if (mIsWaiting) {
+      LockSupport.unpark(mThread);
+    }
+
+    return entry;
+  }
+
+  private void cancelAll() {
+    final TimerEntry[][] heads = mHeads;
+    for (final TimerEntry[] levelHeads : heads) {
+      for (int i = 0; i < levelHeads.length; ++i) {
+        TimerEntry entry = levelHeads[i];
+        levelHeads[i] = null;
+        while (entry != null) {
+          final TimerEntry next = unlinked(entry);
+          entry.cancel(false);
+          entry = next;
+        }
+      }
+    }
+
+    TimerEntry entry;
+    final ConcurrentLinkedQueue<TimerEntry> added = mAdded;
+    while ((entry = added.poll()) != null) {
+      entry.cancel(false);
+    }
+
+    mCancelled.clear();
+  }
+
+  private void expire(@NotNull final TimerEntry entry) {
+    if (!entry.mState.compareAndSet(PENDING, EXPIRED)) {
+      return;
+    }
+
+    mPendingCount.decrementAndGet();
+    final long lag = Math.max(System.nanoTime() - entry.mDeadline, 0);
+    mExpiredCount.incrementAndGet();
+    mTotalLag.addAndGet(lag);
+    if (lag > mMaxLag) {
+      mMaxLag = lag;
+    }
+
+    try {
+      entry.mCommand.run();
+
+    } catch (final Throwable t) {
+      // Keep on processing the next timers
+      entry.mError = t;
+    }
+
+    entry.setState(DONE);
+  }
+
+  private void insert(@NotNull final TimerEntry entry) {
+    final long currentTick = mCurrentTick;
+    final long delta = entry.mDeadlineTick - currentTick;
+    if (delta <= 0) {
+      expire(entry);
+      return;
+    }
+
+    final int bits = mBits;
+    int level = 0;
+    while ((level < (LEVEL_COUNT - 1)) && (delta >= (1L << (bits * (level + 1))))) {
+      ++level;
+    }
+
+    // Timers beyond the wheel range are re-inserted when their slot is cascaded
+    final long range = 1L << (bits * LEVEL_COUNT);
+    final long slotTick = (delta < range) ? entry.mDeadlineTick : currentTick + range - 1;
+    final int index = (int) ((slotTick >>> (bits * level)) & mMask);
+    final TimerEntry[] heads = mHeads[level];
+    final TimerEntry head = heads[index];
+    if (head != null) {
+      head.mPrev = entry;
+    }
+
+    entry.mNext = head;
+    entry.mLevel = level;
+    entry.mIndex = index;
+    heads[index] = entry;
+    ++mEntryCount;
+  }
+
+  private void processTick(final long tick) {
+    final int bits = mBits;
+    final TimerEntry[][] heads = mHeads;
+    for (int level = 1; level < LEVEL_COUNT; ++level) {
+      final int shift = bits * level;
+      if ((tick & ((1L << shift) - 1)) != 0) {
+        break;
+      }
+
+      final int index = (int) ((tick >>> shift) & mMask);
+      TimerEntry entry = heads[level][index];
+      heads[level][index] = null;
+      while (entry != null) {
+        final TimerEntry next = unlinked(entry);
+        insert(entry);
+        entry = next;
+      }
+    }
+
+    final int index = (int) (tick & mMask);
+    TimerEntry entry = heads[0][index];
+    heads[0][index] = null;
+    while (entry != null) {
+      final TimerEntry next = unlinked(entry);
+      expire(entry);
+      entry = next;
+    }
+  }
+
+  private void processTicks() {
+    final long tickNanos = mTickNanos;
+    while (true) {
+      if (mIsStopped) {
+        cancelAll();
+        return;
+      }
+
+      if ((mEntryCount == 0) && mAdded.isEmpty()) {
+        mIsWaiting = true;
+        if (mAdded.isEmpty() && !mIsStopped) {
+          LockSupport.park(this);
+        }
+
+        mIsWaiting = false;
+        continue;
+      }
+
+      final long now = System.nanoTime();
+      final long nowTick = (now - mStartTime) / tickNanos;
+      if (mEntryCount == 0) {
+        // No timer is in the wheel, so the elapsed ticks can be safely skipped
+        mCurrentTick = Math.max(mCurrentTick, nowTick);
+      }
+
+      TimerEntry entry;
+      final ConcurrentLinkedQueue<TimerEntry> added = mAdded;
+      while ((entry = added.poll()) != null) {
+        if (entry.mState.get() == PENDING) {
+          insert(entry);
+        }
+      }
+
+      final ConcurrentLinkedQueue<TimerEntry> cancelled = mCancelled;
+      while ((entry = cancelled.poll()) != null) {
+        if (entry.mLevel >= 0) {
+          remove(entry);
+        }
+      }
+
+      if (mCurrentTick < nowTick) {
+        processTick(++mCurrentTick);
+
+      } else if (mEntryCount > 0) {
+        LockSupport.parkNanos(this, mStartTime + ((mCurrentTick + 1) * tickNanos) - now);
+      }
+    }
+  }
+
+  private void remove(@NotNull final TimerEntry entry) {
+    final TimerEntry prev = entry.mPrev;
+    final TimerEntry next = entry.mNext;
+    if (prev != null) {
+      prev.mNext = next;
+
+    } else {
+      mHeads[entry.mLevel][entry.mIndex] = next;
+    }
+
+    if (next != null) {
+      next.mPrev = prev;
+    }
+
+    unlinked(entry);
+  }
+
+  @NotNull
+  private TimerEntry unlinked(@NotNull final TimerEntry entry) {
+    final TimerEntry next = entry.mNext;
+    entry.mPrev = null;
+    entry.mNext = null;
+    entry.mLevel = -1;
+    --mEntryCount;
+    return next;
+  }
+
+  /**
+   * Timer entry implementation.
+   */
+  private class TimerEntry implements ScheduledFuture<Object> {
+
+    private final Runnable mCommand;
+
+    private final long mDeadline;
+
+    private final long mDeadlineTick;
+
+    private final AtomicInteger mState = new AtomicInteger(PENDING);
+
+    private volatile Throwable mError;
+
+    private volatile boolean mHasWaiters;
+
+    private int mIndex;
+
+    private int mLevel = -1;
+
+    private TimerEntry mNext;
+
+    private TimerEntry mPrev;
+
+    /**
+     * Constructor.
+     *
+     * @param command      the command to run.
+     * @param deadline     the expiration time in nanoseconds.
+     * @param deadlineTick the expiration tick.
+     */
+    private TimerEntry(@NotNull final Runnable command, final long deadline,
+        final long deadlineTick) {
+      mCommand = command;
+      mDeadline = deadline;
+      mDeadlineTick = deadlineTick;
+    }
+
+    public long getDelay(@NotNull final TimeUnit timeUnit) {
+      return timeUnit.convert(mDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    public int compareTo(@NotNull final Delayed delayed) {
+      final long delay = getDelay(TimeUnit.NANOSECONDS);
+      final long other = delayed.getDelay(TimeUnit.NANOSECONDS);
+      return (delay < other) ? -1 : ((delay == other) ? 0 : 1);
+    }
+
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+      if (mState.compareAndSet(PENDING, CANCELLED)) {
+        mPendingCount.decrementAndGet();
+        if (!mIsStopped) {
+          mCancelled.add(this);
+        }
+
+        notifyWaiters();
+        return true;
+      }
+
+      return false;
+    }
+
+    public boolean isCancelled() {
+      return (mState.get() == CANCELLED);
+    }
+
+    public boolean isDone() {
+      final int state = mState.get();
+      return (state == DONE) || (state == CANCELLED);
+    }
+
+    public Object get() throws InterruptedException, ExecutionException {
+      synchronized (this) {
+        mHasWaiters = true;
+        while (!isDone()) {
+          wait();
+        }
+      }
+
+      return getResult();
+    }
+
+    public Object get(final long timeout, @NotNull final TimeUnit timeUnit) throws
+        InterruptedException, ExecutionException, TimeoutException {
+      final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+      synchronized (this) {
+        mHasWaiters = true;
+        while (!isDone()) {
+          final long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            throw new TimeoutException("timeout while waiting for the timer to complete");
+          }
+
+          TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+      }
+
+      return getResult();
+    }
+
+    @Nullable
+    private Object getResult() throws ExecutionException {
+      if (mState.get() == CANCELLED) {
+        throw new CancellationException();
+      }
+
+      final Throwable error = mError;
+      if (error != null) {
+        throw new ExecutionException(error);
+      }
+
+      return null;
+    }
+
+    private void notifyWaiters() {
+      if (mHasWaiters) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    private void setState(final int state) {
+      mState.set(state);
+      notifyWaiters();
+    }
+  }
+}
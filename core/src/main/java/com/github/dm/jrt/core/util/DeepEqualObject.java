@@ -27,6 +27,9 @@ import static com.github.dm.jrt.core.util.Reflection.cloneArgs;
  * and {@code toString()} based on the list of objects passed as the constructor arguments.
  * <br>
  * Note that the inheriting class and the argument instances are expected to be immutable.
+ * <br>
+ * The hash code is computed only the first time it is requested, and then reused for all the
+ * subsequent calls and to quickly tell apart different objects.
  * <p>
  * Created by davide-maestroni on 03/31/2016.
  */
@@ -34,6 +37,8 @@ public abstract class DeepEqualObject {
 
   private final Object[] mArgs;
 
+  private int mHashCode;
+
   /**
    * Constructor.
    *
@@ -45,7 +50,14 @@ public abstract class DeepEqualObject {
 
   @Override
   public int hashCode() {
-    return 31 * getClass().hashCode() + Arrays.deepHashCode(mArgs);
+    // Racy single-check, since the computed value is always the same
+    int hashCode = mHashCode;
+    if (hashCode == 0) {
+      hashCode = 31 * getClass().hashCode() + Arrays.deepHashCode(mArgs);
+      mHashCode = hashCode;
+    }
+
+    return hashCode;
   }
 
   @Override
@@ -59,6 +71,12 @@ public abstract class DeepEqualObject {
     }
 
     final DeepEqualObject that = (DeepEqualObject) o;
+    final int hashCode = mHashCode;
+    final int thatHashCode = that.mHashCode;
+    if ((hashCode != 0) && (thatHashCode != 0) && (hashCode != thatHashCode)) {
+      return false;
+    }
+
     return Arrays.deepEquals(mArgs, that.mArgs);
   }
 
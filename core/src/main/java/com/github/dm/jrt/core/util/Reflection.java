@@ -27,6 +27,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Reflection utility class.
@@ -46,11 +47,19 @@ public class Reflection {
    */
   public static final Class<?>[] NO_PARAMS = new Class[0];
 
+  private static final int CACHE_CAPACITY = 256;
+
   private static final HashMap<Class<?>, Class<?>> sBoxingClasses =
       new HashMap<Class<?>, Class<?>>(9);
 
+  private static final ConcurrentHashMap<ArgsSignature, Constructor<?>> sConstructors =
+      new ConcurrentHashMap<ArgsSignature, Constructor<?>>(CACHE_CAPACITY);
+
   private static final HashMap<Class<?>, Object> sDefaultValues = new HashMap<Class<?>, Object>();
 
+  private static final ConcurrentHashMap<ArgsSignature, Method> sMethods =
+      new ConcurrentHashMap<ArgsSignature, Method>(CACHE_CAPACITY);
+
   /**
    * Avoid explicit instantiation.
    */
@@ -122,6 +131,9 @@ public class Reflection {
    * <p>
    * Note that clashing of signature is automatically avoided, since constructors are not
    * identified by their name. Hence the best match will always be unique in the class.
+   * <br>
+   * The resolved constructors are cached based on the classes of the passed arguments, so that
+   * subsequent calls with the same argument types will not need to inspect the class again.
    *
    * @param type   the target class.
    * @param args   the constructor arguments.
@@ -134,7 +146,14 @@ public class Reflection {
   @SuppressWarnings("unchecked")
   public static <TYPE> Constructor<TYPE> findBestMatchingConstructor(
       @NotNull final Class<TYPE> type, @NotNull final Object... args) {
-    Constructor<?> constructor = findBestMatchingConstructor(type.getConstructors(), args);
+    final ArgsSignature signature = new ArgsSignature(type, args);
+    final ConcurrentHashMap<ArgsSignature, Constructor<?>> constructors = sConstructors;
+    Constructor<?> constructor = constructors.get(signature);
+    if (constructor != null) {
+      return (Constructor<TYPE>) constructor;
+    }
+
+    constructor = findBestMatchingConstructor(type.getConstructors(), args);
     if (constructor == null) {
       constructor = findBestMatchingConstructor(type.getDeclaredConstructors(), args);
       if (constructor == null) {
@@ -143,13 +162,23 @@ public class Reflection {
       }
     }
 
-    return (Constructor<TYPE>) makeAccessible(constructor);
+    makeAccessible(constructor);
+    if (constructors.size() >= CACHE_CAPACITY) {
+      constructors.clear();
+    }
+
+    constructors.put(signature, constructor);
+
+    return (Constructor<TYPE>) constructor;
   }
 
   /**
    * Finds the method of the specified class best matching the passed arguments.
    * <p>
    * Note that the method is searched only among the ones explicitly declared by the target class.
+   * <br>
+   * The resolved methods are cached based on the classes of the passed arguments, so that
+   * subsequent calls with the same argument types will not need to inspect the class again.
    *
    * @param type the target class.
    * @param args the constructor arguments.
@@ -160,6 +189,13 @@ public class Reflection {
   @NotNull
   public static Method findBestMatchingMethod(@NotNull final Class<?> type,
       @NotNull final Object... args) {
+    final ArgsSignature signature = new ArgsSignature(type, args);
+    final ConcurrentHashMap<ArgsSignature, Method> methods = sMethods;
+    Method method = methods.get(signature);
+    if (method != null) {
+      return method;
+    }
+
     final Method[] declaredMethods = type.getDeclaredMethods();
     final ArrayList<Method> publicMethods = new ArrayList<Method>();
     final ArrayList<Method> protectedMethods = new ArrayList<Method>();
@@ -181,7 +217,7 @@ public class Reflection {
       }
     }
 
-    Method method = findBestMatchingMethod(publicMethods, args);
+    method = findBestMatchingMethod(publicMethods, args);
     if (method == null) {
       method = findBestMatchingMethod(protectedMethods, args);
       if (method == null) {
@@ -196,7 +232,14 @@ public class Reflection {
       }
     }
 
-    return makeAccessible(method);
+    makeAccessible(method);
+    if (methods.size() >= CACHE_CAPACITY) {
+      methods.clear();
+    }
+
+    methods.put(signature, method);
+
+    return method;
   }
 
   /**
@@ -396,6 +439,59 @@ public class Reflection {
     return bestMatch;
   }
 
+  /**
+   * Class identifying a target class and the types of a list of arguments.
+   * <br>
+   * Null arguments are identified by a null type.
+   */
+  private static class ArgsSignature {
+
+    private final int mHashCode;
+
+    private final Class<?> mType;
+
+    private final Class<?>[] mTypes;
+
+    /**
+     * Constructor.
+     *
+     * @param type the target class.
+     * @param args the arguments.
+     */
+    private ArgsSignature(@NotNull final Class<?> type, @NotNull final Object[] args) {
+      final int length = args.length;
+      final Class<?>[] types = new Class<?>[length];
+      for (int i = 0; i < length; ++i) {
+        final Object arg = args[i];
+        types[i] = (arg != null) ? arg.getClass() : null;
+      }
+
+      mType = type;
+      mTypes = types;
+      mHashCode = 31 * type.hashCode() + Arrays.hashCode(types);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (!(o instanceof ArgsSignature)) {
+        return false;
+      }
+
+      final ArgsSignature that = (ArgsSignature) o;
+      return (mHashCode == that.mHashCode) && (mType == that.mType) && Arrays.equals(mTypes,
+          that.mTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return mHashCode;
+    }
+  }
+
   /**
    * Privileged action used to grant accessibility to a constructor.
    */
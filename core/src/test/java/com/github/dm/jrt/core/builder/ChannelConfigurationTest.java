@@ -155,6 +155,40 @@ public class ChannelConfigurationTest {
     }
   }
 
+  @Test
+  public void testHashCodeCache() {
+
+    final ChannelConfiguration configuration = builder().withOrder(OrderType.SORTED)
+                                                        .withRunner(Runners.syncRunner())
+                                                        .withLog(Logs.nullLog())
+                                                        .withMaxSize(100)
+                                                        .configured();
+    final ChannelConfiguration sameConfiguration = builder().withOrder(OrderType.SORTED)
+                                                            .withRunner(Runners.syncRunner())
+                                                            .withLog(Logs.nullLog())
+                                                            .withMaxSize(100)
+                                                            .configured();
+    final ChannelConfiguration otherConfiguration = builder().withOrder(OrderType.SORTED)
+                                                             .withRunner(Runners.syncRunner())
+                                                             .withLog(Logs.nullLog())
+                                                             .withMaxSize(200)
+                                                             .configured();
+    assertThat(configuration).isEqualTo(sameConfiguration);
+    assertThat(configuration).isNotEqualTo(otherConfiguration);
+    final int hashCode = configuration.hashCode();
+    assertThat(configuration).isEqualTo(sameConfiguration);
+    assertThat(sameConfiguration).isEqualTo(configuration);
+    assertThat(configuration).isNotEqualTo(otherConfiguration);
+    assertThat(otherConfiguration).isNotEqualTo(configuration);
+    assertThat(sameConfiguration.hashCode()).isEqualTo(hashCode);
+    assertThat(otherConfiguration.hashCode()).isNotEqualTo(hashCode);
+    assertThat(configuration.hashCode()).isEqualTo(hashCode);
+    assertThat(configuration).isEqualTo(sameConfiguration);
+    assertThat(sameConfiguration).isEqualTo(configuration);
+    assertThat(configuration).isNotEqualTo(otherConfiguration);
+    assertThat(otherConfiguration).isNotEqualTo(configuration);
+  }
+
   @Test
   public void testLogEquals() {
 
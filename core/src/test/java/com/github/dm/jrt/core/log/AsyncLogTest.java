@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.core.log;
+
+import com.github.dm.jrt.core.log.Log.Level;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Async log unit tests.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+public class AsyncLogTest {
+
+  private static final String FORMAT1 = "0: %s - 1: %s";
+
+  @Test
+  public void testClose() {
+
+    final TestLog testLog = new TestLog(3);
+    final AsyncLog log = new AsyncLog(testLog);
+    final Logger logger = Logger.newLogger(log, Level.DEBUG, this);
+    logger.dbg("test1");
+    logger.wrn(FORMAT1, "test2", "test3");
+    logger.err("test4");
+    log.close();
+    assertThat(testLog.getMessages()).containsExactly("DEBUG:test1", "WARNING:0: test2 - 1: test3",
+        "ERROR:test4");
+    logger.dbg("test5");
+    assertThat(log.getDroppedCount()).isEqualTo(1);
+    assertThat(testLog.getMessages()).hasSize(3);
+    log.close();
+  }
+
+  @Test
+  public void testDropped() throws InterruptedException {
+
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final CountDownLatch endLatch = new CountDownLatch(1);
+    final ArrayList<String> messages = new ArrayList<String>();
+    final AsyncLog log = new AsyncLog(new TemplateLog() {
+
+      @Override
+      protected void log(@NotNull final String message) {
+
+        messages.add(message);
+        startLatch.countDown();
+        try {
+          endLatch.await();
+
+        } catch (final InterruptedException ignored) {
+
+        }
+      }
+    }, 2);
+    final Logger logger = Logger.newLogger(log, Level.DEBUG, this);
+    logger.dbg("test1");
+    assertThat(startLatch.await(3, TimeUnit.SECONDS)).isTrue();
+    logger.dbg("test2");
+    logger.dbg("test3");
+    assertThat(log.getDroppedCount()).isZero();
+    logger.dbg("test4");
+    assertThat(log.getDroppedCount()).isEqualTo(1);
+    endLatch.countDown();
+    log.close();
+    assertThat(messages).hasSize(3);
+    assertThat(messages.get(0)).contains("test1");
+    assertThat(messages.get(1)).contains("test2");
+    assertThat(messages.get(2)).contains("test3");
+  }
+
+  @Test
+  public void testLog() throws InterruptedException {
+
+    final TestLog testLog = new TestLog(5);
+    final AsyncLog log = new AsyncLog(testLog, 2);
+    assertThat(log.getLog()).isSameAs(testLog);
+    try {
+      final Logger logger = Logger.newLogger(log, Level.DEBUG, this);
+      final NullPointerException ex = new NullPointerException();
+      logger.dbg("test1");
+      testLog.await(1);
+      logger.wrn(FORMAT1, "test2", "test3");
+      testLog.await(2);
+      logger.err(ex, FORMAT1, "test4", "test5");
+      testLog.await(3);
+      logger.dbg(ex);
+      testLog.await(4);
+      logger.wrn(ex, "test6");
+      testLog.await(5);
+      assertThat(testLog.getMessages()).containsExactly("DEBUG:test1",
+          "WARNING:0: test2 - 1: test3", "ERROR:0: test4 - 1: test5", "DEBUG:", "WARNING:test6");
+      assertThat(testLog.getThrowables()).containsExactly(null, null, ex, ex, ex);
+      assertThat(log.getDroppedCount()).isZero();
+
+    } finally {
+      log.close();
+    }
+  }
+
+  private static class TestLog implements Log {
+
+    private final CountDownLatch[] mLatches;
+
+    private final ArrayList<String> mMessages = new ArrayList<String>();
+
+    private final ArrayList<Throwable> mThrowables = new ArrayList<Throwable>();
+
+    private TestLog(final int count) {
+
+      mLatches = new CountDownLatch[count];
+      for (int i = 0; i < count; ++i) {
+        mLatches[i] = new CountDownLatch(1);
+      }
+    }
+
+    public void dbg(@NotNull final List<Object> contexts, @Nullable final String message,
+        @Nullable final Throwable throwable) {
+
+      add(Level.DEBUG, message, throwable);
+    }
+
+    public void err(@NotNull final List<Object> contexts, @Nullable final String message,
+        @Nullable final Throwable throwable) {
+
+      add(Level.ERROR, message, throwable);
+    }
+
+    public void wrn(@NotNull final List<Object> contexts, @Nullable final String message,
+        @Nullable final Throwable throwable) {
+
+      add(Level.WARNING, message, throwable);
+    }
+
+    private void add(final Level level, final String message, final Throwable throwable) {
+
+      final int count;
+      synchronized (mMessages) {
+        mMessages.add(level + ":" + message);
+        mThrowables.add(throwable);
+        count = mMessages.size();
+      }
+
+      mLatches[count - 1].countDown();
+    }
+
+    private void await(final int count) throws InterruptedException {
+
+      assertThat(mLatches[count - 1].await(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private List<String> getMessages() {
+
+      synchronized (mMessages) {
+        return new ArrayList<String>(mMessages);
+      }
+    }
+
+    private List<Throwable> getThrowables() {
+
+      synchronized (mMessages) {
+        return new ArrayList<Throwable>(mThrowables);
+      }
+    }
+  }
+}
@@ -126,6 +126,34 @@ public class LoggerTest {
     Logger.newLogger(new NullLog(), Level.DEBUG, this).err((Throwable) null);
   }
 
+  @Test
+  public void testEventLog() {
+
+    final TestEventLog log = new TestEventLog();
+    final Logger logger = Logger.newLogger(log, Level.WARNING, this);
+    final NullPointerException ex = new NullPointerException();
+    logger.dbg(FORMAT0, ARGS[0]);
+    assertThat(log.getFormat()).isNull();
+    logger.wrn(ex, FORMAT1, ARGS[0], ARGS[1]);
+    assertThat(log.getLevel()).isEqualTo(Level.WARNING);
+    assertThat(log.getFormat()).isEqualTo(FORMAT1);
+    assertThat(log.getArgs()).containsExactly(ARGS[0], ARGS[1]);
+    assertThat(log.getThrowable()).isSameAs(ex);
+    logger.err(FORMAT4, ARGS[0], ARGS[1], ARGS[2], ARGS[3], ARGS[4]);
+    assertThat(log.getLevel()).isEqualTo(Level.ERROR);
+    assertThat(log.getFormat()).isEqualTo(FORMAT4);
+    assertThat(log.getArgs()).containsExactly(ARGS[0], ARGS[1], ARGS[2], ARGS[3], ARGS[4]);
+    assertThat(log.getThrowable()).isNull();
+    final TestLog testLog = new TestLog();
+    final Logger setLogger = Logger.newLogger(LogSet.of(log, testLog), Level.DEBUG, this);
+    setLogger.dbg(FORMAT2, ARGS[0], ARGS[1], ARGS[2]);
+    assertThat(log.getLevel()).isEqualTo(Level.DEBUG);
+    assertThat(log.getFormat()).isEqualTo(FORMAT2);
+    assertThat(testLog.getLevel()).isEqualTo(Level.DEBUG);
+    assertThat(testLog.getMessage()).contains(
+        String.format(FORMAT2, ARGS[0], ARGS[1], ARGS[2]));
+  }
+
   @Test
   public void testLoggerDebug() {
 
@@ -853,6 +881,46 @@ public class LoggerTest {
     assertThat(log.getMessage()).contains("ctx2");
   }
 
+  private static class TestEventLog extends TemplateLog implements EventLog {
+
+    private Object[] mArgs;
+
+    private String mFormat;
+
+    private Level mLevel;
+
+    private Throwable mThrowable;
+
+    public Object[] getArgs() {
+
+      return mArgs;
+    }
+
+    public String getFormat() {
+
+      return mFormat;
+    }
+
+    public Level getLevel() {
+
+      return mLevel;
+    }
+
+    public Throwable getThrowable() {
+
+      return mThrowable;
+    }
+
+    public void log(@NotNull final Level level, @NotNull final List<Object> contexts,
+        @NotNull final String format, final Object[] args, final Throwable throwable) {
+
+      mLevel = level;
+      mFormat = format;
+      mArgs = args;
+      mThrowable = throwable;
+    }
+  }
+
   private static class TestLog extends TemplateLog {
 
     private Level mLevel;
@@ -235,6 +235,14 @@ public class RunnerTest {
     assertThat(instance).isSameAs(ScheduledRunner.getInstance(executorService));
     testRunner(instance);
     testRunner(Runners.scheduledRunner(Executors.newCachedThreadPool()));
+    final TimingWheel timingWheel = new TimingWheel(10, TimeUnit.MILLISECONDS, 4);
+    try {
+      testRunner(Runners.scheduledRunner(Executors.newCachedThreadPool(), timingWheel));
+
+    } finally {
+      timingWheel.stop();
+    }
+
     testRunner(Runners.scheduledRunner(executorService));
     testRunner(new RunnerDecorator(instance));
   }
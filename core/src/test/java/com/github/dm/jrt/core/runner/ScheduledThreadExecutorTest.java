@@ -19,8 +19,12 @@ package com.github.dm.jrt.core.runner;
 import org.junit.Test;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +37,31 @@ import static org.junit.Assert.fail;
  */
 public class ScheduledThreadExecutorTest {
 
+  @Test
+  public void testDelayedCommands() throws InterruptedException {
+
+    final TimingWheel timingWheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8);
+    try {
+      final ScheduledThreadExecutor executor =
+          new ScheduledThreadExecutor(Executors.newCachedThreadPool(), timingWheel);
+      final CountDownLatch latch = new CountDownLatch(2);
+      final Runnable command = new Runnable() {
+
+        public void run() {
+          latch.countDown();
+        }
+      };
+      executor.schedule(command, 10, TimeUnit.MILLISECONDS);
+      executor.schedule(command, 20, TimeUnit.MILLISECONDS);
+      assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+      assertThat(executor.getTaskCount()).isZero();
+      executor.shutdown();
+
+    } finally {
+      timingWheel.stop();
+    }
+  }
+
   @Test
   public void testEquals() {
 
@@ -46,6 +75,54 @@ public class ScheduledThreadExecutorTest {
     assertThat(executor.hashCode()).isEqualTo(new ScheduledThreadExecutor(pool).hashCode());
   }
 
+  @Test
+  public void testShutdown() throws InterruptedException, ExecutionException {
+
+    final TimingWheel timingWheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8);
+    try {
+      final ScheduledThreadExecutor executor =
+          new ScheduledThreadExecutor(Executors.newCachedThreadPool(), timingWheel);
+      final CountDownLatch latch = new CountDownLatch(1);
+      final ScheduledFuture<?> future1 = executor.schedule(new Runnable() {
+
+        public void run() {
+          latch.countDown();
+        }
+      }, 10, TimeUnit.MILLISECONDS);
+      assertThat(future1.get()).isNull();
+      assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+      final ScheduledFuture<?> future2 = executor.schedule(new Runnable() {
+
+        public void run() {
+        }
+      }, 10, TimeUnit.SECONDS);
+      final ScheduledFuture<?> future3 = executor.schedule(new Runnable() {
+
+        public void run() {
+        }
+      }, 10, TimeUnit.SECONDS);
+      assertThat(future3.cancel(false)).isTrue();
+      assertThat(timingWheel.getPendingCount()).isEqualTo(1);
+      assertThat(executor.shutdownNow()).hasSize(1);
+      assertThat(future2.isCancelled()).isTrue();
+      assertThat(timingWheel.getPendingCount()).isZero();
+      try {
+        executor.schedule(new Runnable() {
+
+          public void run() {
+          }
+        }, 10, TimeUnit.SECONDS);
+        fail();
+
+      } catch (final RejectedExecutionException ignored) {
+
+      }
+
+    } finally {
+      timingWheel.stop();
+    }
+  }
+
   @Test
   public void testUnsupportedMethods() {
 
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.dm.jrt.core.runner;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Timing wheel unit tests.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+public class TimingWheelTest {
+
+  @Test
+  public void testCancel() throws InterruptedException {
+
+    final TimingWheel timingWheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8);
+    try {
+      final CountDownLatch latch = new CountDownLatch(1);
+      final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+      final ScheduledFuture<?> future = timingWheel.schedule(new Runnable() {
+
+        public void run() {
+          results.add(1);
+        }
+      }, 100, TimeUnit.MILLISECONDS);
+      timingWheel.schedule(new Runnable() {
+
+        public void run() {
+          results.add(2);
+          latch.countDown();
+        }
+      }, 200, TimeUnit.MILLISECONDS);
+      assertThat(timingWheel.getPendingCount()).isEqualTo(2);
+      assertThat(future.cancel(false)).isTrue();
+      assertThat(future.isCancelled()).isTrue();
+      assertThat(future.isDone()).isTrue();
+      assertThat(future.cancel(false)).isFalse();
+      assertThat(timingWheel.getPendingCount()).isEqualTo(1);
+      assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+      assertThat(results).containsExactly(2);
+      assertThat(timingWheel.getPendingCount()).isZero();
+      assertThat(timingWheel.getExpiredCount()).isEqualTo(1);
+
+    } finally {
+      timingWheel.stop();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testConstructorError() {
+
+    try {
+      new TimingWheel(0, TimeUnit.MILLISECONDS, 8);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+
+    }
+
+    try {
+      new TimingWheel(1, TimeUnit.MILLISECONDS, 0);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+
+    }
+
+    try {
+      new TimingWheel(1, null, 8);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+
+    }
+  }
+
+  @Test
+  public void testGet() throws InterruptedException, ExecutionException, TimeoutException {
+
+    final TimingWheel timingWheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8);
+    try {
+      final ScheduledFuture<?> future1 = timingWheel.schedule(new Runnable() {
+
+        public void run() {
+        }
+      }, 50, TimeUnit.MILLISECONDS);
+      assertThat(future1.get()).isNull();
+      assertThat(future1.isDone()).isTrue();
+      assertThat(future1.isCancelled()).isFalse();
+      final ScheduledFuture<?> future2 = timingWheel.schedule(new Runnable() {
+
+        public void run() {
+          throw new IllegalStateException();
+        }
+      }, 10, TimeUnit.MILLISECONDS);
+      try {
+        future2.get(1, TimeUnit.SECONDS);
+        fail();
+
+      } catch (final ExecutionException e) {
+        assertThat(e.getCause()).isExactlyInstanceOf(IllegalStateException.class);
+      }
+
+      final ScheduledFuture<?> future3 = timingWheel.schedule(new Runnable() {
+
+        public void run() {
+        }
+      }, 10, TimeUnit.SECONDS);
+      try {
+        future3.get(10, TimeUnit.MILLISECONDS);
+        fail();
+
+      } catch (final TimeoutException ignored) {
+
+      }
+
+      assertThat(future3.cancel(false)).isTrue();
+      try {
+        future3.get();
+        fail();
+
+      } catch (final CancellationException ignored) {
+
+      }
+
+    } finally {
+      timingWheel.stop();
+    }
+  }
+
+  @Test
+  public void testSchedule() throws InterruptedException {
+
+    // A small wheel forces the timers to be cascaded through all the levels
+    final TimingWheel timingWheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 2);
+    try {
+      final int count = 20;
+      final CountDownLatch latch = new CountDownLatch(count);
+      final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+      final long startTime = System.nanoTime();
+      final long[] delays = new long[count];
+      for (int i = count - 1; i >= 0; --i) {
+        final int index = i;
+        timingWheel.schedule(new Runnable() {
+
+          public void run() {
+            delays[index] = System.nanoTime() - startTime;
+            results.add(index);
+            latch.countDown();
+          }
+        }, 10 * i, TimeUnit.MILLISECONDS);
+      }
+
+      assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+      for (int i = 0; i < count; ++i) {
+        assertThat(results.get(i)).isEqualTo(i);
+        assertThat(delays[i]).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10 * i));
+      }
+
+      assertThat(timingWheel.getExpiredCount()).isEqualTo(count);
+      assertThat(timingWheel.getPendingCount()).isZero();
+      assertThat(timingWheel.getMaxLag().toNanos()).isGreaterThanOrEqualTo(0);
+      assertThat(timingWheel.getTotalLag().toNanos()).isGreaterThanOrEqualTo(
+          timingWheel.getMaxLag().toNanos());
+
+    } finally {
+      timingWheel.stop();
+    }
+  }
+
+  @Test
+  public void testSharedInstance() {
+
+    assertThat(TimingWheel.sharedInstance()).isSameAs(TimingWheel.sharedInstance());
+    try {
+      TimingWheel.sharedInstance().stop();
+      fail();
+
+    } catch (final UnsupportedOperationException ignored) {
+
+    }
+  }
+
+  @Test
+  public void testStop() throws InterruptedException, ExecutionException {
+
+    final TimingWheel timingWheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8);
+    final ScheduledFuture<?> future = timingWheel.schedule(new Runnable() {
+
+      public void run() {
+      }
+    }, 10, TimeUnit.SECONDS);
+    timingWheel.stop();
+    try {
+      future.get();
+      fail();
+
+    } catch (final CancellationException ignored) {
+
+    }
+
+    assertThat(future.isCancelled()).isTrue();
+    assertThat(timingWheel.getPendingCount()).isZero();
+    try {
+      timingWheel.schedule(new Runnable() {
+
+        public void run() {
+        }
+      }, 10, TimeUnit.MILLISECONDS);
+      fail();
+
+    } catch (final RejectedExecutionException ignored) {
+
+    }
+
+    timingWheel.stop();
+  }
+}
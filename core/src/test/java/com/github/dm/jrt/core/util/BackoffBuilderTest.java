@@ -20,6 +20,65 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class BackoffBuilderTest {
 
+  @Test
+  public void testAdaptive() {
+    final BackoffBuilder.AdaptiveBackoff backoff1 =
+        BackoffBuilder.afterCount(4).adaptiveDelay(10, TimeUnit.MILLISECONDS);
+    assertThat(backoff1.getDelay(1)).isEqualTo(NO_DELAY);
+    assertThat(backoff1.getDelay(4)).isEqualTo(NO_DELAY);
+    assertThat(backoff1.getWindow()).isEqualTo(4);
+    assertThat(backoff1.getDelay(5)).isEqualTo(30);
+    assertThat(backoff1.getWindow()).isEqualTo(2);
+    assertThat(backoff1.getDelay(6)).isEqualTo(40);
+    assertThat(backoff1.getWindow()).isEqualTo(2);
+    assertThat(backoff1.getDelay(3)).isEqualTo(NO_DELAY);
+    assertThat(backoff1.getWindow()).isEqualTo(3);
+    assertThat(backoff1.getDelay(2)).isEqualTo(NO_DELAY);
+    assertThat(backoff1.getDelay(1)).isEqualTo(NO_DELAY);
+    assertThat(backoff1.getWindow()).isEqualTo(4);
+    assertThat(backoff1.getDelay(5)).isEqualTo(30);
+    assertThat(backoff1.getDelayCount()).isEqualTo(3);
+    assertThat(backoff1.getTotalDelay()).isEqualTo(millis(100));
+    final BackoffBuilder.AdaptiveBackoff backoff2 =
+        BackoffBuilder.afterCount(0).adaptiveDelay(seconds(1));
+    assertThat(backoff2.getDelay(1)).isEqualTo(1000);
+    assertThat(backoff2.getDelay(2)).isEqualTo(2000);
+    assertThat(backoff2.getDelay(1)).isEqualTo(1000);
+    assertThat(backoff2.getWindow()).isZero();
+  }
+
+  @Test
+  public void testAdaptiveEquals() {
+    final BackoffBuilder.AdaptiveBackoff backoff1 =
+        BackoffBuilder.afterCount(4).adaptiveDelay(10, TimeUnit.MILLISECONDS);
+    final BackoffBuilder.AdaptiveBackoff backoff2 =
+        BackoffBuilder.afterCount(4).adaptiveDelay(10, TimeUnit.MILLISECONDS);
+    assertThat(backoff1).isEqualTo(backoff1);
+    assertThat(backoff1).isNotEqualTo(backoff2);
+    assertThat(backoff1.hashCode()).isEqualTo(backoff1.hashCode());
+  }
+
+  @Test
+  public void testAdaptiveFork() {
+    final BackoffBuilder.AdaptiveBackoff backoff =
+        BackoffBuilder.afterCount(4).adaptiveDelay(10, TimeUnit.MILLISECONDS);
+    final Backoff fork1 = BackoffBuilder.channelBackoff(backoff);
+    final Backoff fork2 = BackoffBuilder.channelBackoff(backoff);
+    assertThat(fork1).isExactlyInstanceOf(BackoffBuilder.AdaptiveBackoff.class);
+    assertThat(fork1).isNotSameAs(backoff);
+    assertThat(fork1).isNotEqualTo(fork2);
+    assertThat(fork1.getDelay(5)).isEqualTo(30);
+    assertThat(((BackoffBuilder.AdaptiveBackoff) fork1).getWindow()).isEqualTo(2);
+    assertThat(((BackoffBuilder.AdaptiveBackoff) fork2).getWindow()).isEqualTo(4);
+    assertThat(backoff.getWindow()).isEqualTo(4);
+    assertThat(fork2.getDelay(4)).isEqualTo(NO_DELAY);
+    assertThat(fork2.getDelay(6)).isEqualTo(40);
+    assertThat(backoff.getDelayCount()).isEqualTo(2);
+    assertThat(backoff.getTotalDelay()).isEqualTo(millis(70));
+    final Backoff constant = BackoffBuilder.afterCount(1).constantDelay(seconds(1));
+    assertThat(BackoffBuilder.channelBackoff(constant)).isSameAs(constant);
+  }
+
   @Test
   public void testAdd() {
     final Backoff backoff = BackoffBuilder.afterCount(2)
@@ -19,6 +19,8 @@ package com.github.dm.jrt.core.util;
 import org.junit.Test;
 
 import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -82,6 +84,20 @@ public class ReflectionTest {
         new ArrayList<String>())).isNotNull();
   }
 
+  @Test
+  public void testFindConstructorCache() {
+    final Constructor<TestClass> constructor =
+        Reflection.findBestMatchingConstructor(TestClass.class, "test");
+    assertThat(Reflection.findBestMatchingConstructor(TestClass.class, "test1")).isSameAs(
+        constructor);
+    assertThat(Reflection.findBestMatchingConstructor(TestClass.class,
+        new ArrayList<String>())).isNotEqualTo(constructor);
+    assertThat(Reflection.findBestMatchingConstructor(TestClass.class,
+        new LinkedList<String>()).getParameterTypes()).containsExactly(LinkedList.class);
+    assertThat(Reflection.findBestMatchingConstructor(String.class,
+        "test").getDeclaringClass()).isSameAs(String.class);
+  }
+
   @Test
   public void testFindConstructorError() {
     try {
@@ -92,6 +108,18 @@ public class ReflectionTest {
     }
   }
 
+  @Test
+  public void testFindConstructorErrorCache() {
+    for (int i = 0; i < 2; ++i) {
+      try {
+        Reflection.findBestMatchingConstructor(TestClass.class, 4);
+        fail();
+
+      } catch (final IllegalArgumentException ignored) {
+      }
+    }
+  }
+
   @Test
   public void testFindConstructorNullParamError() {
     try {
@@ -121,6 +149,16 @@ public class ReflectionTest {
     assertThat(Reflection.findBestMatchingMethod(TestClass.class, new Exception())).isNotNull();
   }
 
+  @Test
+  public void testFindMethodCache() {
+    final Method method = Reflection.findBestMatchingMethod(TestClass.class, "test");
+    assertThat(Reflection.findBestMatchingMethod(TestClass.class, "test1")).isSameAs(method);
+    assertThat(Reflection.findBestMatchingMethod(TestSubClass.class,
+        "test").getDeclaringClass()).isSameAs(TestSubClass.class);
+    assertThat(Reflection.findBestMatchingMethod(TestClass.class,
+        new LinkedList<String>()).getParameterTypes()).containsExactly(LinkedList.class);
+  }
+
   @Test
   public void testFindMethodError() {
     try {
@@ -217,4 +255,12 @@ public class ReflectionTest {
     private void run(final List<String> ignored) {
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class TestSubClass extends TestClass {
+
+    @Override
+    public void run(final String ignored) {
+    }
+  }
 }
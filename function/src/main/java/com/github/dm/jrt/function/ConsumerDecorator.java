@@ -44,6 +44,8 @@ public class ConsumerDecorator<IN> extends DeepEqualObject implements Consumer<I
         public void accept(final Object in) {}
       });
 
+  private final Consumer<Object> mConsumer;
+
   private final List<Consumer<?>> mConsumers;
 
   /**
@@ -64,6 +66,35 @@ public class ConsumerDecorator<IN> extends DeepEqualObject implements Consumer<I
   private ConsumerDecorator(@NotNull final List<Consumer<?>> consumers) {
     super(asArgs(consumers));
     mConsumers = consumers;
+    mConsumer = composeConsumers(consumers);
+  }
+
+  /**
+   * Composes the specified list of consumers into a single one.
+   * <br>
+   * Short chains are composed into fixed-arity consumers, so that no loop is needed when the
+   * consumer is called, while longer ones fall back to iterating over an array.
+   *
+   * @param consumers the list of consumers.
+   * @return the composed consumer.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  private static Consumer<Object> composeConsumers(@NotNull final List<Consumer<?>> consumers) {
+    final Consumer<Object>[] consumerArray = consumers.toArray(new Consumer[consumers.size()]);
+    switch (consumerArray.length) {
+      case 1:
+        return consumerArray[0];
+      case 2:
+        return new ComposedConsumer2(consumerArray[0], consumerArray[1]);
+      case 3:
+        return new ComposedConsumer3(consumerArray[0], consumerArray[1], consumerArray[2]);
+      case 4:
+        return new ComposedConsumer4(consumerArray[0], consumerArray[1], consumerArray[2],
+            consumerArray[3]);
+      default:
+        return new ComposedConsumerN(consumerArray);
+    }
   }
 
   /**
@@ -137,10 +168,127 @@ public class ConsumerDecorator<IN> extends DeepEqualObject implements Consumer<I
     return true;
   }
 
-  @SuppressWarnings("unchecked")
-  public void accept(final IN in) throws Exception {
-    for (final Consumer<?> consumer : mConsumers) {
-      ((Consumer<Object>) consumer).accept(in);
+  /**
+   * Consumer implementation calling two consumers in sequence.
+   */
+  private static class ComposedConsumer2 implements Consumer<Object> {
+
+    private final Consumer<Object> mFirst;
+
+    private final Consumer<Object> mSecond;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the first consumer.
+     * @param second the second consumer.
+     */
+    private ComposedConsumer2(@NotNull final Consumer<Object> first,
+        @NotNull final Consumer<Object> second) {
+      mFirst = first;
+      mSecond = second;
     }
+
+    public void accept(final Object in) throws Exception {
+      mFirst.accept(in);
+      mSecond.accept(in);
+    }
+  }
+
+  /**
+   * Consumer implementation calling three consumers in sequence.
+   */
+  private static class ComposedConsumer3 implements Consumer<Object> {
+
+    private final Consumer<Object> mFirst;
+
+    private final Consumer<Object> mSecond;
+
+    private final Consumer<Object> mThird;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the first consumer.
+     * @param second the second consumer.
+     * @param third  the third consumer.
+     */
+    private ComposedConsumer3(@NotNull final Consumer<Object> first,
+        @NotNull final Consumer<Object> second, @NotNull final Consumer<Object> third) {
+      mFirst = first;
+      mSecond = second;
+      mThird = third;
+    }
+
+    public void accept(final Object in) throws Exception {
+      mFirst.accept(in);
+      mSecond.accept(in);
+      mThird.accept(in);
+    }
+  }
+
+  /**
+   * Consumer implementation calling four consumers in sequence.
+   */
+  private static class ComposedConsumer4 implements Consumer<Object> {
+
+    private final Consumer<Object> mFirst;
+
+    private final Consumer<Object> mFourth;
+
+    private final Consumer<Object> mSecond;
+
+    private final Consumer<Object> mThird;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the first consumer.
+     * @param second the second consumer.
+     * @param third  the third consumer.
+     * @param fourth the fourth consumer.
+     */
+    private ComposedConsumer4(@NotNull final Consumer<Object> first,
+        @NotNull final Consumer<Object> second, @NotNull final Consumer<Object> third,
+        @NotNull final Consumer<Object> fourth) {
+      mFirst = first;
+      mSecond = second;
+      mThird = third;
+      mFourth = fourth;
+    }
+
+    public void accept(final Object in) throws Exception {
+      mFirst.accept(in);
+      mSecond.accept(in);
+      mThird.accept(in);
+      mFourth.accept(in);
+    }
+  }
+
+  /**
+   * Consumer implementation calling an array of consumers in sequence.
+   */
+  private static class ComposedConsumerN implements Consumer<Object> {
+
+    private final Consumer<Object>[] mConsumers;
+
+    /**
+     * Constructor.
+     *
+     * @param consumers the array of consumers.
+     */
+    private ComposedConsumerN(@NotNull final Consumer<Object>[] consumers) {
+      mConsumers = consumers;
+    }
+
+    public void accept(final Object in) throws Exception {
+      for (final Consumer<Object> consumer : mConsumers) {
+        consumer.accept(in);
+      }
+    }
+  }
+
+  public void accept(final IN in) throws Exception {
+    mConsumer.accept(in);
   }
 }
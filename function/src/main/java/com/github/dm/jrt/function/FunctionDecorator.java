@@ -49,6 +49,8 @@ public class FunctionDecorator<IN, OUT> extends DeepEqualObject
         }
       });
 
+  private final Function<Object, Object> mFunction;
+
   private final List<Function<?, ?>> mFunctions;
 
   /**
@@ -69,6 +71,7 @@ public class FunctionDecorator<IN, OUT> extends DeepEqualObject
   private FunctionDecorator(@NotNull final List<Function<?, ?>> functions) {
     super(asArgs(functions));
     mFunctions = functions;
+    mFunction = composeFunctions(functions);
   }
 
   /**
@@ -104,6 +107,36 @@ public class FunctionDecorator<IN, OUT> extends DeepEqualObject
     return castTo(token.getRawClass());
   }
 
+  /**
+   * Composes the specified list of functions into a single one.
+   * <br>
+   * Short chains are composed into fixed-arity functions, so that no loop is needed when the
+   * function is applied, while longer ones fall back to iterating over an array.
+   *
+   * @param functions the list of functions.
+   * @return the composed function.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> composeFunctions(
+      @NotNull final List<Function<?, ?>> functions) {
+    final Function<Object, Object>[] functionArray =
+        functions.toArray(new Function[functions.size()]);
+    switch (functionArray.length) {
+      case 1:
+        return functionArray[0];
+      case 2:
+        return new ComposedFunction2(functionArray[0], functionArray[1]);
+      case 3:
+        return new ComposedFunction3(functionArray[0], functionArray[1], functionArray[2]);
+      case 4:
+        return new ComposedFunction4(functionArray[0], functionArray[1], functionArray[2],
+            functionArray[3]);
+      default:
+        return new ComposedFunctionN(functionArray);
+    }
+  }
+
   /**
    * Decorates the specified function instance so to provide additional features.
    * <br>
@@ -232,13 +265,127 @@ public class FunctionDecorator<IN, OUT> extends DeepEqualObject
     }
   }
 
-  @SuppressWarnings("unchecked")
-  public OUT apply(final IN in) throws Exception {
-    Object result = in;
-    for (final Function<?, ?> function : mFunctions) {
-      result = ((Function<Object, Object>) function).apply(result);
+  /**
+   * Function implementation applying two functions in sequence.
+   */
+  private static class ComposedFunction2 implements Function<Object, Object> {
+
+    private final Function<Object, Object> mFirst;
+
+    private final Function<Object, Object> mSecond;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the first function.
+     * @param second the second function.
+     */
+    private ComposedFunction2(@NotNull final Function<Object, Object> first,
+        @NotNull final Function<Object, Object> second) {
+      mFirst = first;
+      mSecond = second;
+    }
+
+    public Object apply(final Object in) throws Exception {
+      return mSecond.apply(mFirst.apply(in));
+    }
+  }
+
+  /**
+   * Function implementation applying three functions in sequence.
+   */
+  private static class ComposedFunction3 implements Function<Object, Object> {
+
+    private final Function<Object, Object> mFirst;
+
+    private final Function<Object, Object> mSecond;
+
+    private final Function<Object, Object> mThird;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the first function.
+     * @param second the second function.
+     * @param third  the third function.
+     */
+    private ComposedFunction3(@NotNull final Function<Object, Object> first,
+        @NotNull final Function<Object, Object> second,
+        @NotNull final Function<Object, Object> third) {
+      mFirst = first;
+      mSecond = second;
+      mThird = third;
+    }
+
+    public Object apply(final Object in) throws Exception {
+      return mThird.apply(mSecond.apply(mFirst.apply(in)));
     }
+  }
+
+  /**
+   * Function implementation applying four functions in sequence.
+   */
+  private static class ComposedFunction4 implements Function<Object, Object> {
+
+    private final Function<Object, Object> mFirst;
+
+    private final Function<Object, Object> mFourth;
+
+    private final Function<Object, Object> mSecond;
 
-    return (OUT) result;
+    private final Function<Object, Object> mThird;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the first function.
+     * @param second the second function.
+     * @param third  the third function.
+     * @param fourth the fourth function.
+     */
+    private ComposedFunction4(@NotNull final Function<Object, Object> first,
+        @NotNull final Function<Object, Object> second,
+        @NotNull final Function<Object, Object> third,
+        @NotNull final Function<Object, Object> fourth) {
+      mFirst = first;
+      mSecond = second;
+      mThird = third;
+      mFourth = fourth;
+    }
+
+    public Object apply(final Object in) throws Exception {
+      return mFourth.apply(mThird.apply(mSecond.apply(mFirst.apply(in))));
+    }
+  }
+
+  /**
+   * Function implementation applying an array of functions in sequence.
+   */
+  private static class ComposedFunctionN implements Function<Object, Object> {
+
+    private final Function<Object, Object>[] mFunctions;
+
+    /**
+     * Constructor.
+     *
+     * @param functions the array of functions.
+     */
+    private ComposedFunctionN(@NotNull final Function<Object, Object>[] functions) {
+      mFunctions = functions;
+    }
+
+    public Object apply(final Object in) throws Exception {
+      Object result = in;
+      for (final Function<Object, Object> function : mFunctions) {
+        result = function.apply(result);
+      }
+
+      return result;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public OUT apply(final IN in) throws Exception {
+    return (OUT) mFunction.apply(in);
   }
 }
@@ -227,6 +227,24 @@ public class PredicateDecorator<IN> extends DeepEqualObject implements Predicate
     return (PredicateDecorator<IN>) sPositive;
   }
 
+  /**
+   * Returns the core predicate of the specified one, if it is a decorator, so to avoid an
+   * additional indirection when the composed predicate is tested.
+   *
+   * @param predicate the predicate instance.
+   * @param <IN>      the input data type.
+   * @return the unwrapped predicate.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  private static <IN> Predicate<? super IN> unwrap(@NotNull final Predicate<? super IN> predicate) {
+    if (predicate instanceof PredicateDecorator) {
+      return ((PredicateDecorator<IN>) predicate).mPredicate;
+    }
+
+    return predicate;
+  }
+
   /**
    * Returns a composed predicate decorator that represents a short-circuiting logical AND of this
    * predicate and another.
@@ -251,7 +269,8 @@ public class PredicateDecorator<IN> extends DeepEqualObject implements Predicate
     }
 
     newPredicates.add(CLOSE_PREDICATE);
-    return new PredicateDecorator<IN>(new AndPredicate<IN>(mPredicate, other), newPredicates);
+    return new PredicateDecorator<IN>(new AndPredicate<IN>(mPredicate, unwrap(other)),
+        newPredicates);
   }
 
   public boolean hasStaticScope() {
@@ -341,7 +360,8 @@ public class PredicateDecorator<IN> extends DeepEqualObject implements Predicate
     }
 
     newPredicates.add(CLOSE_PREDICATE);
-    return new PredicateDecorator<IN>(new OrPredicate<IN>(mPredicate, other), newPredicates);
+    return new PredicateDecorator<IN>(new OrPredicate<IN>(mPredicate, unwrap(other)),
+        newPredicates);
   }
 
   /**
@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.dm.jrt.core.util.UnitDuration.seconds;
 import static com.github.dm.jrt.function.Functions.biSink;
@@ -737,6 +738,42 @@ public class FunctionsTest {
     assertThat(consumer3.isCalled()).isTrue();
   }
 
+  @Test
+  public void testConsumerChain() throws Exception {
+    final StringBuilder builder = new StringBuilder();
+    ConsumerDecorator<String> consumer = ConsumerDecorator.sink();
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 10; ++i) {
+      final int index = i;
+      consumer = consumer.andThen(new Consumer<String>() {
+
+        public void accept(final String s) {
+          builder.append(s).append(index);
+        }
+      });
+      builder.setLength(0);
+      consumer.accept("-");
+      assertThat(builder.toString()).isEqualTo(expected.append("-").append(index).toString());
+    }
+
+    builder.setLength(0);
+    consumer.andThen(consumer).accept("-");
+    assertThat(builder.toString()).isEqualTo("-0-1-2-3-4-5-6-7-8-9-0-1-2-3-4-5-6-7-8-9");
+    final AtomicInteger count = new AtomicInteger();
+    ConsumerDecorator<Object> longConsumer = ConsumerDecorator.sink();
+    for (int i = 0; i < 10000; ++i) {
+      longConsumer = longConsumer.andThen(new Consumer<Object>() {
+
+        public void accept(final Object o) {
+          count.incrementAndGet();
+        }
+      });
+    }
+
+    longConsumer.accept(null);
+    assertThat(count.get()).isEqualTo(10000);
+  }
+
   @Test
   public void testConsumerContext() {
 
@@ -919,6 +956,49 @@ public class FunctionsTest {
     }).apply("test")).isEqualTo(24);
   }
 
+  @Test
+  public void testFunctionChain() throws Exception {
+    FunctionDecorator<String, String> function = FunctionDecorator.identity();
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 10; ++i) {
+      final String suffix = Integer.toString(i);
+      function = function.andThen(new Function<String, String>() {
+
+        public String apply(final String s) {
+          return s + suffix;
+        }
+      });
+      assertThat(function.apply("")).isEqualTo(expected.append(suffix).toString());
+    }
+
+    assertThat(function.apply("")).isEqualTo("0123456789");
+    FunctionDecorator<Integer, Integer> longFunction = FunctionDecorator.identity();
+    for (int i = 0; i < 10000; ++i) {
+      longFunction = longFunction.andThen(new Function<Integer, Integer>() {
+
+        public Integer apply(final Integer n) {
+          return n + 1;
+        }
+      });
+    }
+
+    assertThat(longFunction.apply(0)).isEqualTo(10000);
+    final FunctionDecorator<String, String> prefix = decorate(new Function<String, String>() {
+
+      public String apply(final String s) {
+        return "a" + s;
+      }
+    }).andThen(new Function<String, String>() {
+
+      public String apply(final String s) {
+        return "b" + s;
+      }
+    });
+    assertThat(function.compose(prefix).apply("")).isEqualTo("ba0123456789");
+    assertThat(prefix.andThen(function).apply("")).isEqualTo("ba0123456789");
+    assertThat(function.andThen(prefix).apply("")).isEqualTo("ba0123456789");
+  }
+
   @Test
   public void testFunctionContext() {
 
@@ -582,29 +582,8 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
   protected static Object[] replaceChannels(@NotNull final Method method,
       @NotNull final Object[] params, @NotNull final ArrayList<Channel<?, ?>> inputChannels,
       @NotNull final ArrayList<Channel<?, ?>> outputChannels) {
-    final Annotation[][] annotations = method.getParameterAnnotations();
-    final int length = params.length;
-    final ArrayList<Object> parameters = new ArrayList<Object>(length);
-    final ChannelBuilder channelBuilder = JRoutineCore.io();
-    for (int i = 0; i < length; ++i) {
-      final Object param = params[i];
-      final Class<? extends Annotation> annotationType = getAnnotationType(param, annotations[i]);
-      if (annotationType == In.class) {
-        final Channel<Object, Object> inputChannel = channelBuilder.buildChannel();
-        inputChannels.add(inputChannel);
-        parameters.add(inputChannel);
-
-      } else if (annotationType == Out.class) {
-        final Channel<Object, Object> outputChannel = channelBuilder.buildChannel();
-        outputChannels.add(outputChannel);
-        parameters.add(outputChannel);
-
-      } else {
-        parameters.add(param);
-      }
-    }
-
-    return parameters.toArray();
+    return replaceChannels(getAnnotationTypes(method, params), params, inputChannels,
+        outputChannels);
   }
 
   @NotNull
@@ -729,6 +708,48 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
     return (Channel<?, IN>) mLocalChannel.get();
   }
 
+  @NotNull
+  @SuppressWarnings("unchecked")
+  private static Class<? extends Annotation>[] getAnnotationTypes(@NotNull final Method method,
+      @NotNull final Object[] params) {
+    final Annotation[][] annotations = method.getParameterAnnotations();
+    final int length = params.length;
+    final Class<? extends Annotation>[] annotationTypes = new Class[length];
+    for (int i = 0; i < length; ++i) {
+      annotationTypes[i] = getAnnotationType(params[i], annotations[i]);
+    }
+
+    return annotationTypes;
+  }
+
+  @NotNull
+  private static Object[] replaceChannels(
+      @NotNull final Class<? extends Annotation>[] annotationTypes, @NotNull final Object[] params,
+      @NotNull final ArrayList<Channel<?, ?>> inputChannels,
+      @NotNull final ArrayList<Channel<?, ?>> outputChannels) {
+    final int length = params.length;
+    final Object[] parameters = new Object[length];
+    final ChannelBuilder channelBuilder = JRoutineCore.io();
+    for (int i = 0; i < length; ++i) {
+      final Class<? extends Annotation> annotationType = annotationTypes[i];
+      if (annotationType == In.class) {
+        final Channel<Object, Object> inputChannel = channelBuilder.buildChannel();
+        inputChannels.add(inputChannel);
+        parameters[i] = inputChannel;
+
+      } else if (annotationType == Out.class) {
+        final Channel<Object, Object> outputChannel = channelBuilder.buildChannel();
+        outputChannels.add(outputChannel);
+        parameters[i] = outputChannel;
+
+      } else {
+        parameters[i] = params[i];
+      }
+    }
+
+    return parameters;
+  }
+
   @NotNull
   @SuppressWarnings("unchecked")
   private <OUT> Channel<?, OUT> call(
@@ -737,16 +758,15 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
       @NotNull final Object[] params) {
     final ArrayList<Channel<?, ?>> inputChannels = new ArrayList<Channel<?, ?>>();
     final ArrayList<Channel<?, ?>> outputChannels = new ArrayList<Channel<?, ?>>();
-    final Annotation[][] annotations = method.getParameterAnnotations();
+    final Class<? extends Annotation>[] annotationTypes = getAnnotationTypes(method, params);
     final int length = params.length;
     for (int i = 0; i < length; ++i) {
-      final Object param = params[i];
-      final Class<? extends Annotation> annotationType = getAnnotationType(param, annotations[i]);
+      final Class<? extends Annotation> annotationType = annotationTypes[i];
       if (annotationType == In.class) {
-        inputChannels.add((Channel<?, ?>) param);
+        inputChannels.add((Channel<?, ?>) params[i]);
 
       } else if (annotationType == Out.class) {
-        outputChannels.add((Channel<?, ?>) param);
+        outputChannels.add((Channel<?, ?>) params[i]);
       }
     }
 
@@ -1033,6 +1053,8 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
    */
   private static class MultiInvocation extends AbstractInvocation {
 
+    private final Class<? extends Annotation>[] mAnnotationTypes;
+
     private final Object[] mArgs;
 
     private final Constructor<? extends RoutineMethod> mConstructor;
@@ -1052,19 +1074,21 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
     /**
      * Constructor.
      *
-     * @param constructor the routine method constructor.
-     * @param args        the constructor arguments.
-     * @param method      the method instance.
-     * @param params      the method parameters.
+     * @param constructor     the routine method constructor.
+     * @param args            the constructor arguments.
+     * @param method          the method instance.
+     * @param params          the method parameters.
+     * @param annotationTypes the types of the method parameter annotations.
      */
     private MultiInvocation(@NotNull final Constructor<? extends RoutineMethod> constructor,
-        @NotNull final Object[] args, @NotNull final Method method,
-        @NotNull final Object[] params) {
+        @NotNull final Object[] args, @NotNull final Method method, @NotNull final Object[] params,
+        @NotNull final Class<? extends Annotation>[] annotationTypes) {
       super(method);
       mConstructor = constructor;
       mArgs = args;
       mMethod = method;
       mOrigParams = params;
+      mAnnotationTypes = annotationTypes;
     }
 
     @NotNull
@@ -1077,9 +1101,8 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
     public void onRestart() throws Exception {
       super.onRestart();
       final RoutineMethod instance = (mInstance = mConstructor.newInstance(mArgs));
-      final Method method = mMethod;
-      instance.setReturnType(method.getReturnType());
-      mParams = replaceChannels(method, mOrigParams, mInputChannels, mOutputChannels);
+      instance.setReturnType(mMethod.getReturnType());
+      mParams = replaceChannels(mAnnotationTypes, mOrigParams, mInputChannels, mOutputChannels);
     }
 
     public void onRecycle(final boolean isReused) throws Exception {
@@ -1123,6 +1146,8 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
   private static class MultiInvocationFactory
       extends InvocationFactory<Selectable<Object>, Selectable<Object>> {
 
+    private final Class<? extends Annotation>[] mAnnotationTypes;
+
     private final Object[] mArgs;
 
     private final Constructor<? extends RoutineMethod> mConstructor;
@@ -1148,13 +1173,14 @@ public class RoutineMethod implements InvocationConfigurable<RoutineMethod> {
       mConstructor = constructor;
       mArgs = args;
       mMethod = method;
-      mParams = cloneArgs(params);
+      final Object[] methodParams = (mParams = cloneArgs(params));
+      mAnnotationTypes = getAnnotationTypes(method, methodParams);
     }
 
     @NotNull
     @Override
     public Invocation<Selectable<Object>, Selectable<Object>> newInvocation() {
-      return new MultiInvocation(mConstructor, mArgs, mMethod, mParams);
+      return new MultiInvocation(mConstructor, mArgs, mMethod, mParams, mAnnotationTypes);
     }
   }
 
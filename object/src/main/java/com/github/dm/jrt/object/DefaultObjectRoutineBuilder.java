@@ -31,6 +31,7 @@ import com.github.dm.jrt.core.util.WeakIdentityHashMap;
 import com.github.dm.jrt.object.annotation.AsyncInput.InputMode;
 import com.github.dm.jrt.object.annotation.AsyncOutput.OutputMode;
 import com.github.dm.jrt.object.builder.Builders.MethodInfo;
+import com.github.dm.jrt.object.builder.Builders.MethodInvoker;
 import com.github.dm.jrt.object.builder.ObjectRoutineBuilder;
 import com.github.dm.jrt.object.common.Mutex;
 import com.github.dm.jrt.object.config.ObjectConfiguration;
@@ -44,10 +45,11 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.github.dm.jrt.core.util.Reflection.asArgs;
-import static com.github.dm.jrt.object.builder.Builders.callFromInvocation;
 import static com.github.dm.jrt.object.builder.Builders.getAnnotatedMethod;
+import static com.github.dm.jrt.object.builder.Builders.getMethodInvoker;
 import static com.github.dm.jrt.object.builder.Builders.getSharedMutex;
 import static com.github.dm.jrt.object.builder.Builders.getTargetMethodInfo;
 import static com.github.dm.jrt.object.builder.Builders.invokeRoutine;
@@ -60,8 +62,9 @@ import static com.github.dm.jrt.object.builder.Builders.withAnnotations;
  */
 class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
 
-  private static final WeakIdentityHashMap<Object, HashMap<RoutineInfo, Routine<?, ?>>> sRoutines =
-      new WeakIdentityHashMap<Object, HashMap<RoutineInfo, Routine<?, ?>>>();
+  private static final int ROUTINE_STRIPE_COUNT = 16;
+
+  private static final RoutineStripe[] sRoutineStripes = new RoutineStripe[ROUTINE_STRIPE_COUNT];
 
   private final InvocationTarget<?> mTarget;
 
@@ -164,27 +167,33 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
       throw new IllegalStateException("the target object has been destroyed");
     }
 
-    synchronized (sRoutines) {
-      final WeakIdentityHashMap<Object, HashMap<RoutineInfo, Routine<?, ?>>> routines = sRoutines;
-      HashMap<RoutineInfo, Routine<?, ?>> routineMap = routines.get(targetInstance);
+    final RoutineStripe stripe =
+        sRoutineStripes[System.identityHashCode(targetInstance) & (ROUTINE_STRIPE_COUNT - 1)];
+    ConcurrentHashMap<RoutineInfo, Routine<?, ?>> routineMap;
+    synchronized (stripe) {
+      final WeakIdentityHashMap<Object, ConcurrentHashMap<RoutineInfo, Routine<?, ?>>> routines =
+          stripe.routines;
+      routineMap = routines.get(targetInstance);
       if (routineMap == null) {
-        routineMap = new HashMap<RoutineInfo, Routine<?, ?>>();
+        routineMap = new ConcurrentHashMap<RoutineInfo, Routine<?, ?>>();
         routines.put(targetInstance, routineMap);
       }
+    }
 
-      final RoutineInfo routineInfo =
-          new RoutineInfo(invocationConfiguration, objectConfiguration, method, inputMode,
-              outputMode);
-      Routine<?, ?> routine = routineMap.get(routineInfo);
-      if (routine == null) {
-        final MethodInvocationFactory factory =
-            new MethodInvocationFactory(objectConfiguration, target, method, inputMode, outputMode);
-        routine = JRoutineCore.with(factory).apply(invocationConfiguration).buildRoutine();
-        routineMap.put(routineInfo, routine);
-      }
-
+    final RoutineInfo routineInfo =
+        new RoutineInfo(invocationConfiguration, objectConfiguration, method, inputMode,
+            outputMode);
+    final Routine<?, ?> routine = routineMap.get(routineInfo);
+    if (routine != null) {
       return (Routine<IN, OUT>) routine;
     }
+
+    final MethodInvocationFactory factory =
+        new MethodInvocationFactory(objectConfiguration, target, method, inputMode, outputMode);
+    final Routine<?, ?> newRoutine =
+        JRoutineCore.with(factory).apply(invocationConfiguration).buildRoutine();
+    final Routine<?, ?> previousRoutine = routineMap.putIfAbsent(routineInfo, newRoutine);
+    return (Routine<IN, OUT>) ((previousRoutine != null) ? previousRoutine : newRoutine);
   }
 
   /**
@@ -192,14 +201,10 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
    */
   private static class MethodCallInvocation extends CallInvocation<Object, Object> {
 
-    private final InputMode mInputMode;
-
-    private final Method mMethod;
+    private final MethodInvoker mInvoker;
 
     private final Mutex mMutex;
 
-    private final OutputMode mOutputMode;
-
     private final InvocationTarget<?> mTarget;
 
     /**
@@ -208,19 +213,16 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
      * @param objectConfiguration the object configuration.
      * @param target              the invocation target.
      * @param method              the method to wrap.
-     * @param inputMode           the input transfer mode.
-     * @param outputMode          the output transfer mode.
+     * @param invoker             the method invoker.
      */
     private MethodCallInvocation(@NotNull final ObjectConfiguration objectConfiguration,
         @NotNull final InvocationTarget<?> target, @NotNull final Method method,
-        @Nullable final InputMode inputMode, @Nullable final OutputMode outputMode) {
+        @NotNull final MethodInvoker invoker) {
       final Object mutexTarget =
           (Modifier.isStatic(method.getModifiers())) ? target.getTargetClass() : target.getTarget();
       mMutex = getSharedMutex(mutexTarget, objectConfiguration.getSharedFieldsOrElse(null));
       mTarget = target;
-      mMethod = method;
-      mInputMode = inputMode;
-      mOutputMode = outputMode;
+      mInvoker = invoker;
     }
 
     @Override
@@ -231,7 +233,7 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
         throw new IllegalStateException("the target object has been destroyed");
       }
 
-      callFromInvocation(mMutex, target, mMethod, objects, result, mInputMode, mOutputMode);
+      mInvoker.call(mMutex, target, objects, result);
     }
   }
 
@@ -240,14 +242,12 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
    */
   private static class MethodInvocationFactory extends InvocationFactory<Object, Object> {
 
-    private final InputMode mInputMode;
+    private final MethodInvoker mInvoker;
 
     private final Method mMethod;
 
     private final ObjectConfiguration mObjectConfiguration;
 
-    private final OutputMode mOutputMode;
-
     private final InvocationTarget<?> mTarget;
 
     /**
@@ -266,15 +266,35 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
       mObjectConfiguration = objectConfiguration;
       mTarget = target;
       mMethod = method;
-      mInputMode = inputMode;
-      mOutputMode = outputMode;
+      mInvoker = getMethodInvoker(method, inputMode, outputMode);
     }
 
     @NotNull
     @Override
     public Invocation<Object, Object> newInvocation() {
-      return new MethodCallInvocation(mObjectConfiguration, mTarget, mMethod, mInputMode,
-          mOutputMode);
+      return new MethodCallInvocation(mObjectConfiguration, mTarget, mMethod, mInvoker);
+    }
+  }
+
+  /**
+   * Class storing the routine wired to a proxy method.
+   */
+  private static class ProxyMethod {
+
+    private final MethodInfo mMethodInfo;
+
+    private final Routine<Object, Object> mRoutine;
+
+    /**
+     * Constructor.
+     *
+     * @param methodInfo the target method info.
+     * @param routine    the routine wrapping the target method.
+     */
+    private ProxyMethod(@NotNull final MethodInfo methodInfo,
+        @NotNull final Routine<Object, Object> routine) {
+      mMethodInfo = methodInfo;
+      mRoutine = routine;
     }
   }
 
@@ -299,8 +319,20 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
     }
   }
 
+  /**
+   * Stripe of the cache of target routines.
+   */
+  private static class RoutineStripe {
+
+    private final WeakIdentityHashMap<Object, ConcurrentHashMap<RoutineInfo, Routine<?, ?>>>
+        routines = new WeakIdentityHashMap<Object, ConcurrentHashMap<RoutineInfo, Routine<?, ?>>>();
+  }
+
   /**
    * Invocation handler adapting a different interface to the target object instance.
+   * <br>
+   * The routine wrapping each target method is resolved on the first call of the proxy method,
+   * and then reused for all the subsequent calls.
    */
   private class ProxyInvocationHandler implements InvocationHandler {
 
@@ -308,6 +340,9 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
 
     private final ObjectConfiguration mObjectConfiguration;
 
+    private final ConcurrentHashMap<Method, ProxyMethod> mProxyMethods =
+        new ConcurrentHashMap<Method, ProxyMethod>();
+
     /**
      * Constructor.
      */
@@ -318,15 +353,39 @@ class DefaultObjectRoutineBuilder implements ObjectRoutineBuilder {
 
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws
         Throwable {
+      final ProxyMethod proxyMethod = getProxyMethod(method);
+      final MethodInfo methodInfo = proxyMethod.mMethodInfo;
+      return invokeRoutine(proxyMethod.mRoutine, method, asArgs(args), methodInfo.invocationMode,
+          methodInfo.inputMode, methodInfo.outputMode);
+    }
+
+    @NotNull
+    private ProxyMethod getProxyMethod(@NotNull final Method method) {
+      final ConcurrentHashMap<Method, ProxyMethod> proxyMethods = mProxyMethods;
+      final ProxyMethod proxyMethod = proxyMethods.get(method);
+      if (proxyMethod != null) {
+        if (mTarget.getTarget() == null) {
+          throw new IllegalStateException("the target object has been destroyed");
+        }
+
+        return proxyMethod;
+      }
+
       final MethodInfo methodInfo = getTargetMethodInfo(mTarget.getTargetClass(), method);
-      final InputMode inputMode = methodInfo.inputMode;
-      final OutputMode outputMode = methodInfo.outputMode;
       final Routine<Object, Object> routine =
           getRoutine(withAnnotations(mInvocationConfiguration, method),
-              withAnnotations(mObjectConfiguration, method), methodInfo.method, inputMode,
-              outputMode);
-      return invokeRoutine(routine, method, asArgs(args), methodInfo.invocationMode, inputMode,
-          outputMode);
+              withAnnotations(mObjectConfiguration, method), methodInfo.method,
+              methodInfo.inputMode, methodInfo.outputMode);
+      final ProxyMethod newProxyMethod = new ProxyMethod(methodInfo, routine);
+      final ProxyMethod previousProxyMethod = proxyMethods.putIfAbsent(method, newProxyMethod);
+      return (previousProxyMethod != null) ? previousProxyMethod : newProxyMethod;
+    }
+  }
+
+  static {
+    final RoutineStripe[] stripes = sRoutineStripes;
+    for (int i = 0; i < stripes.length; ++i) {
+      stripes[i] = new RoutineStripe();
     }
   }
 }
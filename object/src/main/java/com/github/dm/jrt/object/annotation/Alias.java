@@ -77,12 +77,36 @@ import java.lang.annotation.Target;
  *     </code>
  * </pre>
  * <p>
+ * When the annotation processor is employed, an index of the aliases declared by each class is
+ * generated at compile time, so that the annotated methods can be found without inspecting all
+ * the class ones. In such case, the following rule should be added too:
+ * <pre>
+ *     <code>
+ *
+ *         -keep class **_AliasIndex {
+ *              public static final java.lang.String[][] ALIASES;
+ *         }
+ *     </code>
+ * </pre>
+ * <p>
  * Created by davide-maestroni on 01/22/2015.
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Alias {
 
+  /**
+   * Constant indicating the suffix of the name of the alias index classes generated by the
+   * annotation processor.
+   */
+  String INDEX_CLASS_SUFFIX = "_AliasIndex";
+
+  /**
+   * Constant indicating the name of the field storing the alias entries in the generated index
+   * classes.
+   */
+  String INDEX_FIELD_NAME = "ALIASES";
+
   /**
    * The name used to identify the method independently from its original signature.
    *
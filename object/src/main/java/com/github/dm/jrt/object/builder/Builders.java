@@ -22,7 +22,7 @@ import com.github.dm.jrt.core.invocation.InvocationException;
 import com.github.dm.jrt.core.routine.InvocationMode;
 import com.github.dm.jrt.core.routine.Routine;
 import com.github.dm.jrt.core.util.ConstantConditions;
-import com.github.dm.jrt.core.util.LruHashMap;
+import com.github.dm.jrt.core.util.DeepEqualObject;
 import com.github.dm.jrt.core.util.Reflection;
 import com.github.dm.jrt.core.util.WeakIdentityHashMap;
 import com.github.dm.jrt.object.annotation.Alias;
@@ -59,11 +59,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static com.github.dm.jrt.core.util.Reflection.asArgs;
 import static com.github.dm.jrt.core.util.Reflection.newInstanceOf;
@@ -79,21 +83,30 @@ import static com.github.dm.jrt.core.util.Reflection.newInstanceOf;
 @SuppressWarnings("WeakerAccess")
 public class Builders {
 
+  private static final int CONFIGURATION_CAPACITY = 256;
+
   private static final int DEFAULT_CAPACITY = 16;
 
-  private static final int DOUBLE_CAPACITY = DEFAULT_CAPACITY << 1;
+  private static final int MUTEX_STRIPE_COUNT = 16;
+
+  private static final DataCache<Class<?>, AliasMethods> sAliasMethods =
+      new DataCache<Class<?>, AliasMethods>(DEFAULT_CAPACITY);
+
+  private static final DataCache<AnnotatedConfiguration, InvocationConfiguration>
+      sInvocationConfigurations =
+      new DataCache<AnnotatedConfiguration, InvocationConfiguration>(CONFIGURATION_CAPACITY);
 
-  private static final LruHashMap<Class<?>, HashMap<String, Method>> sAliasMethods =
-      new LruHashMap<Class<?>, HashMap<String, Method>>(DEFAULT_CAPACITY);
+  private static final DataCache<Class<?>, ConcurrentHashMap<Method, MethodInfo>> sMethods =
+      new DataCache<Class<?>, ConcurrentHashMap<Method, MethodInfo>>(DEFAULT_CAPACITY);
 
-  private static final WeakIdentityHashMap<Object, HashMap<String, ReentrantLock>> sLocks =
-      new WeakIdentityHashMap<Object, HashMap<String, ReentrantLock>>();
+  private static final MutexStripe[] sMutexStripes = new MutexStripe[MUTEX_STRIPE_COUNT];
 
-  private static final LruHashMap<Class<?>, LruHashMap<Method, MethodInfo>> sMethods =
-      new LruHashMap<Class<?>, LruHashMap<Method, MethodInfo>>(DEFAULT_CAPACITY);
+  private static final DataCache<AnnotatedConfiguration, ObjectConfiguration>
+      sObjectConfigurations =
+      new DataCache<AnnotatedConfiguration, ObjectConfiguration>(CONFIGURATION_CAPACITY);
 
-  private static final WeakIdentityHashMap<Object, ExchangeMutex> sMutexes =
-      new WeakIdentityHashMap<Object, ExchangeMutex>();
+  private static final HashMap<String, Class<?>> sPrimitiveClasses =
+      new HashMap<String, Class<?>>();
 
   /**
    * Avoid explicit instantiation.
@@ -104,6 +117,9 @@ public class Builders {
 
   /**
    * Calls the specified target method from inside a routine invocation.
+   * <br>
+   * Note that, when the same method is going to be called several times, an invoker should be
+   * retrieved and retained instead.
    *
    * @param mutex        the method mutex.
    * @param target       the target instance.
@@ -113,64 +129,13 @@ public class Builders {
    * @param inputMode    the input transfer mode.
    * @param outputMode   the output transfer mode.
    * @throws java.lang.Exception if an unexpected error occurs.
+   * @see #getMethodInvoker(Method, InputMode, OutputMode)
    */
   public static void callFromInvocation(@NotNull final Mutex mutex, @NotNull final Object target,
       @NotNull final Method targetMethod, @NotNull final List<?> objects,
       @NotNull final Channel<Object, ?> result, @Nullable final InputMode inputMode,
       @Nullable final OutputMode outputMode) throws Exception {
-    Reflection.makeAccessible(targetMethod);
-    final Object methodResult;
-    mutex.acquire();
-    try {
-      final Object[] args;
-      if (inputMode == InputMode.COLLECTION) {
-        final Class<?> paramClass = targetMethod.getParameterTypes()[0];
-        if (paramClass.isArray()) {
-          final int size = objects.size();
-          final Object array = Array.newInstance(paramClass.getComponentType(), size);
-          for (int i = 0; i < size; ++i) {
-            Array.set(array, i, objects.get(i));
-          }
-
-          args = asArgs(array);
-
-        } else {
-          args = asArgs(objects);
-        }
-
-      } else {
-        args = objects.toArray(new Object[objects.size()]);
-      }
-
-      methodResult = targetMethod.invoke(target, args);
-
-    } catch (final InvocationTargetException e) {
-      throw new InvocationException(e.getCause());
-
-    } finally {
-      mutex.release();
-    }
-
-    final Class<?> returnType = targetMethod.getReturnType();
-    if (!Void.class.equals(Reflection.boxingClass(returnType))) {
-      if (outputMode == OutputMode.ELEMENT) {
-        if (returnType.isArray()) {
-          if (methodResult != null) {
-            result.sorted();
-            final int length = Array.getLength(methodResult);
-            for (int i = 0; i < length; ++i) {
-              result.pass(Array.get(methodResult, i));
-            }
-          }
-
-        } else {
-          result.pass((Iterable<?>) methodResult);
-        }
-
-      } else {
-        result.pass(methodResult);
-      }
-    }
+    new MethodInvoker(targetMethod, inputMode, outputMode).call(mutex, target, objects, result);
   }
 
   /**
@@ -185,26 +150,24 @@ public class Builders {
   @Nullable
   public static Method getAnnotatedMethod(@NotNull final Class<?> targetClass,
       @NotNull final String name) {
-    synchronized (sAliasMethods) {
-      final LruHashMap<Class<?>, HashMap<String, Method>> aliasMethods = sAliasMethods;
-      HashMap<String, Method> methodMap = aliasMethods.get(targetClass);
-      if (methodMap == null) {
-        methodMap = new HashMap<String, Method>();
-        fillMap(methodMap, targetClass.getMethods());
-        final HashMap<String, Method> declaredMethodMap = new HashMap<String, Method>();
-        fillMap(declaredMethodMap, targetClass.getDeclaredMethods());
-        for (final Entry<String, Method> methodEntry : declaredMethodMap.entrySet()) {
-          final String methodName = methodEntry.getKey();
-          if (!methodMap.containsKey(methodName)) {
-            methodMap.put(methodName, methodEntry.getValue());
-          }
-        }
-
-        aliasMethods.put(targetClass, methodMap);
-      }
+    final DataCache<Class<?>, AliasMethods> aliasMethods = sAliasMethods;
+    AliasMethods methods = aliasMethods.get(targetClass);
+    if (methods == null) {
+      final HashMap<String, Method> indexedMap = getIndexedMethods(targetClass);
+      methods = aliasMethods.putIfAbsent(targetClass,
+          (indexedMap != null) ? new AliasMethods(indexedMap, true)
+              : new AliasMethods(scanMethods(targetClass), false));
+    }
 
+    final Method method = methods.methods.get(name);
+    if ((method == null) && methods.isIndexed) {
+      // The index might be out of date, so fall back to reflection
+      final HashMap<String, Method> methodMap = scanMethods(targetClass);
+      aliasMethods.put(targetClass, new AliasMethods(methodMap, false));
       return methodMap.get(name);
     }
+
+    return method;
   }
 
   /**
@@ -297,6 +260,24 @@ public class Builders {
     return invocationMode;
   }
 
+  /**
+   * Gets an invoker of the specified target method, to be called from inside a routine
+   * invocation.
+   * <br>
+   * The returned object pre-computes all the information needed to call the method, so that it
+   * can be efficiently employed to invoke the same method several times.
+   *
+   * @param targetMethod the target method.
+   * @param inputMode    the input transfer mode.
+   * @param outputMode   the output transfer mode.
+   * @return the method invoker.
+   */
+  @NotNull
+  public static MethodInvoker getMethodInvoker(@NotNull final Method targetMethod,
+      @Nullable final InputMode inputMode, @Nullable final OutputMode outputMode) {
+    return new MethodInvoker(targetMethod, inputMode, outputMode);
+  }
+
   /**
    * Gets the output transfer mode of the return type of the specified method, while also
    * validating the use of the {@link com.github.dm.jrt.object.annotation.AsyncOutput AsyncOutput}
@@ -343,6 +324,10 @@ public class Builders {
    * If the cache was empty, it is filled with a new object automatically created.
    * <br>
    * If the target is null {@link com.github.dm.jrt.object.common.Mutex#NO_MUTEX} will be returned.
+   * <br>
+   * Mutexes associated with a set of shared fields only exclude the ones sharing at least one of
+   * the fields, and the ones associated with all the fields. The locks of the shared fields are
+   * resolved and sorted only the first time the same set is requested.
    *
    * @param target       the target object instance.
    * @param sharedFields the shared field names.
@@ -355,43 +340,45 @@ public class Builders {
       return Mutex.NO_MUTEX;
     }
 
-    ExchangeMutex exchangeMutex;
-    synchronized (sMutexes) {
-      final WeakIdentityHashMap<Object, ExchangeMutex> mutexes = sMutexes;
-      exchangeMutex = mutexes.get(target);
-      if (exchangeMutex == null) {
-        exchangeMutex = new ExchangeMutex();
-        mutexes.put(target, exchangeMutex);
+    final MutexStripe stripe =
+        sMutexStripes[System.identityHashCode(target) & (MUTEX_STRIPE_COUNT - 1)];
+    synchronized (stripe) {
+      final WeakIdentityHashMap<Object, TargetMutexes> mutexes = stripe.mutexes;
+      TargetMutexes targetMutexes = mutexes.get(target);
+      if (targetMutexes == null) {
+        targetMutexes = new TargetMutexes();
+        mutexes.put(target, targetMutexes);
       }
-    }
 
-    if (sharedFields == null) {
-      return exchangeMutex;
-    }
-
-    synchronized (sLocks) {
-      final WeakIdentityHashMap<Object, HashMap<String, ReentrantLock>> locksCache = sLocks;
-      HashMap<String, ReentrantLock> lockMap = locksCache.get(target);
-      if (lockMap == null) {
-        lockMap = new HashMap<String, ReentrantLock>();
-        locksCache.put(target, lockMap);
+      final ExchangeMutex exchangeMutex = targetMutexes.mutex;
+      if (sharedFields == null) {
+        return exchangeMutex;
       }
 
-      final TreeSet<String> nameSet = new TreeSet<String>(sharedFields);
-      final int size = nameSet.size();
-      final ReentrantLock[] locks = new ReentrantLock[size];
-      int i = 0;
-      for (final String name : nameSet) {
-        ReentrantLock lock = lockMap.get(name);
-        if (lock == null) {
-          lock = new ReentrantLock();
-          lockMap.put(name, lock);
+      final HashMap<Collection<String>, BuilderMutex> fieldMutexes = targetMutexes.fieldMutexes;
+      final Collection<String> fieldSet =
+          (sharedFields instanceof Set) ? sharedFields : new HashSet<String>(sharedFields);
+      BuilderMutex mutex = fieldMutexes.get(fieldSet);
+      if (mutex == null) {
+        final HashMap<String, ReentrantLock> lockMap = targetMutexes.locks;
+        final TreeSet<String> nameSet = new TreeSet<String>(sharedFields);
+        final ReentrantLock[] locks = new ReentrantLock[nameSet.size()];
+        int i = 0;
+        for (final String name : nameSet) {
+          ReentrantLock lock = lockMap.get(name);
+          if (lock == null) {
+            lock = new ReentrantLock();
+            lockMap.put(name, lock);
+          }
+
+          locks[i++] = lock;
         }
 
-        locks[i++] = lock;
+        mutex = new BuilderMutex(exchangeMutex, locks);
+        fieldMutexes.put(new HashSet<String>(nameSet), mutex);
       }
 
-      return new BuilderMutex(exchangeMutex, locks);
+      return mutex;
     }
   }
 
@@ -406,83 +393,21 @@ public class Builders {
   @NotNull
   public static MethodInfo getTargetMethodInfo(@NotNull final Class<?> targetClass,
       @NotNull final Method proxyMethod) {
-    MethodInfo methodInfo;
-    synchronized (sMethods) {
-      final LruHashMap<Class<?>, LruHashMap<Method, MethodInfo>> methodCache = sMethods;
-      LruHashMap<Method, MethodInfo> methodMap = methodCache.get(targetClass);
-      if (methodMap == null) {
-        methodMap = new LruHashMap<Method, MethodInfo>(DOUBLE_CAPACITY);
-        methodCache.put(targetClass, methodMap);
-      }
-
-      methodInfo = methodMap.get(proxyMethod);
-      if (methodInfo == null) {
-        final InvocationMode invocationMode = getInvocationMode(proxyMethod);
-        final Class<?>[] targetParameterTypes;
-        final AsyncMethod asyncMethodAnnotation = proxyMethod.getAnnotation(AsyncMethod.class);
-        InputMode inputMode = null;
-        OutputMode outputMode = null;
-        if (asyncMethodAnnotation != null) {
-          if (proxyMethod.getParameterTypes().length > 0) {
-            throw new IllegalArgumentException(
-                "methods annotated with " + AsyncMethod.class.getSimpleName()
-                    + " must have no input parameters: " + proxyMethod);
-          }
-
-          final Class<?> returnType = proxyMethod.getReturnType();
-          if (!returnType.isAssignableFrom(Channel.class) && !returnType.isAssignableFrom(
-              Routine.class)) {
-            throw new IllegalArgumentException(
-                "the proxy method has incompatible return type: " + proxyMethod);
-          }
-
-          targetParameterTypes = asyncMethodAnnotation.value();
-          inputMode = InputMode.VALUE;
-          outputMode = asyncMethodAnnotation.mode();
-
-        } else {
-          targetParameterTypes = proxyMethod.getParameterTypes();
-          final Annotation[][] annotations = proxyMethod.getParameterAnnotations();
-          final int length = annotations.length;
-          for (int i = 0; i < length; ++i) {
-            final InputMode paramMode = getInputMode(proxyMethod, i);
-            if (paramMode != null) {
-              inputMode = paramMode;
-              for (final Annotation paramAnnotation : annotations[i]) {
-                if (paramAnnotation.annotationType() == AsyncInput.class) {
-                  targetParameterTypes[i] = ((AsyncInput) paramAnnotation).value();
-                  break;
-                }
-              }
-            }
-          }
-        }
-
-        if ((invocationMode == InvocationMode.PARALLEL) && (targetParameterTypes.length > 1)) {
-          throw new IllegalArgumentException(
-              "methods annotated with invocation mode " + invocationMode
-                  + " must have no input parameters: " + proxyMethod);
-        }
-
-        final Method targetMethod = getTargetMethod(proxyMethod, targetClass, targetParameterTypes);
-        final Class<?> returnType = proxyMethod.getReturnType();
-        final Class<?> targetReturnType = targetMethod.getReturnType();
-        final AsyncOutput asyncOutputAnnotation = proxyMethod.getAnnotation(AsyncOutput.class);
-        if (asyncOutputAnnotation != null) {
-          outputMode = getOutputMode(proxyMethod, targetReturnType);
-
-        } else if ((asyncMethodAnnotation == null) && !returnType.isAssignableFrom(
-            targetReturnType)) {
-          throw new IllegalArgumentException(
-              "the proxy method has incompatible return type: " + proxyMethod);
-        }
+    final DataCache<Class<?>, ConcurrentHashMap<Method, MethodInfo>> methodCache = sMethods;
+    ConcurrentHashMap<Method, MethodInfo> methodMap = methodCache.get(targetClass);
+    if (methodMap == null) {
+      methodMap = methodCache.putIfAbsent(targetClass,
+          new ConcurrentHashMap<Method, MethodInfo>(DEFAULT_CAPACITY));
+    }
 
-        methodInfo = new MethodInfo(targetMethod, invocationMode, inputMode, outputMode);
-        methodMap.put(proxyMethod, methodInfo);
-      }
+    final MethodInfo methodInfo = methodMap.get(proxyMethod);
+    if (methodInfo != null) {
+      return methodInfo;
     }
 
-    return methodInfo;
+    final MethodInfo newMethodInfo = newMethodInfo(targetClass, proxyMethod);
+    final MethodInfo previousMethodInfo = methodMap.putIfAbsent(proxyMethod, newMethodInfo);
+    return (previousMethodInfo != null) ? previousMethodInfo : newMethodInfo;
   }
 
   /**
@@ -651,6 +576,10 @@ public class Builders {
   /**
    * Returns a configuration properly modified by taking into account the annotations added to the
    * specified method.
+   * <br>
+   * The returned configuration is cached, so that the method annotations are not parsed again,
+   * and the same runner, log and backoff instances are employed, each time the same method is
+   * configured starting from an equal configuration.
    *
    * @param configuration the initial configuration.
    * @param method        the target method.
@@ -674,7 +603,16 @@ public class Builders {
   @NotNull
   public static InvocationConfiguration withAnnotations(
       @Nullable final InvocationConfiguration configuration, @NotNull final Method method) {
-    return withAnnotations(configuration, method.getDeclaredAnnotations());
+    final DataCache<AnnotatedConfiguration, InvocationConfiguration> configurations =
+        sInvocationConfigurations;
+    final AnnotatedConfiguration key = new AnnotatedConfiguration(configuration, method);
+    final InvocationConfiguration invocationConfiguration = configurations.get(key);
+    if (invocationConfiguration != null) {
+      return invocationConfiguration;
+    }
+
+    return configurations.putIfAbsent(key,
+        withAnnotations(configuration, method.getDeclaredAnnotations()));
   }
 
   /**
@@ -708,6 +646,9 @@ public class Builders {
   /**
    * Returns a configuration properly modified by taking into account the annotations added to the
    * specified method.
+   * <br>
+   * The returned configuration is cached, so that the method annotations are not parsed again
+   * each time the same method is configured starting from an equal configuration.
    *
    * @param configuration the initial configuration.
    * @param method        the target method.
@@ -717,7 +658,16 @@ public class Builders {
   @NotNull
   public static ObjectConfiguration withAnnotations(
       @Nullable final ObjectConfiguration configuration, @NotNull final Method method) {
-    return withAnnotations(configuration, method.getDeclaredAnnotations());
+    final DataCache<AnnotatedConfiguration, ObjectConfiguration> configurations =
+        sObjectConfigurations;
+    final AnnotatedConfiguration key = new AnnotatedConfiguration(configuration, method);
+    final ObjectConfiguration objectConfiguration = configurations.get(key);
+    if (objectConfiguration != null) {
+      return objectConfiguration;
+    }
+
+    return configurations.putIfAbsent(key,
+        withAnnotations(configuration, method.getDeclaredAnnotations()));
   }
 
   private static void fillMap(@NotNull final Map<String, Method> map,
@@ -736,6 +686,63 @@ public class Builders {
     }
   }
 
+  @Nullable
+  private static HashMap<String, Method> getIndexedMethods(@NotNull final Class<?> targetClass) {
+    final ClassLoader classLoader = targetClass.getClassLoader();
+    if (classLoader == null) {
+      return null;
+    }
+
+    final String className = targetClass.getName();
+    final int index = className.lastIndexOf('.') + 1;
+    final String indexClassName =
+        className.substring(0, index) + className.substring(index).replace('$', '_')
+            + Alias.INDEX_CLASS_SUFFIX;
+    try {
+      final String[][] entries = (String[][]) Class.forName(indexClassName, true, classLoader)
+                                                    .getField(Alias.INDEX_FIELD_NAME)
+                                                    .get(null);
+      final HashMap<String, Method> methodMap = new HashMap<String, Method>();
+      for (final String[] entry : entries) {
+        final int length = entry.length - 3;
+        final Class<?>[] parameterTypes = new Class<?>[length];
+        for (int i = 0; i < length; ++i) {
+          final String typeName = entry[i + 3];
+          final Class<?> primitiveType = sPrimitiveClasses.get(typeName);
+          parameterTypes[i] = (primitiveType != null) ? primitiveType
+              : Class.forName(typeName, false, classLoader);
+        }
+
+        final String name = entry[0];
+        final Method method = Class.forName(entry[1], false, classLoader)
+                                   .getDeclaredMethod(entry[2], parameterTypes);
+        final Alias annotation = method.getAnnotation(Alias.class);
+        if ((annotation == null) || !name.equals(annotation.value())) {
+          // The index is out of date
+          return null;
+        }
+
+        methodMap.put(name, method);
+      }
+
+      return methodMap;
+
+    } catch (final ClassNotFoundException ignored) {
+      // Fall back to reflection
+
+    } catch (final NoSuchFieldException ignored) {
+      // Fall back to reflection
+
+    } catch (final NoSuchMethodException ignored) {
+      // Fall back to reflection
+
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return null;
+  }
+
   @NotNull
   private static Method getTargetMethod(@NotNull final Method method,
       @NotNull final Class<?> targetClass, @NotNull final Class<?>[] targetParameterTypes) {
@@ -769,6 +776,88 @@ public class Builders {
     return ((invocationMode != null) ? invocationMode : InvocationMode.ASYNC).invoke(routine);
   }
 
+  @NotNull
+  private static MethodInfo newMethodInfo(@NotNull final Class<?> targetClass,
+      @NotNull final Method proxyMethod) {
+    final InvocationMode invocationMode = getInvocationMode(proxyMethod);
+    final Class<?>[] targetParameterTypes;
+    final AsyncMethod asyncMethodAnnotation = proxyMethod.getAnnotation(AsyncMethod.class);
+    InputMode inputMode = null;
+    OutputMode outputMode = null;
+    if (asyncMethodAnnotation != null) {
+      if (proxyMethod.getParameterTypes().length > 0) {
+        throw new IllegalArgumentException(
+            "methods annotated with " + AsyncMethod.class.getSimpleName()
+                + " must have no input parameters: " + proxyMethod);
+      }
+
+      final Class<?> returnType = proxyMethod.getReturnType();
+      if (!returnType.isAssignableFrom(Channel.class) && !returnType.isAssignableFrom(
+          Routine.class)) {
+        throw new IllegalArgumentException(
+            "the proxy method has incompatible return type: " + proxyMethod);
+      }
+
+      targetParameterTypes = asyncMethodAnnotation.value();
+      inputMode = InputMode.VALUE;
+      outputMode = asyncMethodAnnotation.mode();
+
+    } else {
+      targetParameterTypes = proxyMethod.getParameterTypes();
+      final Annotation[][] annotations = proxyMethod.getParameterAnnotations();
+      final int length = annotations.length;
+      for (int i = 0; i < length; ++i) {
+        final InputMode paramMode = getInputMode(proxyMethod, i);
+        if (paramMode != null) {
+          inputMode = paramMode;
+          for (final Annotation paramAnnotation : annotations[i]) {
+            if (paramAnnotation.annotationType() == AsyncInput.class) {
+              targetParameterTypes[i] = ((AsyncInput) paramAnnotation).value();
+              break;
+            }
+          }
+        }
+      }
+    }
+
+    if ((invocationMode == InvocationMode.PARALLEL) && (targetParameterTypes.length > 1)) {
+      throw new IllegalArgumentException(
+          "methods annotated with invocation mode " + invocationMode
+              + " must have no input parameters: " + proxyMethod);
+    }
+
+    final Method targetMethod = getTargetMethod(proxyMethod, targetClass, targetParameterTypes);
+    final Class<?> returnType = proxyMethod.getReturnType();
+    final Class<?> targetReturnType = targetMethod.getReturnType();
+    final AsyncOutput asyncOutputAnnotation = proxyMethod.getAnnotation(AsyncOutput.class);
+    if (asyncOutputAnnotation != null) {
+      outputMode = getOutputMode(proxyMethod, targetReturnType);
+
+    } else if ((asyncMethodAnnotation == null) && !returnType.isAssignableFrom(
+        targetReturnType)) {
+      throw new IllegalArgumentException(
+          "the proxy method has incompatible return type: " + proxyMethod);
+    }
+
+    return new MethodInfo(targetMethod, invocationMode, inputMode, outputMode);
+  }
+
+  @NotNull
+  private static HashMap<String, Method> scanMethods(@NotNull final Class<?> targetClass) {
+    final HashMap<String, Method> methodMap = new HashMap<String, Method>();
+    fillMap(methodMap, targetClass.getMethods());
+    final HashMap<String, Method> declaredMethodMap = new HashMap<String, Method>();
+    fillMap(declaredMethodMap, targetClass.getDeclaredMethods());
+    for (final Entry<String, Method> methodEntry : declaredMethodMap.entrySet()) {
+      final String methodName = methodEntry.getKey();
+      if (!methodMap.containsKey(methodName)) {
+        methodMap.put(methodName, methodEntry.getValue());
+      }
+    }
+
+    return methodMap;
+  }
+
   /**
    * Data class storing information about the target method.
    */
@@ -811,6 +900,153 @@ public class Builders {
     }
   }
 
+  /**
+   * Class calling a target method from inside a routine invocation.
+   */
+  public static class MethodInvoker {
+
+    private final Class<?> mArrayType;
+
+    private final InputMode mInputMode;
+
+    private final boolean mIsArrayResult;
+
+    private final boolean mIsVoidResult;
+
+    private final Method mMethod;
+
+    private final OutputMode mOutputMode;
+
+    /**
+     * Constructor.
+     *
+     * @param targetMethod the target method.
+     * @param inputMode    the input transfer mode.
+     * @param outputMode   the output transfer mode.
+     */
+    private MethodInvoker(@NotNull final Method targetMethod, @Nullable final InputMode inputMode,
+        @Nullable final OutputMode outputMode) {
+      mMethod = Reflection.makeAccessible(targetMethod);
+      mInputMode = inputMode;
+      mOutputMode = outputMode;
+      if (inputMode == InputMode.COLLECTION) {
+        final Class<?> paramClass = targetMethod.getParameterTypes()[0];
+        mArrayType = (paramClass.isArray()) ? paramClass.getComponentType() : null;
+
+      } else {
+        mArrayType = null;
+      }
+
+      final Class<?> returnType = targetMethod.getReturnType();
+      mIsVoidResult = Void.class.equals(Reflection.boxingClass(returnType));
+      mIsArrayResult = returnType.isArray();
+    }
+
+    /**
+     * Calls the target method.
+     *
+     * @param mutex   the method mutex.
+     * @param target  the target instance.
+     * @param objects the input objects.
+     * @param result  the invocation result channel.
+     * @throws java.lang.Exception if an unexpected error occurs.
+     */
+    public void call(@NotNull final Mutex mutex, @NotNull final Object target,
+        @NotNull final List<?> objects, @NotNull final Channel<Object, ?> result) throws
+        Exception {
+      final Object methodResult;
+      mutex.acquire();
+      try {
+        final Object[] args;
+        if (mInputMode == InputMode.COLLECTION) {
+          final Class<?> arrayType = mArrayType;
+          if (arrayType != null) {
+            final int size = objects.size();
+            final Object array = Array.newInstance(arrayType, size);
+            for (int i = 0; i < size; ++i) {
+              Array.set(array, i, objects.get(i));
+            }
+
+            args = asArgs(array);
+
+          } else {
+            args = asArgs(objects);
+          }
+
+        } else {
+          args = objects.toArray(new Object[objects.size()]);
+        }
+
+        methodResult = mMethod.invoke(target, args);
+
+      } catch (final InvocationTargetException e) {
+        throw new InvocationException(e.getCause());
+
+      } finally {
+        mutex.release();
+      }
+
+      if (!mIsVoidResult) {
+        if (mOutputMode == OutputMode.ELEMENT) {
+          if (mIsArrayResult) {
+            if (methodResult != null) {
+              result.sorted();
+              final int length = Array.getLength(methodResult);
+              for (int i = 0; i < length; ++i) {
+                result.pass(Array.get(methodResult, i));
+              }
+            }
+
+          } else {
+            result.pass((Iterable<?>) methodResult);
+          }
+
+        } else {
+          result.pass(methodResult);
+        }
+      }
+    }
+  }
+
+  /**
+   * Class storing the methods of a target class, indexed by alias name.
+   */
+  private static class AliasMethods {
+
+    private final boolean isIndexed;
+
+    private final HashMap<String, Method> methods;
+
+    /**
+     * Constructor.
+     *
+     * @param methods   the map of methods.
+     * @param isIndexed whether the map was retrieved from a generated index.
+     */
+    private AliasMethods(@NotNull final HashMap<String, Method> methods,
+        final boolean isIndexed) {
+      this.methods = methods;
+      this.isIndexed = isIndexed;
+    }
+  }
+
+  /**
+   * Class used as key to identify a configuration modified by a method annotations.
+   */
+  private static class AnnotatedConfiguration extends DeepEqualObject {
+
+    /**
+     * Constructor.
+     *
+     * @param configuration the initial configuration.
+     * @param method        the annotated method.
+     */
+    private AnnotatedConfiguration(@Nullable final Object configuration,
+        @NotNull final Method method) {
+      super(asArgs(configuration, method));
+    }
+  }
+
   /**
    * Mutex implementation.
    */
@@ -850,61 +1086,207 @@ public class Builders {
   }
 
   /**
-   * Class used to synchronize between partial and full mutexes.
+   * Bounded cache whose reads never take a lock.
+   * <br>
+   * Each entry is stamped with the value of a logical clock, which is advanced only on writes, so
+   * that, once the capacity is exceeded, the least recently used entries can be approximately
+   * detected and evicted.
+   *
+   * @param <KEY>  the key type.
+   * @param <DATA> the data type.
    */
-  private static class ExchangeMutex implements Mutex {
+  private static class DataCache<KEY, DATA> {
+
+    private final int mCapacity;
 
-    private final ReentrantLock mLock = new ReentrantLock();
+    private final ConcurrentHashMap<KEY, CacheEntry<DATA>> mEntries;
 
     private final Object mMutex = new Object();
 
-    private int mFullMutexCount;
+    private volatile long mClock;
 
-    private int mPartialMutexCount;
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum capacity.
+     */
+    private DataCache(final int capacity) {
+      mCapacity = capacity;
+      mEntries = new ConcurrentHashMap<KEY, CacheEntry<DATA>>(capacity);
+    }
 
     /**
-     * Acquires a partial mutex making sure that no full one is already taken.
+     * Gets the data associated with the specified key.
      *
-     * @throws java.lang.InterruptedException if the current thread is interrupted.
+     * @param key the key.
+     * @return the data or null.
      */
-    void acquirePartialMutex() throws InterruptedException {
+    @Nullable
+    DATA get(@NotNull final KEY key) {
+      final CacheEntry<DATA> entry = mEntries.get(key);
+      if (entry == null) {
+        return null;
+      }
+
+      final long clock = mClock;
+      if (entry.mLastAccess != clock) {
+        entry.mLastAccess = clock;
+      }
+
+      return entry.mData;
+    }
+
+    /**
+     * Associates the specified data with the key, unless another one is already present.
+     *
+     * @param key  the key.
+     * @param data the data.
+     * @return the data associated with the key.
+     */
+    @NotNull
+    DATA putIfAbsent(@NotNull final KEY key, @NotNull final DATA data) {
+      final DATA previous = get(key);
+      if (previous != null) {
+        return previous;
+      }
+
       synchronized (mMutex) {
-        while (mFullMutexCount > 0) {
-          mMutex.wait();
+        final CacheEntry<DATA> entry = mEntries.get(key);
+        if (entry != null) {
+          return entry.mData;
         }
 
-        ++mPartialMutexCount;
+        store(key, data);
+        return data;
       }
     }
 
     /**
-     * Releases a partial mutex.
+     * Associates the specified data with the key, replacing any previous one.
+     *
+     * @param key  the key.
+     * @param data the data.
      */
-    void releasePartialMutex() {
+    void put(@NotNull final KEY key, @NotNull final DATA data) {
       synchronized (mMutex) {
-        --mPartialMutexCount;
-        mMutex.notifyAll();
+        store(key, data);
       }
     }
 
-    public void acquire() throws InterruptedException {
-      synchronized (mMutex) {
-        while (mPartialMutexCount > 0) {
-          mMutex.wait();
+    private void store(@NotNull final KEY key, @NotNull final DATA data) {
+      final long clock = ++mClock;
+      final ConcurrentHashMap<KEY, CacheEntry<DATA>> entries = mEntries;
+      entries.put(key, new CacheEntry<DATA>(data, clock));
+      while (entries.size() > mCapacity) {
+        KEY eldestKey = null;
+        long eldestAccess = Long.MAX_VALUE;
+        for (final Entry<KEY, CacheEntry<DATA>> entry : entries.entrySet()) {
+          final long lastAccess = entry.getValue().mLastAccess;
+          if (lastAccess < eldestAccess) {
+            eldestKey = entry.getKey();
+            eldestAccess = lastAccess;
+          }
         }
 
-        ++mFullMutexCount;
+        entries.remove(eldestKey);
       }
+    }
+
+    /**
+     * Cache entry implementation.
+     *
+     * @param <DATA> the data type.
+     */
+    private static class CacheEntry<DATA> {
+
+      private final DATA mData;
+
+      private volatile long mLastAccess;
+
+      /**
+       * Constructor.
+       *
+       * @param data       the data.
+       * @param lastAccess the access stamp.
+       */
+      private CacheEntry(@NotNull final DATA data, final long lastAccess) {
+        mData = data;
+        mLastAccess = lastAccess;
+      }
+    }
+  }
+
+  /**
+   * Class used to synchronize between partial and full mutexes.
+   * <br>
+   * Partial mutexes can be held at the same time by several threads, while a full one excludes
+   * all the others.
+   */
+  private static class ExchangeMutex implements Mutex {
+
+    private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+
+    /**
+     * Acquires a partial mutex making sure that no full one is already taken.
+     *
+     * @throws java.lang.InterruptedException if the current thread is interrupted.
+     */
+    void acquirePartialMutex() throws InterruptedException {
+      mLock.readLock().lockInterruptibly();
+    }
 
-      mLock.lock();
+    /**
+     * Releases a partial mutex.
+     */
+    void releasePartialMutex() {
+      mLock.readLock().unlock();
+    }
+
+    public void acquire() throws InterruptedException {
+      mLock.writeLock().lockInterruptibly();
     }
 
     public void release() {
-      mLock.unlock();
-      synchronized (mMutex) {
-        --mFullMutexCount;
-        mMutex.notifyAll();
-      }
+      mLock.writeLock().unlock();
     }
   }
+
+  /**
+   * Stripe of the cache of target mutexes.
+   */
+  private static class MutexStripe {
+
+    private final WeakIdentityHashMap<Object, TargetMutexes> mutexes =
+        new WeakIdentityHashMap<Object, TargetMutexes>();
+  }
+
+  /**
+   * Class storing the mutexes associated with a specific target.
+   */
+  private static class TargetMutexes {
+
+    private final HashMap<Collection<String>, BuilderMutex> fieldMutexes =
+        new HashMap<Collection<String>, BuilderMutex>();
+
+    private final HashMap<String, ReentrantLock> locks = new HashMap<String, ReentrantLock>();
+
+    private final ExchangeMutex mutex = new ExchangeMutex();
+  }
+
+  static {
+    final MutexStripe[] stripes = sMutexStripes;
+    for (int i = 0; i < stripes.length; ++i) {
+      stripes[i] = new MutexStripe();
+    }
+
+    final HashMap<String, Class<?>> primitiveClasses = sPrimitiveClasses;
+    primitiveClasses.put(boolean.class.getName(), boolean.class);
+    primitiveClasses.put(byte.class.getName(), byte.class);
+    primitiveClasses.put(char.class.getName(), char.class);
+    primitiveClasses.put(double.class.getName(), double.class);
+    primitiveClasses.put(float.class.getName(), float.class);
+    primitiveClasses.put(int.class.getName(), int.class);
+    primitiveClasses.put(long.class.getName(), long.class);
+    primitiveClasses.put(short.class.getName(), short.class);
+  }
 }
@@ -67,6 +67,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -252,6 +253,20 @@ public class ObjectRoutineTest {
                  .configured());
   }
 
+  @Test
+  public void testBuilderConfigurationThroughAnnotationsCache() throws NoSuchMethodException {
+
+    final Method method = AnnotationItf.class.getMethod("toString");
+    final InvocationConfiguration configuration =
+        withAnnotations(InvocationConfiguration.defaultConfiguration(), method);
+    assertThat(withAnnotations(InvocationConfiguration.defaultConfiguration(), method)).isSameAs(
+        configuration);
+    assertThat(withAnnotations(builder().withPriority(3).configured(), method)).isEqualTo(
+        configuration);
+    assertThat(withAnnotations(builder().withCoreInstances(5).configured(),
+        method).getCoreInstancesOrElse(0)).isEqualTo(3);
+  }
+
   @Test
   @SuppressWarnings("ConstantConditions")
   public void testConfigurationErrors() {
@@ -1091,6 +1106,22 @@ public class ObjectRoutineTest {
     assertThat(squareAsync.computeParallel(channel2).after(timeout).all()).containsOnly(1, 4, 9);
   }
 
+  @Test
+  public void testProxyRoutineCache() {
+
+    final Square square = new Square();
+    final ObjectRoutineBuilder builder = JRoutineObject.with(instance(square));
+    final SquareItf squareAsync = builder.buildProxy(SquareItf.class);
+    for (int i = 0; i < 3; ++i) {
+      assertThat(squareAsync.compute(i)).isEqualTo(i * i);
+    }
+
+    builder.applyInvocationConfiguration().withRunner(Runners.syncRunner()).configured();
+    for (int i = 0; i < 3; ++i) {
+      assertThat(squareAsync.compute(i)).isEqualTo(i * i);
+    }
+  }
+
   @Test
   public void testRoutineCache() {
 
@@ -1331,6 +1362,33 @@ public class ObjectRoutineTest {
     assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(1000);
   }
 
+  @Test
+  public void testSharedFieldsOverlap() throws NoSuchMethodException {
+
+    final TestClass2 test2 = new TestClass2();
+    final ObjectRoutineBuilder builder = JRoutineObject.with(instance(test2))
+                                                       .applyInvocationConfiguration()
+                                                       .withOutputTimeout(seconds(2))
+                                                       .configured();
+    for (int i = 0; i < 2; ++i) {
+      final long startTime = System.currentTimeMillis();
+      final Channel<?, Object> getOne = builder.applyObjectConfiguration()
+                                               .withSharedFields("2", "1")
+                                               .configured()
+                                               .method("getOne")
+                                               .close();
+      final Channel<?, Object> getTwo = builder.applyObjectConfiguration()
+                                               .withSharedFields("3", "2")
+                                               .configured()
+                                               .method("getTwo")
+                                               .close();
+
+      assertThat(getOne.getComplete()).isTrue();
+      assertThat(getTwo.getComplete()).isTrue();
+      assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(1000);
+    }
+  }
+
   @Test
   public void testSharedFieldsStatic() throws NoSuchMethodException {
 
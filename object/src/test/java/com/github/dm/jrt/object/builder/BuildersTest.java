@@ -0,0 +1,220 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.dm.jrt.object.builder;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.InvocationException;
+import com.github.dm.jrt.object.annotation.Alias;
+import com.github.dm.jrt.object.annotation.AsyncInput.InputMode;
+import com.github.dm.jrt.object.annotation.AsyncOutput.OutputMode;
+import com.github.dm.jrt.object.builder.Builders.MethodInvoker;
+import com.github.dm.jrt.object.common.Mutex;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.dm.jrt.object.builder.Builders.getAnnotatedMethod;
+import static com.github.dm.jrt.object.builder.Builders.getMethodInvoker;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Builders unit tests.
+ * <p>
+ * Created by davide-maestroni on 10/19/2026.
+ */
+public class BuildersTest {
+
+  @Test
+  public void testAliasIndex() throws Exception {
+
+    assertThat(getAnnotatedMethod(IndexedClass.class, "a")).isEqualTo(
+        IndexedClass.class.getMethod("first"));
+    assertThat(getAnnotatedMethod(IndexedClass.class, "b")).isEqualTo(
+        IndexedClass.class.getMethod("second"));
+    assertThat(getAnnotatedMethod(IndexedClass.class, "c")).isNull();
+  }
+
+  @Test
+  public void testArrayResult() throws Exception {
+
+    final MethodInvoker elementInvoker =
+        getMethodInvoker(TestClass.class.getMethod("range", int.class), null, OutputMode.ELEMENT);
+    final Channel<Object, Object> channel1 = JRoutineCore.io().buildChannel();
+    elementInvoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.singletonList(3), channel1);
+    assertThat(channel1.close().all()).containsExactly(0, 1, 2);
+    final MethodInvoker valueInvoker =
+        getMethodInvoker(TestClass.class.getMethod("range", int.class), null, OutputMode.VALUE);
+    final Channel<Object, Object> channel2 = JRoutineCore.io().buildChannel();
+    valueInvoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.singletonList(3), channel2);
+    assertThat(channel2.close().all()).containsExactly(new int[]{0, 1, 2});
+    final MethodInvoker listInvoker =
+        getMethodInvoker(TestClass.class.getMethod("list", int.class), null, OutputMode.ELEMENT);
+    final Channel<Object, Object> channel3 = JRoutineCore.io().buildChannel();
+    listInvoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.singletonList(2), channel3);
+    assertThat(channel3.close().all()).containsExactly(0, 1);
+  }
+
+  @Test
+  public void testInvocationError() throws Exception {
+
+    final MethodInvoker invoker =
+        getMethodInvoker(TestClass.class.getMethod("fail"), null, null);
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    try {
+      invoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.emptyList(), channel);
+      fail();
+
+    } catch (final InvocationException e) {
+      assertThat(e.getCause()).isExactlyInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testNullPointerError() throws Exception {
+
+    try {
+      getMethodInvoker(null, null, null);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+
+    }
+
+    final MethodInvoker invoker =
+        getMethodInvoker(TestClass.class.getMethod("twice", int.class), null, null);
+    try {
+      invoker.call(Mutex.NO_MUTEX, null, Collections.singletonList(1),
+          JRoutineCore.io().buildChannel());
+      fail();
+
+    } catch (final NullPointerException ignored) {
+
+    }
+  }
+
+  @Test
+  public void testPrimitiveResult() throws Exception {
+
+    final MethodInvoker invoker =
+        getMethodInvoker(TestClass.class.getMethod("twice", int.class), null, null);
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    invoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.singletonList(3), channel);
+    invoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.singletonList(5), channel);
+    assertThat(channel.close().all()).containsExactly(6, 10);
+  }
+
+  @Test
+  public void testVarargs() throws Exception {
+
+    final MethodInvoker invoker =
+        getMethodInvoker(TestClass.class.getMethod("sum", int[].class), InputMode.COLLECTION,
+            null);
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    invoker.call(Mutex.NO_MUTEX, new TestClass(), Arrays.asList(1, 2, 3), channel);
+    invoker.call(Mutex.NO_MUTEX, new TestClass(), Collections.emptyList(), channel);
+    assertThat(channel.close().all()).containsExactly(6, 0);
+  }
+
+  @Test
+  public void testVoidResult() throws Exception {
+
+    final TestClass target = new TestClass();
+    final MethodInvoker invoker =
+        getMethodInvoker(TestClass.class.getMethod("add", int.class), null, null);
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    invoker.call(Mutex.NO_MUTEX, target, Collections.singletonList(3), channel);
+    invoker.call(Mutex.NO_MUTEX, target, Collections.singletonList(4), channel);
+    assertThat(channel.close().all()).isEmpty();
+    assertThat(target.mSum).isEqualTo(7);
+  }
+
+  @SuppressWarnings("unused")
+  public static class IndexedClass {
+
+    @Alias("a")
+    public int first() {
+      return 1;
+    }
+
+    @Alias("b")
+    public int second() {
+      return 2;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class TestClass {
+
+    private int mSum;
+
+    public void add(final int value) {
+      mSum += value;
+    }
+
+    public void fail() {
+      throw new IllegalStateException();
+    }
+
+    public List<Integer> list(final int count) {
+      final Integer[] values = new Integer[count];
+      for (int i = 0; i < count; ++i) {
+        values[i] = i;
+      }
+
+      return Arrays.asList(values);
+    }
+
+    public int[] range(final int count) {
+      final int[] values = new int[count];
+      for (int i = 0; i < count; ++i) {
+        values[i] = i;
+      }
+
+      return values;
+    }
+
+    public int sum(final int... values) {
+      int sum = 0;
+      for (final int value : values) {
+        sum += value;
+      }
+
+      return sum;
+    }
+
+    public int twice(final int value) {
+      return value << 1;
+    }
+  }
+}
+
+/**
+ * Out of date alias index, missing the last added alias.
+ */
+@SuppressWarnings("unused")
+class BuildersTest_IndexedClass_AliasIndex {
+
+  public static final String[][] ALIASES =
+      {{"a", "com.github.dm.jrt.object.builder.BuildersTest$IndexedClass", "first"}};
+}
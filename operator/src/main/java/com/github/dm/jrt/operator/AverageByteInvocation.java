@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.LONG;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -44,7 +46,7 @@ class AverageByteInvocation extends TemplateInvocation<Number, Byte> {
 
   private int mCount;
 
-  private Number mSum;
+  private byte mSum;
 
   /**
    * Constructor.
@@ -69,19 +71,25 @@ class AverageByteInvocation extends TemplateInvocation<Number, Byte> {
       result.pass((byte) 0);
 
     } else {
-      result.pass((byte) (mSum.byteValue() / mCount));
+      result.pass((byte) (mSum / mCount));
     }
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Byte, ?> result) {
-    mSum = addOptimistic(mSum, input).byteValue();
+    if (rankOf(input.getClass()) <= LONG) {
+      mSum += input.byteValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).byteValue();
+    }
+
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum = 0;
     mCount = 0;
   }
 }
@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.DOUBLE;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -44,7 +46,7 @@ class AverageDoubleInvocation extends TemplateInvocation<Number, Double> {
 
   private int mCount;
 
-  private Number mSum;
+  private double mSum;
 
   /**
    * Constructor.
@@ -69,19 +71,25 @@ class AverageDoubleInvocation extends TemplateInvocation<Number, Double> {
       result.pass(0d);
 
     } else {
-      result.pass(mSum.doubleValue() / mCount);
+      result.pass(mSum / mCount);
     }
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Double, ?> result) {
-    mSum = addOptimistic(mSum, input).doubleValue();
+    if (rankOf(input.getClass()) <= DOUBLE) {
+      mSum += input.doubleValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).doubleValue();
+    }
+
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum = 0;
     mCount = 0;
   }
 }
@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.FLOAT;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -44,7 +46,7 @@ class AverageFloatInvocation extends TemplateInvocation<Number, Float> {
 
   private int mCount;
 
-  private Number mSum;
+  private float mSum;
 
   /**
    * Constructor.
@@ -69,19 +71,25 @@ class AverageFloatInvocation extends TemplateInvocation<Number, Float> {
       result.pass(0f);
 
     } else {
-      result.pass(mSum.floatValue() / mCount);
+      result.pass(mSum / mCount);
     }
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Float, ?> result) {
-    mSum = addOptimistic(mSum, input).floatValue();
+    if (rankOf(input.getClass()) <= FLOAT) {
+      mSum += input.floatValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).floatValue();
+    }
+
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum = 0;
     mCount = 0;
   }
 }
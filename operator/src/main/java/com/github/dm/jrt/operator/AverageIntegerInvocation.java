@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.LONG;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -44,7 +46,7 @@ class AverageIntegerInvocation extends TemplateInvocation<Number, Integer> {
 
   private int mCount;
 
-  private Number mSum;
+  private int mSum;
 
   /**
    * Constructor.
@@ -69,19 +71,25 @@ class AverageIntegerInvocation extends TemplateInvocation<Number, Integer> {
       result.pass(0);
 
     } else {
-      result.pass(mSum.intValue() / mCount);
+      result.pass(mSum / mCount);
     }
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Integer, ?> result) {
-    mSum = addOptimistic(mSum, input).intValue();
+    if (rankOf(input.getClass()) <= LONG) {
+      mSum += input.intValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).intValue();
+    }
+
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum = 0;
     mCount = 0;
   }
 }
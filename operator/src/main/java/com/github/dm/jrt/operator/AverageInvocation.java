@@ -27,8 +27,6 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 
-import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
-
 /**
  * Invocation computing the average of the input numbers.
  * <br>
@@ -48,9 +46,9 @@ class AverageInvocation extends TemplateInvocation<Number, Number> {
         }
       };
 
-  private int mCount;
+  private final NumberAccumulator mSum = new NumberAccumulator(Byte.class);
 
-  private Number mSum;
+  private int mCount;
 
   /**
    * Constructor.
@@ -75,7 +73,7 @@ class AverageInvocation extends TemplateInvocation<Number, Number> {
 
     } else {
       final Number mean;
-      final Number sum = mSum;
+      final Number sum = mSum.get();
       if (sum instanceof BigDecimal) {
         mean = ((BigDecimal) sum).divide(new BigDecimal(mCount), 15, RoundingMode.HALF_UP);
 
@@ -110,13 +108,13 @@ class AverageInvocation extends TemplateInvocation<Number, Number> {
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Number, ?> result) {
-    mSum = addOptimistic(mSum, input);
+    mSum.add(input);
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum.reset();
     mCount = 0;
   }
 }
@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.LONG;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -44,7 +46,7 @@ class AverageLongInvocation extends TemplateInvocation<Number, Long> {
 
   private int mCount;
 
-  private Number mSum;
+  private long mSum;
 
   /**
    * Constructor.
@@ -68,19 +70,25 @@ class AverageLongInvocation extends TemplateInvocation<Number, Long> {
       result.pass(0L);
 
     } else {
-      result.pass(mSum.longValue() / mCount);
+      result.pass(mSum / mCount);
     }
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Long, ?> result) {
-    mSum = addOptimistic(mSum, input).longValue();
+    if (rankOf(input.getClass()) <= LONG) {
+      mSum += input.longValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).longValue();
+    }
+
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum = 0;
     mCount = 0;
   }
 }
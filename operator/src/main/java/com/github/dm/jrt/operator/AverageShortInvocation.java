@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.LONG;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -44,7 +46,7 @@ class AverageShortInvocation extends TemplateInvocation<Number, Short> {
 
   private int mCount;
 
-  private Number mSum;
+  private short mSum;
 
   /**
    * Constructor.
@@ -68,19 +70,25 @@ class AverageShortInvocation extends TemplateInvocation<Number, Short> {
       result.pass((short) 0);
 
     } else {
-      result.pass((short) (mSum.shortValue() / mCount));
+      result.pass((short) (mSum / mCount));
     }
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Short, ?> result) {
-    mSum = addOptimistic(mSum, input).shortValue();
+    if (rankOf(input.getClass()) <= LONG) {
+      mSum += input.shortValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).shortValue();
+    }
+
     ++mCount;
   }
 
   @Override
   public void onRestart() {
-    mSum = (byte) 0;
+    mSum = 0;
     mCount = 0;
   }
 }
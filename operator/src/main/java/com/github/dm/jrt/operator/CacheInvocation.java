@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.MappingInvocation;
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+
+/**
+ * Mapping invocation passing the outputs retrieved from a cache.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+class CacheInvocation<IN, OUT> extends MappingInvocation<IN, OUT> {
+
+  private final OutputCache<IN, OUT> mCache;
+
+  /**
+   * Constructor.
+   *
+   * @param cache the output cache.
+   */
+  CacheInvocation(@NotNull final OutputCache<IN, OUT> cache) {
+    super(asArgs(ConstantConditions.notNull("output cache", cache)));
+    mCache = cache;
+  }
+
+  public void onInput(final IN input, @NotNull final Channel<OUT, ?> result) throws Exception {
+    mCache.get(input, result);
+  }
+}
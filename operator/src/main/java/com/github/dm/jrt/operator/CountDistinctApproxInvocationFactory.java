@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.Invocation;
+import com.github.dm.jrt.core.invocation.InvocationFactory;
+import com.github.dm.jrt.core.invocation.TemplateInvocation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+
+/**
+ * Factory of invocations estimating the number of unique inputs, by employing a HyperLogLog
+ * sketch.
+ * <br>
+ * Each invocation employs {@code 2^precision} bytes of memory, independently of the number of
+ * inputs, while the relative standard error of the estimate is about
+ * {@code 1.04 / sqrt(2^precision)}.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+class CountDistinctApproxInvocationFactory extends InvocationFactory<Object, Long> {
+
+  private static final int MAX_PRECISION = 18;
+
+  private static final int MIN_PRECISION = 4;
+
+  private final int mPrecision;
+
+  /**
+   * Constructor.
+   *
+   * @param precision the number of bits used to index the sketch registers.
+   * @throws java.lang.IllegalArgumentException if the precision is out of the range [4, 18].
+   */
+  CountDistinctApproxInvocationFactory(final int precision) {
+    super(asArgs(precision));
+    if ((precision < MIN_PRECISION) || (precision > MAX_PRECISION)) {
+      throw new IllegalArgumentException(
+          "the precision must be in the range [" + MIN_PRECISION + ", " + MAX_PRECISION
+              + "], but is: " + precision);
+    }
+
+    mPrecision = precision;
+  }
+
+  @NotNull
+  @Override
+  public Invocation<Object, Long> newInvocation() {
+    return new CountDistinctApproxInvocation(mPrecision);
+  }
+
+  /**
+   * Routine invocation estimating the number of unique inputs.
+   */
+  private static class CountDistinctApproxInvocation extends TemplateInvocation<Object, Long> {
+
+    private final double mAlpha;
+
+    private final int mPrecision;
+
+    private final byte[] mRegisters;
+
+    /**
+     * Constructor.
+     *
+     * @param precision the number of bits used to index the sketch registers.
+     */
+    private CountDistinctApproxInvocation(final int precision) {
+      final int count = 1 << precision;
+      mPrecision = precision;
+      mRegisters = new byte[count];
+      if (count == 16) {
+        mAlpha = 0.673;
+
+      } else if (count == 32) {
+        mAlpha = 0.697;
+
+      } else if (count == 64) {
+        mAlpha = 0.709;
+
+      } else {
+        mAlpha = 0.7213 / (1 + 1.079 / count);
+      }
+    }
+
+    private static long mix(long hash) {
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      hash *= 0xc4ceb9fe1a85ec53L;
+      hash ^= hash >>> 33;
+      return hash;
+    }
+
+    @Override
+    public void onComplete(@NotNull final Channel<Long, ?> result) {
+      final byte[] registers = mRegisters;
+      final int count = registers.length;
+      double sum = 0;
+      int zeros = 0;
+      for (final byte register : registers) {
+        if (register == 0) {
+          ++zeros;
+        }
+
+        sum += 1.0 / (1L << register);
+      }
+
+      double estimate = mAlpha * count * count / sum;
+      if ((estimate <= 2.5 * count) && (zeros > 0)) {
+        // Small range correction (linear counting)
+        estimate = count * Math.log((double) count / zeros);
+      }
+
+      result.pass(Math.round(estimate));
+    }
+
+    @Override
+    public void onInput(final Object input, @NotNull final Channel<Long, ?> result) {
+      final int precision = mPrecision;
+      final long hash = mix((input != null) ? input.hashCode() : 0);
+      final int index = (int) (hash >>> (64 - precision));
+      final byte rank =
+          (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+      final byte[] registers = mRegisters;
+      if (rank > registers[index]) {
+        registers[index] = rank;
+      }
+    }
+
+    @Override
+    public void onRestart() {
+      Arrays.fill(mRegisters, (byte) 0);
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.Invocation;
+import com.github.dm.jrt.core.invocation.InvocationFactory;
+import com.github.dm.jrt.core.invocation.TemplateInvocation;
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+
+/**
+ * Factory of invocations filtering out inputs which are probably not unique, by employing a Bloom
+ * filter.
+ * <br>
+ * The memory used by each invocation depends only on the expected number of unique inputs and on
+ * the desired false positive probability, and not on the actual number of inputs.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <DATA> the data type.
+ */
+class DistinctApproxInvocationFactory<DATA> extends InvocationFactory<DATA, DATA> {
+
+  private static final double LN2 = Math.log(2);
+
+  private final int mHashCount;
+
+  private final int mWordCount;
+
+  /**
+   * Constructor.
+   *
+   * @param expectedSize the expected number of unique inputs.
+   * @param fpp          the false positive probability.
+   * @throws java.lang.IllegalArgumentException if the size is not positive or the probability is
+   *                                            not in the range ]0, 1[.
+   */
+  DistinctApproxInvocationFactory(final int expectedSize, final double fpp) {
+    super(asArgs(ConstantConditions.positive("expected size", expectedSize), fpp));
+    if ((fpp <= 0) || (fpp >= 1)) {
+      throw new IllegalArgumentException(
+          "the false positive probability must be in the range ]0, 1[, but is: " + fpp);
+    }
+
+    final long bitCount =
+        Math.max(64, (long) Math.ceil(-expectedSize * Math.log(fpp) / (LN2 * LN2)));
+    mWordCount = (int) Math.min(Integer.MAX_VALUE, (bitCount + 63) >>> 6);
+    mHashCount = Math.max(1, (int) Math.round((double) bitCount / expectedSize * LN2));
+  }
+
+  @NotNull
+  @Override
+  public Invocation<DATA, DATA> newInvocation() {
+    return new DistinctApproxInvocation<DATA>(mWordCount, mHashCount);
+  }
+
+  /**
+   * Routine invocation filtering out inputs which are probably not unique.
+   *
+   * @param <DATA> the data type.
+   */
+  private static class DistinctApproxInvocation<DATA> extends TemplateInvocation<DATA, DATA> {
+
+    private final long[] mBits;
+
+    private final long mBitCount;
+
+    private final int mHashCount;
+
+    private boolean mIsDirty;
+
+    /**
+     * Constructor.
+     *
+     * @param wordCount the number of long words backing the filter.
+     * @param hashCount the number of hash functions.
+     */
+    private DistinctApproxInvocation(final int wordCount, final int hashCount) {
+      mBits = new long[wordCount];
+      mBitCount = (long) wordCount << 6;
+      mHashCount = hashCount;
+    }
+
+    private static long mix(long hash) {
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      hash *= 0xc4ceb9fe1a85ec53L;
+      hash ^= hash >>> 33;
+      return hash;
+    }
+
+    @Override
+    public void onInput(final DATA input, @NotNull final Channel<DATA, ?> result) {
+      // Kirsch-Mitzenmacher double hashing: g_i(x) = h1(x) + i * h2(x)
+      final long hash = mix((input != null) ? input.hashCode() : 0);
+      final long h1 = hash & 0xffffffffL;
+      final long h2 = (hash >>> 32) | 1;
+      final long[] bits = mBits;
+      final long bitCount = mBitCount;
+      boolean isNew = false;
+      long combined = h1;
+      for (int i = 0; i < mHashCount; ++i) {
+        final long index = (combined & Long.MAX_VALUE) % bitCount;
+        final int word = (int) (index >>> 6);
+        final long mask = 1L << index;
+        if ((bits[word] & mask) == 0) {
+          bits[word] |= mask;
+          isNew = true;
+        }
+
+        combined += h2;
+      }
+
+      if (isNew) {
+        mIsDirty = true;
+        result.pass(input);
+      }
+    }
+
+    @Override
+    public void onRestart() {
+      if (mIsDirty) {
+        Arrays.fill(mBits, 0);
+        mIsDirty = false;
+      }
+    }
+  }
+}
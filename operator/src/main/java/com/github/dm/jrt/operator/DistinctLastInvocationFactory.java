@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.Invocation;
+import com.github.dm.jrt.core.invocation.InvocationFactory;
+import com.github.dm.jrt.core.invocation.TemplateInvocation;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.LruHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+
+/**
+ * Factory of invocations filtering out inputs which are equal to one of the last unique ones.
+ * <br>
+ * The least recently seen input is evicted as soon as the number of tracked inputs exceeds the
+ * specified count.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <DATA> the data type.
+ */
+class DistinctLastInvocationFactory<DATA> extends InvocationFactory<DATA, DATA> {
+
+  private final int mCount;
+
+  /**
+   * Constructor.
+   *
+   * @param count the maximum number of unique inputs to track.
+   * @throws java.lang.IllegalArgumentException if the count is not positive.
+   */
+  DistinctLastInvocationFactory(final int count) {
+    super(asArgs(ConstantConditions.positive("count", count)));
+    mCount = count;
+  }
+
+  @NotNull
+  @Override
+  public Invocation<DATA, DATA> newInvocation() {
+    return new DistinctLastInvocation<DATA>(mCount);
+  }
+
+  /**
+   * Routine invocation filtering out inputs which are equal to one of the last {@code count}
+   * unique ones.
+   *
+   * @param <DATA> the data type.
+   */
+  private static class DistinctLastInvocation<DATA> extends TemplateInvocation<DATA, DATA> {
+
+    private static final Object PLACEHOLDER = new Object();
+
+    private final LruHashMap<DATA, Object> mMap;
+
+    /**
+     * Constructor.
+     *
+     * @param count the maximum number of unique inputs to track.
+     */
+    private DistinctLastInvocation(final int count) {
+      mMap = new LruHashMap<DATA, Object>(count);
+    }
+
+    @Override
+    public void onInput(final DATA input, @NotNull final Channel<DATA, ?> result) {
+      if (mMap.put(input, PLACEHOLDER) == null) {
+        result.pass(input);
+      }
+    }
+
+    @Override
+    public void onRecycle(final boolean isReused) {
+      mMap.clear();
+    }
+  }
+}
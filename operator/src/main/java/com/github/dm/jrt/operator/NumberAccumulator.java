@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
+
+/**
+ * Class accumulating the sum of numbers into an unboxed state.
+ * <br>
+ * The state is widened only when an input with a higher precision is added, while the result is
+ * boxed only when explicitly requested. The computed sum is the same as the one obtained by
+ * repeatedly calling {@link com.github.dm.jrt.operator.math.Numbers#addOptimistic(Number, Number)
+ * Numbers.addOptimistic(Number, Number)}.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+class NumberAccumulator {
+
+  /**
+   * The rank of unsupported numbers.
+   */
+  static final int OTHER = -1;
+
+  /**
+   * The rank of byte numbers.
+   */
+  static final int BYTE = 0;
+
+  /**
+   * The rank of short numbers.
+   */
+  static final int SHORT = 1;
+
+  /**
+   * The rank of integer numbers.
+   */
+  static final int INTEGER = 2;
+
+  /**
+   * The rank of long numbers.
+   */
+  static final int LONG = 3;
+
+  /**
+   * The rank of float numbers.
+   */
+  static final int FLOAT = 4;
+
+  /**
+   * The rank of double numbers.
+   */
+  static final int DOUBLE = 5;
+
+  /**
+   * The rank of big numbers.
+   */
+  static final int BIG = 6;
+
+  private final int mSeedRank;
+
+  private Number mBig;
+
+  private double mDouble;
+
+  private float mFloat;
+
+  private Class<?> mLastType;
+
+  private int mLastTypeRank;
+
+  private long mLong;
+
+  private int mRank;
+
+  /**
+   * Constructor.
+   *
+   * @param seedType the type of the zero value the sum starts from.
+   */
+  NumberAccumulator(@NotNull final Class<? extends Number> seedType) {
+    mSeedRank = rankOf(seedType);
+    reset();
+  }
+
+  /**
+   * Returns the rank of the specified number type.
+   * <br>
+   * Unsupported types are given the lowest rank, since the sum type does not change when they are
+   * added to it.
+   *
+   * @param type the number type.
+   * @return the rank.
+   */
+  static int rankOf(@NotNull final Class<?> type) {
+    if (type == Integer.class) {
+      return INTEGER;
+
+    } else if (type == Long.class) {
+      return LONG;
+
+    } else if (type == Double.class) {
+      return DOUBLE;
+
+    } else if (type == Float.class) {
+      return FLOAT;
+
+    } else if (type == Short.class) {
+      return SHORT;
+
+    } else if (type == Byte.class) {
+      return BYTE;
+
+    } else if (BigDecimal.class.isAssignableFrom(type) || BigInteger.class.isAssignableFrom(
+        type)) {
+      return BIG;
+    }
+
+    return OTHER;
+  }
+
+  /**
+   * Adds the specified number to the sum.
+   *
+   * @param n the number.
+   */
+  void add(@NotNull final Number n) {
+    final Class<? extends Number> type = n.getClass();
+    if (type != mLastType) {
+      mLastType = type;
+      mLastTypeRank = rankOf(type);
+    }
+
+    final int rank = mLastTypeRank;
+    if (rank > mRank) {
+      widen(rank);
+
+    } else if ((rank == OTHER) && (mRank != BIG)) {
+      // Unsupported numbers are converted to the sum type
+      final Number sum = addOptimistic(get(), n);
+      mLong = sum.longValue();
+      mFloat = sum.floatValue();
+      mDouble = sum.doubleValue();
+      return;
+    }
+
+    switch (mRank) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        // Narrowing is applied only when the sum is boxed, since it gives the same result
+        mLong += n.longValue();
+        break;
+      case FLOAT:
+        mFloat += n.floatValue();
+        break;
+      case DOUBLE:
+        mDouble += n.doubleValue();
+        break;
+      default:
+        mBig = addOptimistic(mBig, n);
+        break;
+    }
+  }
+
+  /**
+   * Returns the sum boxed into a number of the proper type.
+   *
+   * @return the sum.
+   */
+  @NotNull
+  Number get() {
+    switch (mRank) {
+      case BYTE:
+        return (byte) mLong;
+      case SHORT:
+        return (short) mLong;
+      case INTEGER:
+        return (int) mLong;
+      case LONG:
+        return mLong;
+      case FLOAT:
+        return mFloat;
+      case DOUBLE:
+        return mDouble;
+      default:
+        return mBig;
+    }
+  }
+
+  /**
+   * Resets the sum to zero.
+   */
+  void reset() {
+    mRank = mSeedRank;
+    mLong = 0;
+    mFloat = 0;
+    mDouble = 0;
+    mBig = null;
+  }
+
+  private void widen(final int rank) {
+    if (rank == BIG) {
+      mBig = get();
+
+    } else if (mRank < FLOAT) {
+      final long value = get().longValue();
+      if (rank == FLOAT) {
+        mFloat = value;
+
+      } else if (rank == DOUBLE) {
+        mDouble = value;
+
+      } else {
+        mLong = value;
+      }
+
+    } else {
+      mDouble = mFloat;
+    }
+
+    mRank = rank;
+  }
+}
@@ -25,6 +25,7 @@ import com.github.dm.jrt.core.common.RoutineException;
 import com.github.dm.jrt.core.invocation.IdentityInvocation;
 import com.github.dm.jrt.core.invocation.InvocationFactory;
 import com.github.dm.jrt.core.invocation.MappingInvocation;
+import com.github.dm.jrt.core.routine.Routine;
 import com.github.dm.jrt.core.util.ClassToken;
 import com.github.dm.jrt.core.util.ConstantConditions;
 import com.github.dm.jrt.core.util.UnitDuration;
@@ -49,6 +50,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +65,8 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("WeakerAccess")
 public class Operators {
 
+  private static final int DEFAULT_CARDINALITY_PRECISION = 14;
+
   private static final BiConsumer<? extends Collection<?>, ?> sCollectConsumer =
       new BiConsumer<Collection<Object>, Object>() {
 
@@ -370,6 +374,77 @@ public class Operators {
     return (InvocationFactory<N, Short>) AverageShortInvocation.factoryOf();
   }
 
+  /**
+   * Returns a factory of invocations passing only the specified number of smallest input data, as
+   * per the specified comparator, in ascending order.
+   * <p>
+   * Given a numeric sequence of inputs from 0 to 9, a count of 3, and a comparator following the
+   * natural ordering, the final output will be:
+   * <pre>
+   *     <code>
+   *
+   *         =&gt; [0, 1, 2]
+   *     </code>
+   * </pre>
+   * <p>
+   * Note that, unlike sorting the inputs and then limiting them, the employed memory is
+   * proportional only to the specified count.
+   *
+   * @param count      the maximum number of data to pass.
+   * @param comparator the comparator instance.
+   * @param <DATA>     the data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the count is negative.
+   */
+  @NotNull
+  public static <DATA> InvocationFactory<DATA, DATA> bottomK(final int count,
+      @NotNull final Comparator<? super DATA> comparator) {
+    return new TopInvocationFactory<DATA>(count,
+        Collections.reverseOrder(ConstantConditions.notNull("comparator instance", comparator)));
+  }
+
+  /**
+   * Returns a factory of invocations passing the outputs produced by the routine of the specified
+   * cache for each input.
+   * <br>
+   * Note that the same cache instance can be shared among several invocation factories.
+   *
+   * @param cache the output cache.
+   * @param <IN>  the input data type.
+   * @param <OUT> the output data type.
+   * @return the invocation factory instance.
+   * @see com.github.dm.jrt.operator.OutputCache OutputCache
+   */
+  @NotNull
+  public static <IN, OUT> InvocationFactory<IN, OUT> cache(
+      @NotNull final OutputCache<IN, OUT> cache) {
+    return new CacheInvocation<IN, OUT>(cache);
+  }
+
+  /**
+   * Returns a factory of invocations passing the outputs produced by the specified routine for
+   * each input, by caching them for the specified time.
+   * <br>
+   * Only the results of invocations completing successfully are cached, and the least recently
+   * used entries are evicted when the maximum size is exceeded. Concurrent requests for the same
+   * input are coalesced into one single routine invocation.
+   *
+   * @param routine    the routine instance.
+   * @param maxSize    the maximum number of cached entries.
+   * @param timeToLive the time to live of the cached entries.
+   * @param <IN>       the input data type.
+   * @param <OUT>      the output data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the size is 0 or negative.
+   * @see com.github.dm.jrt.operator.OutputCache OutputCache
+   */
+  @NotNull
+  public static <IN, OUT> InvocationFactory<IN, OUT> cache(
+      @NotNull final Routine<? super IN, ? extends OUT> routine, final int maxSize,
+      @NotNull final UnitDuration timeToLive) {
+    return cache(new OutputCache<IN, OUT>(routine, maxSize, timeToLive));
+  }
+
   /**
    * Returns a factory of invocations casting the passed inputs to the specified class.
    *
@@ -479,6 +554,43 @@ public class Operators {
     return (InvocationFactory<DATA, Long>) CountInvocation.factoryOf();
   }
 
+  /**
+   * Returns a factory of invocations estimating the number of unique input data.
+   * <br>
+   * The inputs are compared for equality by employing their {@code hashCode()} method, and the
+   * estimate is computed through a HyperLogLog sketch with a relative standard error of about 0.8%.
+   * <p>
+   * Note that the employed memory does not depend on the number of inputs.
+   *
+   * @param <DATA> the data type.
+   * @return the invocation factory instance.
+   */
+  @NotNull
+  public static <DATA> InvocationFactory<DATA, Long> countDistinctApprox() {
+    return countDistinctApprox(DEFAULT_CARDINALITY_PRECISION);
+  }
+
+  /**
+   * Returns a factory of invocations estimating the number of unique input data.
+   * <br>
+   * The inputs are compared for equality by employing their {@code hashCode()} method, and the
+   * estimate is computed through a HyperLogLog sketch made of {@code 2^precision} registers, with
+   * a relative standard error of about {@code 1.04 / sqrt(2^precision)}.
+   * <p>
+   * Note that the employed memory does not depend on the number of inputs.
+   *
+   * @param precision the number of bits used to index the sketch registers.
+   * @param <DATA>    the data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the precision is out of the range [4, 18].
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  public static <DATA> InvocationFactory<DATA, Long> countDistinctApprox(final int precision) {
+    return (InvocationFactory<DATA, Long>) (InvocationFactory<?, Long>)
+        new CountDistinctApproxInvocationFactory(precision);
+  }
+
   /**
    * Returns a factory of invocations filtering out inputs which are not unique (according to the
    * {@code equals(Object)} method).
@@ -491,6 +603,30 @@ public class Operators {
     return DistinctInvocation.factoryOf();
   }
 
+  /**
+   * Returns a factory of invocations filtering out inputs which are probably not unique (according
+   * to the {@code hashCode()} method).
+   * <br>
+   * The uniqueness is checked through a Bloom filter sized for the specified number of unique
+   * inputs, so that an input might be wrongly discarded with the specified probability, while
+   * no duplicate will ever be passed on.
+   * <p>
+   * Note that the employed memory does not depend on the number of inputs.
+   *
+   * @param expectedSize the expected number of unique inputs.
+   * @param fpp          the false positive probability, that is, the probability of discarding a
+   *                     unique input.
+   * @param <DATA>       the data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the size is not positive or the probability is
+   *                                            not in the range ]0, 1[.
+   */
+  @NotNull
+  public static <DATA> InvocationFactory<DATA, DATA> distinctApprox(final int expectedSize,
+      final double fpp) {
+    return new DistinctApproxInvocationFactory<DATA>(expectedSize, fpp);
+  }
+
   /**
    * Returns a factory of invocations filtering out inputs which are not unique (according to
    * identity comparison).
@@ -503,6 +639,31 @@ public class Operators {
     return DistinctIdentityInvocation.factoryOf();
   }
 
+  /**
+   * Returns a factory of invocations filtering out inputs which are equal to one of the last
+   * unique ones (according to the {@code equals(Object)} method).
+   * <br>
+   * At max the specified number of unique inputs is retained, by evicting the least recently seen
+   * one, so that a duplicate might be passed on again once it has been evicted.
+   * <p>
+   * Given the sequence of inputs [0, 1, 0, 2, 3, 1], and a count of 2, the final output will be:
+   * <pre>
+   *     <code>
+   *
+   *         =&gt; [0, 1, 2, 3, 1]
+   *     </code>
+   * </pre>
+   *
+   * @param count  the maximum number of unique inputs to retain.
+   * @param <DATA> the data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the count is not positive.
+   */
+  @NotNull
+  public static <DATA> InvocationFactory<DATA, DATA> distinctLast(final int count) {
+    return new DistinctLastInvocationFactory<DATA>(count);
+  }
+
   /**
    * Returns a factory of invocations filtering data based on the values returned by the specified
    * predicate.
@@ -1510,6 +1671,72 @@ public class Operators {
     return new SkipLastInvocationFactory<DATA>(count);
   }
 
+  /**
+   * Returns a factory of invocations grouping the input data into windows of the specified size,
+   * a new window being opened every {@code step} inputs.
+   * <br>
+   * Each window is passed as result as soon as it is full, while the trailing partial windows are
+   * passed when the invocation completes.
+   * <p>
+   * Given a numeric sequence of inputs from 0 to 5, a size of 3 and a step of 2, the final output
+   * will be:
+   * <pre>
+   *     <code>
+   *
+   *         =&gt; [[0, 1, 2], [2, 3, 4], [4, 5]]
+   *     </code>
+   * </pre>
+   * Note that a step equal to the size produces tumbling windows, while a step greater than the
+   * size skips the inputs falling between two windows.
+   *
+   * @param size   the window size.
+   * @param step   the number of inputs between the start of two windows.
+   * @param <DATA> the data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the size or the step are not positive.
+   */
+  @NotNull
+  public static <DATA> InvocationFactory<DATA, List<DATA>> slidingWindow(final int size,
+      final int step) {
+    return SlidingWindowInvocationFactory.listFactory(size, step);
+  }
+
+  /**
+   * Returns a factory of invocations accumulating the input data into windows of the specified
+   * size, a new window being opened every {@code step} inputs.
+   * <br>
+   * The value of each window will be computed as follows:
+   * <pre>
+   *     <code>
+   *
+   *         acc = function.apply(acc, input);
+   *     </code>
+   * </pre>
+   * where the initial accumulated value will be the one returned by the specified supplier.
+   * <br>
+   * Each accumulated value is passed as result as soon as its window is full, while the ones of
+   * the trailing partial windows are passed when the invocation completes.
+   * <br>
+   * Note that only the windows currently open are retained in memory, so that the consumed memory
+   * does not depend on the window size.
+   *
+   * @param size               the window size.
+   * @param step               the number of inputs between the start of two windows.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the bi-function instance.
+   * @param <IN>               the input data type.
+   * @param <OUT>              the output data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the size or the step are not positive.
+   */
+  @NotNull
+  public static <IN, OUT> InvocationFactory<IN, OUT> slidingWindow(final int size, final int step,
+      @NotNull final Supplier<? extends OUT> seedSupplier,
+      @NotNull final BiFunction<? super OUT, ? super IN, ? extends OUT> accumulateFunction) {
+    return SlidingWindowInvocationFactory.functionFactory(size, step, seedSupplier,
+        accumulateFunction);
+  }
+
   /**
    * Returns a factory of invocations sorting inputs in their natural order.
    *
@@ -1876,6 +2103,34 @@ public class Operators {
     return ToSetInvocation.factoryOf();
   }
 
+  /**
+   * Returns a factory of invocations passing only the specified number of greatest input data, as
+   * per the specified comparator, in descending order.
+   * <p>
+   * Given a numeric sequence of inputs from 0 to 9, a count of 3, and a comparator following the
+   * natural ordering, the final output will be:
+   * <pre>
+   *     <code>
+   *
+   *         =&gt; [9, 8, 7]
+   *     </code>
+   * </pre>
+   * <p>
+   * Note that, unlike sorting the inputs and then limiting them, the employed memory is
+   * proportional only to the specified count.
+   *
+   * @param count      the maximum number of data to pass.
+   * @param comparator the comparator instance.
+   * @param <DATA>     the data type.
+   * @return the invocation factory instance.
+   * @throws java.lang.IllegalArgumentException if the count is negative.
+   */
+  @NotNull
+  public static <DATA> InvocationFactory<DATA, DATA> topK(final int count,
+      @NotNull final Comparator<? super DATA> comparator) {
+    return new TopInvocationFactory<DATA>(count, comparator);
+  }
+
   /**
    * Returns a bi-consumer unfolding iterable inputs into the returned elements.
    *
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.channel.ChannelConsumer;
+import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.invocation.InvocationException;
+import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
+import com.github.dm.jrt.core.routine.Routine;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.LruHashMap;
+import com.github.dm.jrt.core.util.UnitDuration;
+import com.github.dm.jrt.function.Function;
+import com.github.dm.jrt.function.FunctionDecorator;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class caching the outputs produced by a routine for each input.
+ * <br>
+ * The outputs are stored by key, where the key is computed by applying a specific function to the
+ * input (by default the input itself). The key objects will be compared for equality by employing
+ * the {@code equals()} method.
+ * <br>
+ * Only the results of invocations completing successfully are cached. When the maximum size is
+ * exceeded, the least recently used entries are evicted, while expired entries are evicted when
+ * accessed. Concurrent requests for the same missing key are coalesced, so that the routine is
+ * invoked only once and its outputs are dispatched to all the requesters.
+ * <p>
+ * In order to reduce contention, the entries are split among several segments, each one evicting
+ * its own least recently used entries.
+ * <br>
+ * Note that the very same output instances are passed to all the cache requesters.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+@SuppressWarnings("WeakerAccess")
+public class OutputCache<IN, OUT> {
+
+  private static final int MAX_SEGMENT_COUNT = 16;
+
+  private static final int MIN_SEGMENT_SIZE = 64;
+
+  private final AtomicLong mEvictionCount = new AtomicLong();
+
+  private final AtomicLong mHitCount = new AtomicLong();
+
+  private final FunctionDecorator<? super IN, ?> mKeyFunction;
+
+  private final int mMask;
+
+  private final AtomicLong mMissCount = new AtomicLong();
+
+  private final Routine<? super IN, ? extends OUT> mRoutine;
+
+  private final Segment<OUT>[] mSegments;
+
+  private final long mTimeToLiveNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param routine    the routine instance.
+   * @param maxSize    the maximum number of cached entries.
+   * @param timeToLive the time to live of the cached entries.
+   * @throws java.lang.IllegalArgumentException if the size is 0 or negative.
+   */
+  public OutputCache(@NotNull final Routine<? super IN, ? extends OUT> routine, final int maxSize,
+      @NotNull final UnitDuration timeToLive) {
+    this(routine, FunctionDecorator.<IN>identity(), maxSize, timeToLive);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param routine     the routine instance.
+   * @param keyFunction the function returning the key object for each input.
+   * @param maxSize     the maximum number of cached entries.
+   * @param timeToLive  the time to live of the cached entries.
+   * @throws java.lang.IllegalArgumentException if the size is 0 or negative.
+   */
+  @SuppressWarnings("unchecked")
+  public OutputCache(@NotNull final Routine<? super IN, ? extends OUT> routine,
+      @NotNull final Function<? super IN, ?> keyFunction, final int maxSize,
+      @NotNull final UnitDuration timeToLive) {
+    mRoutine = ConstantConditions.notNull("routine instance", routine);
+    mKeyFunction = FunctionDecorator.decorate(keyFunction);
+    ConstantConditions.positive("max cache size", maxSize);
+    mTimeToLiveNanos = timeToLive.toNanos();
+    final int segmentCount =
+        Math.max(1, Math.min(MAX_SEGMENT_COUNT, Integer.highestOneBit(maxSize / MIN_SEGMENT_SIZE)));
+    final int segmentSize = (maxSize + segmentCount - 1) / segmentCount;
+    final Segment<OUT>[] segments = (mSegments = new Segment[segmentCount]);
+    for (int i = 0; i < segmentCount; ++i) {
+      segments[i] = new Segment<OUT>(segmentSize, mEvictionCount);
+    }
+
+    mMask = segmentCount - 1;
+  }
+
+  /**
+   * Returns the total number of entries evicted from the cache, either because the maximum size
+   * was exceeded or because they expired.
+   *
+   * @return the eviction count.
+   */
+  public long getEvictionCount() {
+    return mEvictionCount.get();
+  }
+
+  /**
+   * Returns the total number of requests which did not cause the routine to be invoked, that is,
+   * served by a cached entry or by an already running invocation.
+   *
+   * @return the hit count.
+   */
+  public long getHitCount() {
+    return mHitCount.get();
+  }
+
+  /**
+   * Returns the total number of requests which caused the routine to be invoked.
+   *
+   * @return the miss count.
+   */
+  public long getMissCount() {
+    return mMissCount.get();
+  }
+
+  /**
+   * Passes the outputs associated with the specified input to the result channel.
+   * <br>
+   * If the outputs are not cached, the routine is invoked, unless an invocation with the same key
+   * is already running.
+   *
+   * @param input  the input.
+   * @param result the result channel.
+   * @throws java.lang.Exception if the key function throws an exception.
+   */
+  void get(final IN input, @NotNull final Channel<OUT, ?> result) throws Exception {
+    final Object key = mKeyFunction.apply(input);
+    int hashCode = (key != null) ? key.hashCode() : 0;
+    hashCode ^= (hashCode >>> 16);
+    final Segment<OUT> segment = mSegments[hashCode & mMask];
+    List<OUT> outputs = null;
+    Channel<OUT, OUT> channel = null;
+    boolean isLoad = false;
+    synchronized (segment) {
+      final LruHashMap<Object, CacheEntry<OUT>> entries = segment.mEntries;
+      final CacheEntry<OUT> entry = entries.get(key);
+      if (entry != null) {
+        if ((System.nanoTime() - entry.mTime) < mTimeToLiveNanos) {
+          outputs = entry.mOutputs;
+
+        } else {
+          entries.remove(key);
+          mEvictionCount.incrementAndGet();
+        }
+      }
+
+      if (outputs == null) {
+        channel = JRoutineCore.io().buildChannel();
+        final HashMap<Object, ArrayList<Channel<OUT, ?>>> inFlight = segment.mInFlight;
+        ArrayList<Channel<OUT, ?>> channels = inFlight.get(key);
+        if (channels == null) {
+          channels = new ArrayList<Channel<OUT, ?>>();
+          inFlight.put(key, channels);
+          isLoad = true;
+        }
+
+        channels.add(channel);
+      }
+    }
+
+    if (outputs != null) {
+      mHitCount.incrementAndGet();
+      result.pass(outputs);
+      return;
+    }
+
+    result.pass(channel);
+    if (!isLoad) {
+      mHitCount.incrementAndGet();
+      return;
+    }
+
+    mMissCount.incrementAndGet();
+    final LoadChannelConsumer consumer = new LoadChannelConsumer(segment, key);
+    try {
+      mRoutine.call(input).bind(consumer);
+
+    } catch (final Throwable t) {
+      consumer.onError(InvocationException.wrapIfNeeded(t));
+      InvocationInterruptedException.throwIfInterrupt(t);
+    }
+  }
+
+  /**
+   * Cache entry.
+   *
+   * @param <OUT> the output data type.
+   */
+  private static class CacheEntry<OUT> {
+
+    private final List<OUT> mOutputs;
+
+    private final long mTime;
+
+    /**
+     * Constructor.
+     *
+     * @param outputs the list of outputs.
+     * @param time    the creation time in nanoseconds.
+     */
+    private CacheEntry(@NotNull final List<OUT> outputs, final long time) {
+      mOutputs = outputs;
+      mTime = time;
+    }
+  }
+
+  /**
+   * Channel consumer collecting the outputs of an invocation and dispatching them to all the
+   * waiting channels.
+   */
+  private class LoadChannelConsumer implements ChannelConsumer<OUT> {
+
+    private final Object mKey;
+
+    private final ArrayList<OUT> mOutputs = new ArrayList<OUT>();
+
+    private final Segment<OUT> mSegment;
+
+    /**
+     * Constructor.
+     *
+     * @param segment the cache segment.
+     * @param key     the cache key.
+     */
+    private LoadChannelConsumer(@NotNull final Segment<OUT> segment, final Object key) {
+      mSegment = segment;
+      mKey = key;
+    }
+
+    public void onComplete() {
+      final ArrayList<OUT> outputs = mOutputs;
+      final ArrayList<Channel<OUT, ?>> channels;
+      final Segment<OUT> segment = mSegment;
+      synchronized (segment) {
+        channels = segment.mInFlight.remove(mKey);
+        segment.mEntries.put(mKey, new CacheEntry<OUT>(outputs, System.nanoTime()));
+      }
+
+      for (final Channel<OUT, ?> channel : channels) {
+        channel.pass(outputs).close();
+      }
+    }
+
+    public void onError(@NotNull final RoutineException error) {
+      final ArrayList<Channel<OUT, ?>> channels;
+      final Segment<OUT> segment = mSegment;
+      synchronized (segment) {
+        channels = segment.mInFlight.remove(mKey);
+      }
+
+      for (final Channel<OUT, ?> channel : channels) {
+        channel.abort(error);
+      }
+    }
+
+    public void onOutput(final OUT output) {
+      mOutputs.add(output);
+    }
+  }
+
+  /**
+   * Cache segment.
+   *
+   * @param <OUT> the output data type.
+   */
+  private static class Segment<OUT> {
+
+    private final LruHashMap<Object, CacheEntry<OUT>> mEntries;
+
+    private final HashMap<Object, ArrayList<Channel<OUT, ?>>> mInFlight =
+        new HashMap<Object, ArrayList<Channel<OUT, ?>>>();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize       the maximum number of entries.
+     * @param evictionCount the eviction counter.
+     */
+    @SuppressWarnings("serial")
+    private Segment(final int maxSize, @NotNull final AtomicLong evictionCount) {
+      mEntries = new LruHashMap<Object, CacheEntry<OUT>>(maxSize) {
+
+        @Override
+        protected boolean removeEldestEntry(final Entry<Object, CacheEntry<OUT>> eldest) {
+          final boolean isRemove = super.removeEldestEntry(eldest);
+          if (isRemove) {
+            evictionCount.incrementAndGet();
+          }
+
+          return isRemove;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.Invocation;
+import com.github.dm.jrt.core.invocation.InvocationFactory;
+import com.github.dm.jrt.core.invocation.TemplateInvocation;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.SimpleQueue;
+import com.github.dm.jrt.function.BiFunction;
+import com.github.dm.jrt.function.BiFunctionDecorator;
+import com.github.dm.jrt.function.Supplier;
+import com.github.dm.jrt.function.SupplierDecorator;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+import static com.github.dm.jrt.function.Functions.decorate;
+
+/**
+ * Factory of invocations accumulating data into windows of the specified size, opened every
+ * {@code step} inputs.
+ * <br>
+ * Each window incrementally accumulates its inputs, so that only the windows currently open are
+ * retained in memory.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+class SlidingWindowInvocationFactory<IN, OUT> extends InvocationFactory<IN, OUT> {
+
+  private static final BiFunctionDecorator<? extends List<?>, ?, ? extends List<?>> sAddFunction =
+      decorate(new BiFunction<List<Object>, Object, List<Object>>() {
+
+        public List<Object> apply(final List<Object> list, final Object input) {
+          list.add(input);
+          return list;
+        }
+      });
+
+  private static final SupplierDecorator<? extends List<?>> sListSupplier =
+      decorate(new Supplier<List<Object>>() {
+
+        public List<Object> get() {
+          return new ArrayList<Object>();
+        }
+      });
+
+  private final BiFunctionDecorator<? super OUT, ? super IN, ? extends OUT> mAccumulateFunction;
+
+  private final SupplierDecorator<? extends OUT> mSeedSupplier;
+
+  private final int mSize;
+
+  private final int mStep;
+
+  /**
+   * Constructor.
+   *
+   * @param size               the window size.
+   * @param step               the number of inputs between the start of two windows.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the accumulating bi-function instance.
+   * @throws java.lang.IllegalArgumentException if the size or the step are not positive.
+   */
+  private SlidingWindowInvocationFactory(final int size, final int step,
+      @NotNull final SupplierDecorator<? extends OUT> seedSupplier,
+      @NotNull final BiFunctionDecorator<? super OUT, ? super IN, ? extends OUT>
+          accumulateFunction) {
+    super(asArgs(ConstantConditions.positive("window size", size),
+        ConstantConditions.positive("window step", step), seedSupplier, accumulateFunction));
+    mSize = size;
+    mStep = step;
+    mSeedSupplier = seedSupplier;
+    mAccumulateFunction = accumulateFunction;
+  }
+
+  /**
+   * Builds and returns a new invocation factory accumulating data into windows through the
+   * specified bi-function.
+   *
+   * @param size               the window size.
+   * @param step               the number of inputs between the start of two windows.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the accumulating bi-function instance.
+   * @param <IN>               the input data type.
+   * @param <OUT>              the output data type.
+   * @return the invocation factory.
+   * @throws java.lang.IllegalArgumentException if the size or the step are not positive.
+   */
+  @NotNull
+  static <IN, OUT> InvocationFactory<IN, OUT> functionFactory(final int size, final int step,
+      @NotNull final Supplier<? extends OUT> seedSupplier,
+      @NotNull final BiFunction<? super OUT, ? super IN, ? extends OUT> accumulateFunction) {
+    return new SlidingWindowInvocationFactory<IN, OUT>(size, step, decorate(seedSupplier),
+        decorate(accumulateFunction));
+  }
+
+  /**
+   * Builds and returns a new invocation factory grouping data into lists.
+   *
+   * @param size   the window size.
+   * @param step   the number of inputs between the start of two windows.
+   * @param <DATA> the data type.
+   * @return the invocation factory.
+   * @throws java.lang.IllegalArgumentException if the size or the step are not positive.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  static <DATA> InvocationFactory<DATA, List<DATA>> listFactory(final int size, final int step) {
+    return new SlidingWindowInvocationFactory<DATA, List<DATA>>(size, step,
+        (SupplierDecorator<? extends List<DATA>>) sListSupplier,
+        (BiFunctionDecorator<? super List<DATA>, ? super DATA, ? extends List<DATA>>)
+            sAddFunction);
+  }
+
+  @NotNull
+  @Override
+  public Invocation<IN, OUT> newInvocation() {
+    return new SlidingWindowInvocation<IN, OUT>(mSize, mStep, mSeedSupplier, mAccumulateFunction);
+  }
+
+  /**
+   * Routine invocation accumulating data into sliding windows.
+   *
+   * @param <IN>  the input data type.
+   * @param <OUT> the output data type.
+   */
+  private static class SlidingWindowInvocation<IN, OUT> extends TemplateInvocation<IN, OUT> {
+
+    private final BiFunction<? super OUT, ? super IN, ? extends OUT> mAccumulateFunction;
+
+    private final Supplier<? extends OUT> mSeedSupplier;
+
+    private final int mSize;
+
+    private final int mStep;
+
+    private final SimpleQueue<Window<OUT>> mWindows = new SimpleQueue<Window<OUT>>();
+
+    private int mSkip;
+
+    /**
+     * Constructor.
+     *
+     * @param size               the window size.
+     * @param step               the number of inputs between the start of two windows.
+     * @param seedSupplier       the supplier of initial accumulation values.
+     * @param accumulateFunction the accumulating bi-function instance.
+     */
+    private SlidingWindowInvocation(final int size, final int step,
+        @NotNull final Supplier<? extends OUT> seedSupplier,
+        @NotNull final BiFunction<? super OUT, ? super IN, ? extends OUT> accumulateFunction) {
+      mSize = size;
+      mStep = step;
+      mSeedSupplier = seedSupplier;
+      mAccumulateFunction = accumulateFunction;
+    }
+
+    @Override
+    public void onComplete(@NotNull final Channel<OUT, ?> result) {
+      final SimpleQueue<Window<OUT>> windows = mWindows;
+      while (!windows.isEmpty()) {
+        result.pass(windows.removeFirst().accumulated);
+      }
+    }
+
+    @Override
+    public void onInput(final IN input, @NotNull final Channel<OUT, ?> result) throws Exception {
+      final SimpleQueue<Window<OUT>> windows = mWindows;
+      if (mSkip == 0) {
+        windows.add(new Window<OUT>(mSeedSupplier.get()));
+        mSkip = mStep;
+      }
+
+      --mSkip;
+      final BiFunction<? super OUT, ? super IN, ? extends OUT> function = mAccumulateFunction;
+      for (final Window<OUT> window : windows) {
+        window.accumulated = function.apply(window.accumulated, input);
+        ++window.count;
+      }
+
+      if (!windows.isEmpty() && (windows.peekFirst().count == mSize)) {
+        result.pass(windows.removeFirst().accumulated);
+      }
+    }
+
+    @Override
+    public void onRecycle(final boolean isReused) {
+      mWindows.clear();
+    }
+
+    @Override
+    public void onRestart() {
+      mSkip = 0;
+    }
+  }
+
+  /**
+   * Window data.
+   *
+   * @param <OUT> the output data type.
+   */
+  private static class Window<OUT> {
+
+    private OUT accumulated;
+
+    private int count;
+
+    /**
+     * Constructor.
+     *
+     * @param seed the initial accumulation value.
+     */
+    private Window(final OUT seed) {
+      accumulated = seed;
+    }
+  }
+}
@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.DOUBLE;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -67,7 +69,12 @@ class SumDoubleInvocation extends TemplateInvocation<Number, Double> {
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Double, ?> result) {
-    mSum = addOptimistic(mSum, input).doubleValue();
+    if (rankOf(input.getClass()) <= DOUBLE) {
+      mSum += input.doubleValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).doubleValue();
+    }
   }
 
   @Override
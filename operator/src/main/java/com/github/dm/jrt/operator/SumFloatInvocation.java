@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.FLOAT;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -67,7 +69,12 @@ class SumFloatInvocation extends TemplateInvocation<Number, Float> {
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Float, ?> result) {
-    mSum = addOptimistic(mSum, input).floatValue();
+    if (rankOf(input.getClass()) <= FLOAT) {
+      mSum += input.floatValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).floatValue();
+    }
   }
 
   @Override
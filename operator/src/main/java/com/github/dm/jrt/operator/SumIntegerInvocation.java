@@ -23,6 +23,8 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
+import static com.github.dm.jrt.operator.NumberAccumulator.LONG;
+import static com.github.dm.jrt.operator.NumberAccumulator.rankOf;
 import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
 
 /**
@@ -67,7 +69,12 @@ class SumIntegerInvocation extends TemplateInvocation<Number, Integer> {
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Integer, ?> result) {
-    mSum = addOptimistic(mSum, input).intValue();
+    if (rankOf(input.getClass()) <= LONG) {
+      mSum += input.intValue();
+
+    } else {
+      mSum = addOptimistic(mSum, input).intValue();
+    }
   }
 
   @Override
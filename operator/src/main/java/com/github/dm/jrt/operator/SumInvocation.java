@@ -23,8 +23,6 @@ import com.github.dm.jrt.core.invocation.TemplateInvocation;
 
 import org.jetbrains.annotations.NotNull;
 
-import static com.github.dm.jrt.operator.math.Numbers.addOptimistic;
-
 /**
  * Invocation computing the sum of the input numbers.
  * <br>
@@ -44,7 +42,7 @@ class SumInvocation extends TemplateInvocation<Number, Number> {
         }
       };
 
-  private Number mSum;
+  private final NumberAccumulator mSum = new NumberAccumulator(Integer.class);
 
   /**
    * Constructor.
@@ -64,16 +62,16 @@ class SumInvocation extends TemplateInvocation<Number, Number> {
 
   @Override
   public void onComplete(@NotNull final Channel<Number, ?> result) {
-    result.pass(mSum);
+    result.pass(mSum.get());
   }
 
   @Override
   public void onInput(final Number input, @NotNull final Channel<Number, ?> result) {
-    mSum = addOptimistic(mSum, input);
+    mSum.add(input);
   }
 
   @Override
   public void onRestart() {
-    mSum = 0;
+    mSum.reset();
   }
 }
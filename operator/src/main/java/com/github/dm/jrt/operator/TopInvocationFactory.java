@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.operator;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.Invocation;
+import com.github.dm.jrt.core.invocation.InvocationFactory;
+import com.github.dm.jrt.core.invocation.TemplateInvocation;
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+
+/**
+ * Factory of invocations passing only the greatest inputs, as per the specified comparator, in
+ * descending order.
+ * <br>
+ * The inputs are retained in a bounded binary heap, so that the employed memory is proportional
+ * only to the number of data to pass.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <DATA> the data type.
+ */
+class TopInvocationFactory<DATA> extends InvocationFactory<DATA, DATA> {
+
+  private final Comparator<? super DATA> mComparator;
+
+  private final int mCount;
+
+  /**
+   * Constructor.
+   *
+   * @param count      the number of data to pass.
+   * @param comparator the comparator instance.
+   * @throws java.lang.IllegalArgumentException if the count is negative.
+   */
+  TopInvocationFactory(final int count, @NotNull final Comparator<? super DATA> comparator) {
+    super(asArgs(ConstantConditions.notNegative("count", count),
+        ConstantConditions.notNull("comparator instance", comparator)));
+    mCount = count;
+    mComparator = comparator;
+  }
+
+  @NotNull
+  @Override
+  public Invocation<DATA, DATA> newInvocation() {
+    return new TopInvocation<DATA>(mCount, mComparator);
+  }
+
+  /**
+   * Routine invocation passing only the greatest {@code count} input data.
+   *
+   * @param <DATA> the data type.
+   */
+  private static class TopInvocation<DATA> extends TemplateInvocation<DATA, DATA> {
+
+    private final Comparator<? super DATA> mComparator;
+
+    private final int mCount;
+
+    private Object[] mHeap;
+
+    private int mSize;
+
+    /**
+     * Constructor.
+     *
+     * @param count      the number of data to pass.
+     * @param comparator the comparator instance.
+     */
+    private TopInvocation(final int count, @NotNull final Comparator<? super DATA> comparator) {
+      mCount = count;
+      mComparator = comparator;
+      mHeap = new Object[Math.min(count, 16)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onComplete(@NotNull final Channel<DATA, ?> result) {
+      // Repeatedly move the heap minimum to the end, so to obtain a descending order
+      final Object[] heap = mHeap;
+      for (int i = mSize - 1; i > 0; --i) {
+        final Object min = heap[0];
+        heap[0] = heap[i];
+        heap[i] = min;
+        siftDown(0, i);
+      }
+
+      final int size = mSize;
+      final ArrayList<DATA> outputs = new ArrayList<DATA>(size);
+      for (int i = 0; i < size; ++i) {
+        outputs.add((DATA) heap[i]);
+      }
+
+      result.pass(outputs);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onInput(final DATA input, @NotNull final Channel<DATA, ?> result) {
+      final int count = mCount;
+      if (count == 0) {
+        return;
+      }
+
+      final int size = mSize;
+      if (size < count) {
+        Object[] heap = mHeap;
+        if (size == heap.length) {
+          final Object[] newHeap = new Object[Math.min(count, size << 1)];
+          System.arraycopy(heap, 0, newHeap, 0, size);
+          mHeap = heap = newHeap;
+        }
+
+        heap[size] = input;
+        mSize = size + 1;
+        siftUp(size);
+
+      } else if (mComparator.compare(input, (DATA) mHeap[0]) > 0) {
+        mHeap[0] = input;
+        siftDown(0, size);
+      }
+    }
+
+    @Override
+    public void onRecycle(final boolean isReused) {
+      Arrays.fill(mHeap, 0, mSize, null);
+      mSize = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, final int size) {
+      final Object[] heap = mHeap;
+      final Comparator<? super DATA> comparator = mComparator;
+      final Object data = heap[index];
+      final int half = size >>> 1;
+      while (index < half) {
+        int child = (index << 1) + 1;
+        final int right = child + 1;
+        if ((right < size) && (comparator.compare((DATA) heap[right], (DATA) heap[child]) < 0)) {
+          child = right;
+        }
+
+        if (comparator.compare((DATA) data, (DATA) heap[child]) <= 0) {
+          break;
+        }
+
+        heap[index] = heap[child];
+        index = child;
+      }
+
+      heap[index] = data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index) {
+      final Object[] heap = mHeap;
+      final Comparator<? super DATA> comparator = mComparator;
+      final Object data = heap[index];
+      while (index > 0) {
+        final int parent = (index - 1) >>> 1;
+        if (comparator.compare((DATA) data, (DATA) heap[parent]) >= 0) {
+          break;
+        }
+
+        heap[index] = heap[parent];
+        index = parent;
+      }
+
+      heap[index] = data;
+    }
+  }
+}
@@ -52,6 +52,20 @@ public class Numbers {
    */
   @Nullable
   public static Number add(@NotNull final Number n1, @NotNull final Number n2) {
+    final Class<? extends Number> type = n1.getClass();
+    if (type == n2.getClass()) {
+      // Fast path for the most common types
+      if (type == Integer.class) {
+        return n1.intValue() + n2.intValue();
+
+      } else if (type == Long.class) {
+        return n1.longValue() + n2.longValue();
+
+      } else if (type == Double.class) {
+        return n1.doubleValue() + n2.doubleValue();
+      }
+    }
+
     if ((n1 instanceof BigDecimal) || (n2 instanceof BigDecimal)) {
       final BigDecimal big1 = toBigDecimal(n1);
       final BigDecimal big2 = toBigDecimal(n2);
@@ -21,7 +21,9 @@ import com.github.dm.jrt.core.channel.AbortException;
 import com.github.dm.jrt.core.channel.Channel;
 import com.github.dm.jrt.core.common.BackoffBuilder;
 import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.invocation.InvocationException;
 import com.github.dm.jrt.core.invocation.InvocationFactory;
+import com.github.dm.jrt.core.routine.Routine;
 import com.github.dm.jrt.core.runner.Runners;
 import com.github.dm.jrt.function.Action;
 import com.github.dm.jrt.function.BiConsumer;
@@ -31,6 +33,7 @@ import com.github.dm.jrt.function.Function;
 import com.github.dm.jrt.function.Functions;
 import com.github.dm.jrt.function.Predicate;
 import com.github.dm.jrt.function.Supplier;
+import com.github.dm.jrt.operator.math.Numbers;
 
 import org.junit.Test;
 
@@ -40,12 +43,15 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.dm.jrt.core.util.ClassToken.tokenOf;
 import static com.github.dm.jrt.core.util.UnitDuration.millis;
@@ -534,6 +540,164 @@ public class OperatorsTest {
                            .next()).isEqualTo((short) 2);
   }
 
+  @Test
+  public void testBottomK() {
+    final Comparator<Integer> comparator = new Comparator<Integer>() {
+
+      public int compare(final Integer o1, final Integer o2) {
+        return o1.compareTo(o2);
+      }
+    };
+    assertThat(JRoutineCore.with(Operators.bottomK(3, comparator))
+                           .call(5, 3, 9, 0, 7, 1, 8, 2, 6, 4)
+                           .after(seconds(3))
+                           .all()).containsExactly(0, 1, 2);
+    assertThat(JRoutineCore.with(Operators.bottomK(0, comparator))
+                           .call(5, 3, 9, 0, 7)
+                           .after(seconds(3))
+                           .all()).isEmpty();
+    assertThat(JRoutineCore.with(Operators.bottomK(15, comparator))
+                           .call(5, 3, 9, 0, 7)
+                           .after(seconds(3))
+                           .all()).containsExactly(0, 3, 5, 7, 9);
+  }
+
+  @Test
+  public void testBottomKEquals() {
+    final Comparator<Object> comparator = Collections.reverseOrder();
+    final InvocationFactory<Object, Object> factory = Operators.bottomK(2, comparator);
+    assertThat(factory).isEqualTo(factory);
+    assertThat(factory).isNotEqualTo(null);
+    assertThat(factory).isNotEqualTo("test");
+    assertThat(factory).isNotEqualTo(Operators.bottomK(3, comparator));
+    assertThat(factory).isEqualTo(Operators.bottomK(2, comparator));
+    assertThat(factory.hashCode()).isEqualTo(Operators.bottomK(2, comparator).hashCode());
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testBottomKError() {
+    try {
+      Operators.bottomK(-1, Collections.reverseOrder());
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.bottomK(1, null);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+  }
+
+  @Test
+  public void testCache() {
+    final AtomicInteger count = new AtomicInteger();
+    final Routine<String, String> routine =
+        JRoutineCore.with(Functions.functionMapping(new Function<String, String>() {
+
+          public String apply(final String s) {
+            count.incrementAndGet();
+            return s.toUpperCase();
+          }
+        })).buildRoutine();
+    final OutputCache<String, String> cache =
+        new OutputCache<String, String>(routine, 2, seconds(10));
+    final Routine<String, String> cacheRoutine =
+        JRoutineCore.with(Operators.cache(cache)).buildRoutine();
+    assertThat(cacheRoutine.call("a", "b").after(seconds(3)).all()).containsOnly("A", "B");
+    assertThat(cacheRoutine.call("a").after(seconds(3)).all()).containsExactly("A");
+    assertThat(count.get()).isEqualTo(2);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cacheRoutine.call("c").after(seconds(3)).all()).containsExactly("C");
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+    assertThat(cacheRoutine.call("a").after(seconds(3)).all()).containsExactly("A");
+    assertThat(count.get()).isEqualTo(3);
+    assertThat(cacheRoutine.call("b").after(seconds(3)).all()).containsExactly("B");
+    assertThat(count.get()).isEqualTo(4);
+    assertThat(JRoutineCore.with(Operators.cache(routine, 10, millis(100)))
+                           .call("d")
+                           .after(seconds(3))
+                           .all()).containsExactly("D");
+    assertThat(count.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void testCacheCoalesce() {
+    final AtomicInteger count = new AtomicInteger();
+    final Routine<String, String> routine =
+        JRoutineCore.with(Functions.functionMapping(new Function<String, String>() {
+
+          public String apply(final String s) throws InterruptedException {
+            count.incrementAndGet();
+            millis(500).sleepAtLeast();
+            return s.toUpperCase();
+          }
+        })).buildRoutine();
+    final Routine<String, String> cacheRoutine =
+        JRoutineCore.with(Operators.cache(routine, 10, seconds(10))).buildRoutine();
+    final Channel<String, String> channel1 = cacheRoutine.call("test");
+    final Channel<String, String> channel2 = cacheRoutine.call("test");
+    assertThat(channel1.after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(channel2.after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(count.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCacheError() {
+    final AtomicInteger count = new AtomicInteger();
+    final Routine<String, String> routine =
+        JRoutineCore.with(Functions.functionMapping(new Function<String, String>() {
+
+          public String apply(final String s) {
+            if (count.getAndIncrement() == 0) {
+              throw new IllegalStateException();
+            }
+
+            return s.toUpperCase();
+          }
+        })).buildRoutine();
+    final Routine<String, String> cacheRoutine =
+        JRoutineCore.with(Operators.cache(routine, 10, seconds(10))).buildRoutine();
+    assertThat(cacheRoutine.call("test").after(seconds(3)).getError()).isExactlyInstanceOf(
+        InvocationException.class);
+    assertThat(cacheRoutine.call("test").after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(cacheRoutine.call("test").after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(count.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testCacheExpiration() throws InterruptedException {
+    final AtomicInteger count = new AtomicInteger();
+    final Routine<String, String> routine =
+        JRoutineCore.with(Functions.functionMapping(new Function<String, String>() {
+
+          public String apply(final String s) {
+            count.incrementAndGet();
+            return s.toUpperCase();
+          }
+        })).buildRoutine();
+    final OutputCache<String, String> cache =
+        new OutputCache<String, String>(routine, new Function<String, Object>() {
+
+          public Object apply(final String s) {
+            return s.toLowerCase();
+          }
+        }, 10, millis(500));
+    final Routine<String, String> cacheRoutine =
+        JRoutineCore.with(Operators.cache(cache)).buildRoutine();
+    assertThat(cacheRoutine.call("test").after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(cacheRoutine.call("Test").after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(count.get()).isEqualTo(1);
+    seconds(1).sleepAtLeast();
+    assertThat(cacheRoutine.call("test").after(seconds(3)).all()).containsExactly("TEST");
+    assertThat(count.get()).isEqualTo(2);
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+  }
+
   @Test
   @SuppressWarnings("ConstantConditions")
   public void testCastTo() {
@@ -732,6 +896,55 @@ public class OperatorsTest {
     assertThat(JRoutineCore.with(Operators.count()).close().after(seconds(3)).next()).isEqualTo(0);
   }
 
+  @Test
+  public void testCountDistinctApprox() {
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    for (int i = 0; i < 100000; ++i) {
+      channel.pass(i % 10000);
+    }
+
+    channel.close();
+    final Long count =
+        JRoutineCore.with(Operators.countDistinctApprox()).call(channel).after(seconds(10)).next();
+    assertThat(count).isBetween(9500L, 10500L);
+    assertThat(JRoutineCore.with(Operators.countDistinctApprox())
+                           .call("test", "test", null, "test1", null)
+                           .after(seconds(3))
+                           .next()).isEqualTo(3);
+    assertThat(JRoutineCore.with(Operators.countDistinctApprox(4))
+                           .close()
+                           .after(seconds(3))
+                           .next()).isEqualTo(0);
+  }
+
+  @Test
+  public void testCountDistinctApproxEquals() {
+    final InvocationFactory<Object, Long> factory = Operators.countDistinctApprox(10);
+    assertThat(factory).isEqualTo(factory);
+    assertThat(factory).isNotEqualTo(null);
+    assertThat(factory).isNotEqualTo("test");
+    assertThat(factory).isNotEqualTo(Operators.countDistinctApprox(12));
+    assertThat(factory).isEqualTo(Operators.countDistinctApprox(10));
+    assertThat(factory.hashCode()).isEqualTo(Operators.countDistinctApprox(10).hashCode());
+  }
+
+  @Test
+  public void testCountDistinctApproxError() {
+    try {
+      Operators.countDistinctApprox(3);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.countDistinctApprox(19);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+  }
+
   @Test
   public void testDistinct() {
     assertThat(JRoutineCore.with(Operators.distinct()).call("test", "test").after(seconds(3)).all())
@@ -742,6 +955,61 @@ public class OperatorsTest {
                            .all()).containsExactly("test1", "test2");
   }
 
+  @Test
+  public void testDistinctApprox() {
+    assertThat(JRoutineCore.with(Operators.distinctApprox(10, 0.01))
+                           .call("test", "test", null, null)
+                           .after(seconds(3))
+                           .all()).containsExactly("test", null);
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    for (int i = 0; i < 10000; ++i) {
+      channel.pass(i % 1000);
+    }
+
+    channel.close();
+    final List<Object> outputs = JRoutineCore.with(Operators.distinctApprox(1000, 0.01))
+                                             .call(channel)
+                                             .after(seconds(10))
+                                             .all();
+    assertThat(outputs.size()).isBetween(950, 1000);
+    assertThat(new HashSet<Object>(outputs)).hasSize(outputs.size());
+  }
+
+  @Test
+  public void testDistinctApproxEquals() {
+    final InvocationFactory<Object, Object> factory = Operators.distinctApprox(100, 0.1);
+    assertThat(factory).isEqualTo(factory);
+    assertThat(factory).isNotEqualTo(null);
+    assertThat(factory).isNotEqualTo("test");
+    assertThat(factory).isNotEqualTo(Operators.distinctApprox(100, 0.01));
+    assertThat(factory).isEqualTo(Operators.distinctApprox(100, 0.1));
+    assertThat(factory.hashCode()).isEqualTo(Operators.distinctApprox(100, 0.1).hashCode());
+  }
+
+  @Test
+  public void testDistinctApproxError() {
+    try {
+      Operators.distinctApprox(0, 0.1);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.distinctApprox(10, 0);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.distinctApprox(10, 1);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+  }
+
   @Test
   public void testDistinctIdentity() {
     final Object o = new Object() {
@@ -778,6 +1046,39 @@ public class OperatorsTest {
     assertThat(objects.get(1)).isSameAs(o2);
   }
 
+  @Test
+  public void testDistinctLast() {
+    assertThat(JRoutineCore.with(Operators.distinctLast(2))
+                           .call(0, 1, 0, 2, 3, 1)
+                           .after(seconds(3))
+                           .all()).containsExactly(0, 1, 2, 3, 1);
+    assertThat(JRoutineCore.with(Operators.distinctLast(1))
+                           .call("test", "test", null, null, "test")
+                           .after(seconds(3))
+                           .all()).containsExactly("test", null, "test");
+  }
+
+  @Test
+  public void testDistinctLastEquals() {
+    final InvocationFactory<Object, Object> factory = Operators.distinctLast(2);
+    assertThat(factory).isEqualTo(factory);
+    assertThat(factory).isNotEqualTo(null);
+    assertThat(factory).isNotEqualTo("test");
+    assertThat(factory).isNotEqualTo(Operators.distinctLast(3));
+    assertThat(factory).isEqualTo(Operators.distinctLast(2));
+    assertThat(factory.hashCode()).isEqualTo(Operators.distinctLast(2).hashCode());
+  }
+
+  @Test
+  public void testDistinctLastError() {
+    try {
+      Operators.distinctLast(0);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+  }
+
   @Test
   public void testEqualTo() {
     assertThat(JRoutineCore.with(Operators.isEqualTo("test"))
@@ -1832,6 +2133,85 @@ public class OperatorsTest {
     }
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSlidingWindow() {
+    assertThat(JRoutineCore.with(Operators.<Integer>slidingWindow(3, 2))
+                           .call(0, 1, 2, 3, 4, 5)
+                           .after(seconds(3))
+                           .all()).containsExactly(Arrays.asList(0, 1, 2), Arrays.asList(2, 3, 4),
+        Arrays.asList(4, 5));
+    assertThat(JRoutineCore.with(Operators.<Integer>slidingWindow(2, 2))
+                           .call(0, 1, 2, 3, 4)
+                           .after(seconds(3))
+                           .all()).containsExactly(Arrays.asList(0, 1), Arrays.asList(2, 3),
+        Arrays.asList(4));
+    assertThat(JRoutineCore.with(Operators.<Integer>slidingWindow(1, 3))
+                           .call(0, 1, 2, 3, 4, 5, 6)
+                           .after(seconds(3))
+                           .all()).containsExactly(Arrays.asList(0), Arrays.asList(3),
+        Arrays.asList(6));
+    assertThat(JRoutineCore.with(Operators.<Integer>slidingWindow(3, 1))
+                           .call()
+                           .close()
+                           .after(seconds(3))
+                           .all()).isEmpty();
+    assertThat(JRoutineCore.with(
+        Operators.slidingWindow(3, 1, new Supplier<Integer>() {
+
+          public Integer get() {
+            return 0;
+          }
+        }, new BiFunction<Integer, Integer, Integer>() {
+
+          public Integer apply(final Integer sum, final Integer input) {
+            return sum + input;
+          }
+        })).call(1, 2, 3, 4, 5).after(seconds(3)).all()).containsExactly(6, 9, 12, 9, 5);
+  }
+
+  @Test
+  public void testSlidingWindowEquals() {
+    final InvocationFactory<Object, List<Object>> factory = Operators.slidingWindow(3, 2);
+    assertThat(factory).isEqualTo(factory);
+    assertThat(factory).isNotEqualTo(null);
+    assertThat(factory).isNotEqualTo("test");
+    assertThat(factory).isNotEqualTo(Operators.slidingWindow(3, 1));
+    assertThat(factory).isNotEqualTo(Operators.slidingWindow(2, 2));
+    assertThat(factory).isEqualTo(Operators.slidingWindow(3, 2));
+    assertThat(factory.hashCode()).isEqualTo(Operators.slidingWindow(3, 2).hashCode());
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testSlidingWindowError() {
+    try {
+      Operators.slidingWindow(0, 1);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.slidingWindow(1, 0);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.slidingWindow(1, 1, null, new BiFunction<Object, Object, Object>() {
+
+        public Object apply(final Object o, final Object o2) {
+          return o;
+        }
+      });
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+  }
+
   @Test
   public void testSort() {
     assertThat(JRoutineCore.with(Operators.<Integer>sort())
@@ -1910,6 +2290,56 @@ public class OperatorsTest {
         10L);
   }
 
+  @Test
+  public void testSumMixed() {
+    final Number[][] sequences = new Number[][]{
+        {(byte) 100, (byte) 100, (short) 30000, (short) 30000, 1, Long.MAX_VALUE, 1.5f},
+        {Integer.MAX_VALUE, Integer.MAX_VALUE, 1L, 2.5f, 3.5, (byte) 1},
+        {(short) 1, 0.1f, 0.2f, 0.3, 1L, BigInteger.TEN, 2.5},
+        {1L, 2, BigDecimal.ONE, 0.5f}, {new AtomicInteger(3), (byte) 2, 1L}};
+    for (final Number[] sequence : sequences) {
+      Number sum = 0;
+      for (final Number number : sequence) {
+        sum = Numbers.addOptimistic(sum, number);
+      }
+
+      assertThat(JRoutineCore.with(Operators.sum())
+                             .call(sequence)
+                             .after(seconds(3))
+                             .next()).isEqualTo(sum);
+      long sumLong = 0;
+      double sumDouble = 0;
+      float sumFloat = 0;
+      for (final Number number : sequence) {
+        sumLong = Numbers.addOptimistic(sumLong, number).longValue();
+        sumDouble = Numbers.addOptimistic(sumDouble, number).doubleValue();
+        sumFloat = Numbers.addOptimistic(sumFloat, number).floatValue();
+      }
+
+      assertThat(JRoutineCore.with(Operators.sumLong())
+                             .call(sequence)
+                             .after(seconds(3))
+                             .next()).isEqualTo(sumLong);
+      assertThat(JRoutineCore.with(Operators.sumDouble())
+                             .call(sequence)
+                             .after(seconds(3))
+                             .next()).isEqualTo(sumDouble);
+      assertThat(JRoutineCore.with(Operators.sumFloat())
+                             .call(sequence)
+                             .after(seconds(3))
+                             .next()).isEqualTo(sumFloat);
+    }
+
+    assertThat(JRoutineCore.with(Operators.average())
+                           .call((byte) 100, (byte) 100, (byte) 100)
+                           .after(seconds(3))
+                           .next()).isEqualTo((byte) ((byte) 300 / 3));
+    assertThat(JRoutineCore.with(Operators.average())
+                           .call((byte) 1, (short) 2, 3, 4L, 5f)
+                           .after(seconds(3))
+                           .next()).isEqualTo(3f);
+  }
+
   @Test
   public void testSumShort() {
     assertThat(JRoutineCore.with(Operators.sumShort()).close().after(seconds(3)).next()).isEqualTo(
@@ -2120,6 +2550,70 @@ public class OperatorsTest {
         .isEqualTo(new HashSet<String>(Arrays.asList("test1", "test2")));
   }
 
+  @Test
+  public void testTopK() {
+    final Comparator<Integer> comparator = new Comparator<Integer>() {
+
+      public int compare(final Integer o1, final Integer o2) {
+        return o1.compareTo(o2);
+      }
+    };
+    assertThat(JRoutineCore.with(Operators.topK(3, comparator))
+                           .call(5, 3, 9, 0, 7, 1, 8, 2, 6, 4)
+                           .after(seconds(3))
+                           .all()).containsExactly(9, 8, 7);
+    assertThat(JRoutineCore.with(Operators.topK(0, comparator))
+                           .call(5, 3, 9, 0, 7)
+                           .after(seconds(3))
+                           .all()).isEmpty();
+    assertThat(JRoutineCore.with(Operators.topK(15, comparator))
+                           .call(5, 3, 9, 0, 7)
+                           .after(seconds(3))
+                           .all()).containsExactly(9, 7, 5, 3, 0);
+    final Random random = new Random();
+    final ArrayList<Integer> inputs = new ArrayList<Integer>();
+    for (int i = 0; i < 1000; ++i) {
+      inputs.add(random.nextInt(100));
+    }
+
+    final ArrayList<Integer> sorted = new ArrayList<Integer>(inputs);
+    Collections.sort(sorted, Collections.reverseOrder());
+    assertThat(JRoutineCore.with(Operators.topK(50, comparator))
+                           .call(inputs)
+                           .after(seconds(3))
+                           .all()).containsExactlyElementsOf(sorted.subList(0, 50));
+  }
+
+  @Test
+  public void testTopKEquals() {
+    final Comparator<Object> comparator = Collections.reverseOrder();
+    final InvocationFactory<Object, Object> factory = Operators.topK(2, comparator);
+    assertThat(factory).isEqualTo(factory);
+    assertThat(factory).isNotEqualTo(null);
+    assertThat(factory).isNotEqualTo("test");
+    assertThat(factory).isNotEqualTo(Operators.topK(3, comparator));
+    assertThat(factory).isEqualTo(Operators.topK(2, comparator));
+    assertThat(factory.hashCode()).isEqualTo(Operators.topK(2, comparator).hashCode());
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testTopKError() {
+    try {
+      Operators.topK(-1, Collections.reverseOrder());
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Operators.topK(1, null);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+  }
+
   @Test
   public void testUnfold() {
     assertThat(JRoutineCore.with(Operators.<Number>groupBy(3))
@@ -56,8 +56,9 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -74,6 +75,7 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
@@ -84,6 +86,7 @@ import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 import javax.tools.JavaFileObject;
@@ -114,6 +117,8 @@ public class RoutineProcessor extends AbstractProcessor {
 
   protected TypeMirror routineType;
 
+  private String mAliasIndex;
+
   private String mFooter;
 
   private String mHeader;
@@ -163,7 +168,10 @@ public class RoutineProcessor extends AbstractProcessor {
 
   @Override
   public Set<String> getSupportedAnnotationTypes() {
-    return Collections.singleton("com.github.dm.jrt.proxy.annotation.Proxy");
+    final HashSet<String> types = new HashSet<String>();
+    types.add("com.github.dm.jrt.proxy.annotation.Proxy");
+    types.add(Alias.class.getCanonicalName());
+    return types;
   }
 
   @Override
@@ -222,7 +230,13 @@ public class RoutineProcessor extends AbstractProcessor {
     }
 
     final Types typeUtils = processingEnv.getTypeUtils();
+    final String aliasName = Alias.class.getCanonicalName();
     for (final TypeElement annotationElement : getSupportedAnnotationElements()) {
+      if (aliasName.equals(annotationElement.getQualifiedName().toString())) {
+        createAliasIndexes(annotationElement, roundEnvironment);
+        continue;
+      }
+
       final TypeMirror annotationType = annotationElement.asType();
       for (final Element element : ElementFilter.typesIn(
           roundEnvironment.getElementsAnnotatedWith(annotationElement))) {
@@ -273,6 +287,46 @@ public class RoutineProcessor extends AbstractProcessor {
     return "(" + targetParameter.asType() + ") objects";
   }
 
+  /**
+   * Builds the string used to replace "${aliasEntries}" in the template.
+   * <br>
+   * Each entry contains the alias name, the binary name of the declaring class, the method name
+   * and the names of the parameter types, as accepted by {@link Class#forName(String)}.
+   *
+   * @param element        the class element.
+   * @param methodElements the aliased method elements.
+   * @return the string.
+   */
+  @NotNull
+  @SuppressWarnings("UnusedParameters")
+  protected String buildAliasEntries(@NotNull final TypeElement element,
+      @NotNull final List<ExecutableElement> methodElements) {
+    final Elements elementUtils = processingEnv.getElementUtils();
+    final StringBuilder builder = new StringBuilder();
+    for (final ExecutableElement methodElement : methodElements) {
+      if (builder.length() > 0) {
+        builder.append(",").append(NEW_LINE);
+      }
+
+      final TypeElement declaringElement = (TypeElement) methodElement.getEnclosingElement();
+      builder.append("            {")
+             .append(elementUtils.getConstantExpression(
+                 methodElement.getAnnotation(Alias.class).value()))
+             .append(", \"")
+             .append(elementUtils.getBinaryName(declaringElement))
+             .append("\", \"")
+             .append(methodElement.getSimpleName())
+             .append("\"");
+      for (final VariableElement variableElement : methodElement.getParameters()) {
+        builder.append(", \"").append(getClassName(variableElement.asType())).append("\"");
+      }
+
+      builder.append("}");
+    }
+
+    return builder.toString();
+  }
+
   /**
    * Builds the string used to replace "${genericTypes}" in the template.
    *
@@ -697,6 +751,23 @@ public class RoutineProcessor extends AbstractProcessor {
     return type;
   }
 
+  /**
+   * Returns the alias index template.
+   *
+   * @param element the class element.
+   * @return the template.
+   * @throws java.io.IOException if an I/O error occurred.
+   */
+  @NotNull
+  @SuppressWarnings("UnusedParameters")
+  protected String getAliasIndexTemplate(@NotNull final TypeElement element) throws IOException {
+    if (mAliasIndex == null) {
+      mAliasIndex = parseTemplate("/templates/alias_index.txt");
+    }
+
+    return mAliasIndex;
+  }
+
   /**
    * Gets the default class name prefix.
    *
@@ -1448,6 +1519,92 @@ public class RoutineProcessor extends AbstractProcessor {
     }
   }
 
+  @SuppressWarnings("PointlessBooleanExpression")
+  private void createAliasIndex(@NotNull final TypeElement element) {
+    final HashSet<String> aliases = new HashSet<String>();
+    final ArrayList<ExecutableElement> methodElements = new ArrayList<ExecutableElement>();
+    for (final ExecutableElement methodElement : ElementFilter.methodsIn(
+        processingEnv.getElementUtils().getAllMembers(element))) {
+      final Alias annotation = methodElement.getAnnotation(Alias.class);
+      if ((annotation == null) || (!element.equals(methodElement.getEnclosingElement())
+          && !methodElement.getModifiers().contains(Modifier.PUBLIC))) {
+        continue;
+      }
+
+      if (!aliases.add(annotation.value())) {
+        // Let the runtime report the duplicated alias
+        return;
+      }
+
+      methodElements.add(methodElement);
+    }
+
+    Writer writer = null;
+    try {
+      final String packageName = getPackage(element).getQualifiedName().toString();
+      final String className = getAliasIndexClassName(element);
+      if (!DEBUG) {
+        final JavaFileObject sourceFile = processingEnv.getFiler()
+                                                       .createSourceFile((packageName.length() > 0)
+                                                           ? packageName + "." + className
+                                                           : className, element);
+        writer = sourceFile.openWriter();
+
+      } else {
+        writer = new StringWriter();
+      }
+
+      String index = getAliasIndexTemplate(element).replace("${generatedPackage}",
+          (packageName.length() > 0) ? "package " + packageName + ";" : "");
+      index = index.replace("${generatedClassName}", className);
+      index = index.replace("${indexFieldName}", Alias.INDEX_FIELD_NAME);
+      index = index.replace("${aliasEntries}", buildAliasEntries(element, methodElements));
+      writer.append(index);
+
+    } catch (final IOException e) {
+      processingEnv.getMessager()
+                   .printMessage(Kind.ERROR,
+                       "IOException while writing template; " + printStackTrace(e));
+      throw new RuntimeException(e);
+
+    } finally {
+      if (writer != null) {
+        try {
+          writer.close();
+
+        } catch (final IOException e) {
+          processingEnv.getMessager()
+                       .printMessage(Kind.WARNING,
+                           "IOException while closing stream; " + printStackTrace(e));
+        }
+      }
+    }
+
+    if (DEBUG) {
+      System.out.println(writer.toString());
+    }
+  }
+
+  private void createAliasIndexes(@NotNull final TypeElement annotationElement,
+      @NotNull final RoundEnvironment roundEnvironment) {
+    final LinkedHashSet<TypeElement> classElements = new LinkedHashSet<TypeElement>();
+    for (final ExecutableElement methodElement : ElementFilter.methodsIn(
+        roundEnvironment.getElementsAnnotatedWith(annotationElement))) {
+      final Element enclosingElement = methodElement.getEnclosingElement();
+      final ElementKind kind = enclosingElement.getKind();
+      if ((kind == ElementKind.CLASS) || (kind == ElementKind.ENUM)) {
+        final NestingKind nestingKind = ((TypeElement) enclosingElement).getNestingKind();
+        if ((nestingKind == NestingKind.TOP_LEVEL) || (nestingKind == NestingKind.MEMBER)) {
+          classElements.add((TypeElement) enclosingElement);
+        }
+      }
+    }
+
+    for (final TypeElement classElement : classElements) {
+      createAliasIndex(classElement);
+    }
+  }
+
   @SuppressWarnings("PointlessBooleanExpression")
   private void createProxy(@NotNull final TypeElement annotationElement,
       @NotNull final TypeElement element, @NotNull final Element targetElement,
@@ -1677,6 +1834,55 @@ public class RoutineProcessor extends AbstractProcessor {
     return targetMethod;
   }
 
+  @NotNull
+  private String getAliasIndexClassName(@NotNull final TypeElement element) {
+    final String binaryName = processingEnv.getElementUtils().getBinaryName(element).toString();
+    return binaryName.substring(binaryName.lastIndexOf('.') + 1).replace('$', '_')
+        + Alias.INDEX_CLASS_SUFFIX;
+  }
+
+  @NotNull
+  private String getClassName(@NotNull final TypeMirror type) {
+    final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+    if (erasure.getKind() == TypeKind.ARRAY) {
+      return "[" + getDescriptor(((ArrayType) erasure).getComponentType());
+
+    } else if (erasure.getKind().isPrimitive()) {
+      return erasure.toString();
+    }
+
+    return processingEnv.getElementUtils()
+                        .getBinaryName((TypeElement) ((DeclaredType) erasure).asElement())
+                        .toString();
+  }
+
+  @NotNull
+  private String getDescriptor(@NotNull final TypeMirror type) {
+    final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+    switch (erasure.getKind()) {
+      case BOOLEAN:
+        return "Z";
+      case BYTE:
+        return "B";
+      case CHAR:
+        return "C";
+      case SHORT:
+        return "S";
+      case INT:
+        return "I";
+      case LONG:
+        return "J";
+      case FLOAT:
+        return "F";
+      case DOUBLE:
+        return "D";
+      case ARRAY:
+        return "[" + getDescriptor(((ArrayType) erasure).getComponentType());
+      default:
+        return "L" + getClassName(erasure) + ";";
+    }
+  }
+
   private void mergeParentMethods(@NotNull final List<ExecutableElement> methods,
       @NotNull final List<ExecutableElement> parentMethods) {
     final Types typeUtils = processingEnv.getTypeUtils();
@@ -107,6 +107,27 @@ public class ProxyRoutineTest {
     assertThat(output2.all()).containsExactly("test2");
   }
 
+  @Test
+  public void testAliasIndex() throws Exception {
+
+    final String[][] aliases = (String[][]) Class.forName(
+        "com.github.dm.jrt.proxy.ProxyRoutineTest_Impl" + Alias.INDEX_CLASS_SUFFIX)
+                                                 .getField(Alias.INDEX_FIELD_NAME)
+                                                 .get(null);
+    assertThat(aliases).hasSize(9);
+    final Impl impl = new Impl();
+    assertThat(JRoutineObject.with(instance(impl))
+                             .method("aa")
+                             .call(new char[]{'a', 'b'})
+                             .after(seconds(3))
+                             .next()).isEqualTo(new int[]{'a', 'b'});
+    assertThat(JRoutineObject.with(instance(impl))
+                             .method("a")
+                             .call('c')
+                             .after(seconds(3))
+                             .next()).isEqualTo((int) 'c');
+  }
+
   @Test
   public void testAnnotationGenerics() {
 
@@ -18,10 +18,16 @@ package com.github.dm.jrt.retrofit;
 
 import com.github.dm.jrt.core.JRoutineCore;
 import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.common.RoutineException;
 import com.github.dm.jrt.core.config.InvocationConfiguration;
+import com.github.dm.jrt.core.invocation.Invocation;
+import com.github.dm.jrt.core.invocation.InvocationFactory;
 import com.github.dm.jrt.core.invocation.MappingInvocation;
+import com.github.dm.jrt.core.invocation.TemplateInvocation;
 import com.github.dm.jrt.core.routine.Routine;
+import com.github.dm.jrt.core.runner.Runners;
 import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.UnitDuration;
 import com.github.dm.jrt.object.builder.Builders;
 import com.github.dm.jrt.stream.JRoutineStream;
 import com.github.dm.jrt.stream.builder.StreamBuilder;
@@ -33,9 +39,13 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
 
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
+import retrofit2.Callback;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
@@ -47,6 +57,11 @@ import static com.github.dm.jrt.core.util.Reflection.asArgs;
  * <br>
  * Note that the routines generated through stream builders must be invoked and the returned channel
  * closed before any result is produced.
+ * <br>
+ * When no delegate factory is specified, the calls can be optionally enqueued, so that the routine
+ * results are produced by the HTTP client callback without blocking the invocation runner thread.
+ * In the same case, concurrent identical calls can be coalesced into a single request, and the
+ * successful responses can be cached for the specified time.
  * <p>
  * Created by davide-maestroni on 05/19/2016.
  */
@@ -67,10 +82,32 @@ public abstract class AbstractAdapterFactory extends CallAdapter.Factory {
         }
       };
 
+  private static final MappingInvocation<Call<Object>, Object> sEnqueueInvocation =
+      new MappingInvocation<Call<Object>, Object>(null) {
+
+        public void onInput(final Call<Object> input, @NotNull final Channel<Object, ?> result) {
+          // Cancel the call as soon as the result channel gets aborted
+          final Channel<Object, Object> channel =
+              JRoutineCore.with(new CancelCallInvocationFactory(input))
+                          .applyInvocationConfiguration()
+                          .withRunner(Runners.syncRunner())
+                          .configured()
+                          .call();
+          result.pass(channel);
+          input.enqueue(new ChannelCallback(channel));
+        }
+      };
+
+  private final ResponseCache mCache;
+
   private final InvocationConfiguration mConfiguration;
 
   private final CallAdapter.Factory mDelegateFactory;
 
+  private final HashMap<CallKey, ArrayList<Channel<Object, ?>>> mInFlightCalls;
+
+  private final boolean mIsEnqueue;
+
   /**
    * Constructor.
    *
@@ -79,8 +116,45 @@ public abstract class AbstractAdapterFactory extends CallAdapter.Factory {
    */
   protected AbstractAdapterFactory(@Nullable final CallAdapter.Factory delegateFactory,
       @NotNull final InvocationConfiguration configuration) {
+    this(delegateFactory, configuration, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param delegateFactory the delegate factory.
+   * @param configuration   the invocation configuration.
+   * @param isEnqueue       whether the calls are enqueued instead of being synchronously executed.
+   */
+  protected AbstractAdapterFactory(@Nullable final CallAdapter.Factory delegateFactory,
+      @NotNull final InvocationConfiguration configuration, final boolean isEnqueue) {
+    this(delegateFactory, configuration, isEnqueue, false, 0, UnitDuration.zero());
+  }
+
+  /**
+   * Constructor.
+   * <br>
+   * Note that a cache size equal to 0 disables the caching of the responses.
+   *
+   * @param delegateFactory the delegate factory.
+   * @param configuration   the invocation configuration.
+   * @param isEnqueue       whether the calls are enqueued instead of being synchronously executed.
+   * @param isCoalesce      whether concurrent identical calls are coalesced into one request.
+   * @param maxCacheSize    the maximum number of cached responses.
+   * @param cacheTimeToLive the time to live of the cached responses.
+   * @throws java.lang.IllegalArgumentException if the cache size is negative.
+   */
+  protected AbstractAdapterFactory(@Nullable final CallAdapter.Factory delegateFactory,
+      @NotNull final InvocationConfiguration configuration, final boolean isEnqueue,
+      final boolean isCoalesce, final int maxCacheSize,
+      @NotNull final UnitDuration cacheTimeToLive) {
     mDelegateFactory = delegateFactory;
     mConfiguration = ConstantConditions.notNull("invocation configuration", configuration);
+    mIsEnqueue = isEnqueue;
+    mInFlightCalls =
+        (isCoalesce) ? new HashMap<CallKey, ArrayList<Channel<Object, ?>>>() : null;
+    mCache = (ConstantConditions.notNegative("max cache size", maxCacheSize) > 0)
+        ? new ResponseCache(maxCacheSize, cacheTimeToLive.toNanos()) : null;
   }
 
   /**
@@ -186,7 +260,13 @@ public abstract class AbstractAdapterFactory extends CallAdapter.Factory {
       @NotNull final Annotation[] annotations, @NotNull final Retrofit retrofit) {
     final CallAdapter.Factory delegateFactory = mDelegateFactory;
     if (delegateFactory == null) {
-      return sCallInvocation;
+      // Raw response bodies can be read only once, so they must never be shared
+      if (((mInFlightCalls != null) || (mCache != null)) && (responseType != ResponseBody.class)) {
+        return new SharedCallInvocation(asArgs(this, responseType), responseType, mIsEnqueue,
+            mInFlightCalls, mCache);
+      }
+
+      return (mIsEnqueue) ? sEnqueueInvocation : sCallInvocation;
     }
 
     @SuppressWarnings("unchecked") final CallAdapter<Channel<?, ?>> channelAdapter =
@@ -271,6 +351,93 @@ public abstract class AbstractAdapterFactory extends CallAdapter.Factory {
     }
   }
 
+  /**
+   * Invocation passing the call response and cancelling the call when aborted.
+   */
+  private static class CancelCallInvocation extends TemplateInvocation<Object, Object> {
+
+    private final Call<?> mCall;
+
+    /**
+     * Constructor.
+     *
+     * @param call the call instance.
+     */
+    private CancelCallInvocation(@NotNull final Call<?> call) {
+      mCall = call;
+    }
+
+    @Override
+    public void onAbort(@NotNull final RoutineException reason) {
+      mCall.cancel();
+    }
+
+    @Override
+    public void onInput(final Object input, @NotNull final Channel<Object, ?> result) {
+      result.pass(input);
+    }
+  }
+
+  /**
+   * Factory of invocations cancelling a call when aborted.
+   */
+  private static class CancelCallInvocationFactory extends InvocationFactory<Object, Object> {
+
+    private final Call<?> mCall;
+
+    /**
+     * Constructor.
+     *
+     * @param call the call instance.
+     */
+    private CancelCallInvocationFactory(@NotNull final Call<?> call) {
+      super(asArgs(call));
+      mCall = call;
+    }
+
+    @NotNull
+    @Override
+    public Invocation<Object, Object> newInvocation() {
+      return new CancelCallInvocation(mCall);
+    }
+  }
+
+  /**
+   * Retrofit callback passing the call response to a channel.
+   */
+  private static class ChannelCallback implements Callback<Object> {
+
+    private final Channel<Object, ?> mChannel;
+
+    /**
+     * Constructor.
+     *
+     * @param channel the channel instance.
+     */
+    private ChannelCallback(@NotNull final Channel<Object, ?> channel) {
+      mChannel = channel;
+    }
+
+    public void onFailure(final Call<Object> call, final Throwable t) {
+      mChannel.abort(t);
+    }
+
+    public void onResponse(final Call<Object> call, final Response<Object> response) {
+      final Channel<Object, ?> channel = mChannel;
+      if (response.isSuccessful()) {
+        channel.pass(response.body()).close();
+        return;
+      }
+
+      try {
+        channel.abort(new ErrorResponseException(response));
+
+      } catch (final IOException e) {
+        channel.abort(e);
+      }
+    }
+  }
+
   /**
    * Channel adapter implementation.
    */
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.retrofit;
+
+import com.github.dm.jrt.core.util.DeepEqualObject;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import static com.github.dm.jrt.core.util.Reflection.asArgs;
+
+/**
+ * Key identifying identical Retrofit calls.
+ * <br>
+ * Two calls are considered identical if they share the same response type, method, URL and
+ * headers, and their request bodies have the same content type and hash.
+ * <br>
+ * Note that, in order to compute its hash, the request body is written once more in addition to
+ * when the call is executed. Hence only bodies whose content can be written several times are
+ * supported. Bodies of unknown length are assumed to be streamed, and the related calls are never
+ * keyed.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+class CallKey extends DeepEqualObject {
+
+  /**
+   * Constructor.
+   *
+   * @param responseType the response type.
+   * @param request      the call request.
+   * @throws java.io.IOException if an I/O error occurred while reading the request body.
+   */
+  CallKey(@NotNull final Type responseType, @NotNull final Request request) throws IOException {
+    super(asArgs(responseType, request.method(), request.url().toString(), request.headers(),
+        getBodyHash(request.body())));
+  }
+
+  /**
+   * Checks if the specified request can be identified by a key.
+   * <br>
+   * Requests whose body has an unknown length are not supported, since the body content might be
+   * consumed when written.
+   *
+   * @param request the call request.
+   * @return whether the request is supported.
+   * @throws java.io.IOException if an I/O error occurred while computing the body length.
+   */
+  static boolean isSupported(@NotNull final Request request) throws IOException {
+    final RequestBody body = request.body();
+    return (body == null) || (body.contentLength() >= 0);
+  }
+
+  @NotNull
+  private static Object[] getBodyHash(final RequestBody body) throws IOException {
+    if (body == null) {
+      return new Object[0];
+    }
+
+    final Buffer buffer = new Buffer();
+    body.writeTo(buffer);
+    return new Object[]{String.valueOf(body.contentType()), buffer.sha256()};
+  }
+}
@@ -40,7 +40,8 @@ import retrofit2.Retrofit;
  * create the call adapter instance.
  * <br>
  * Special factory instances can be registered to cope with the cases in which no match is found or
- * the annotation is missing.
+ * the annotation is missing. If the calls are set to be enqueued, a routine adapter factory
+ * enqueuing them will be employed in the same cases, when no special factory is registered.
  * <p>
  * Created by davide-maestroni on 05/20/2016.
  */
@@ -121,6 +122,8 @@ public class ProviderAdapterFactory extends CallAdapter.Factory {
 
     private final HashMap<String, Factory> mFactories = new HashMap<String, Factory>();
 
+    private boolean mIsEnqueue;
+
     private Factory mMissingAnnotationFactory;
 
     private Factory mMissingNameFactory;
@@ -154,10 +157,41 @@ public class ProviderAdapterFactory extends CallAdapter.Factory {
      */
     @NotNull
     public ProviderAdapterFactory buildFactory() {
-      return new ProviderAdapterFactory(mMissingAnnotationFactory, mMissingNameFactory,
+      Factory missingAnnotationFactory = mMissingAnnotationFactory;
+      Factory missingNameFactory = mMissingNameFactory;
+      if (mIsEnqueue) {
+        final Factory enqueueFactory =
+            RoutineAdapterFactory.builder().enqueueCalls(true).buildFactory();
+        if (missingAnnotationFactory == null) {
+          missingAnnotationFactory = enqueueFactory;
+        }
+
+        if (missingNameFactory == null) {
+          missingNameFactory = enqueueFactory;
+        }
+      }
+
+      return new ProviderAdapterFactory(missingAnnotationFactory, missingNameFactory,
           new HashMap<String, CallAdapter.Factory>(mFactories));
     }
 
+    /**
+     * Sets whether the calls are enqueued instead of being synchronously executed, when the
+     * annotation or a matching name is missing and no specific factory has been set.
+     * <br>
+     * Enqueued calls do not block the invocation runner thread, since the routine results are
+     * produced by the HTTP client callback.
+     *
+     * @param isEnqueue whether to enqueue the calls.
+     * @return this builder.
+     * @see RoutineAdapterFactory.Builder#enqueueCalls(boolean)
+     */
+    @NotNull
+    public Builder enqueueCalls(final boolean isEnqueue) {
+      mIsEnqueue = isEnqueue;
+      return this;
+    }
+
     /**
      * Sets the factory to be used when the annotation or a matching name is missing.
      *
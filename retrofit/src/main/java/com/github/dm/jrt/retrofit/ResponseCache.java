@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.retrofit;
+
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import retrofit2.Response;
+
+/**
+ * Bounded cache of successful call responses.
+ * <br>
+ * The least recently used entries are evicted when the maximum size is exceeded, while expired
+ * entries are evicted when accessed.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+class ResponseCache {
+
+  private final LinkedHashMap<CallKey, CacheEntry> mEntries;
+
+  private final long mTimeToLiveNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize         the maximum number of cached responses.
+   * @param timeToLiveNanos the time to live of the cached responses in nanoseconds.
+   * @throws java.lang.IllegalArgumentException if the size is 0 or negative, or the time to live
+   *                                            is negative.
+   */
+  @SuppressWarnings("serial")
+  ResponseCache(final int maxSize, final long timeToLiveNanos) {
+    ConstantConditions.positive("max cache size", maxSize);
+    mTimeToLiveNanos = ConstantConditions.notNegative("cache time to live", timeToLiveNanos);
+    mEntries = new LinkedHashMap<CallKey, CacheEntry>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(final Entry<CallKey, CacheEntry> eldest) {
+        return (size() > maxSize);
+      }
+    };
+  }
+
+  /**
+   * Gets the cached response associated with the specified key.
+   *
+   * @param key the call key.
+   * @return the response or null.
+   */
+  @Nullable
+  Response<Object> get(@NotNull final CallKey key) {
+    synchronized (mEntries) {
+      final CacheEntry entry = mEntries.get(key);
+      if (entry == null) {
+        return null;
+      }
+
+      if ((System.nanoTime() - entry.mExpirationTime) >= 0) {
+        mEntries.remove(key);
+        return null;
+      }
+
+      return entry.mResponse;
+    }
+  }
+
+  /**
+   * Caches the specified response.
+   *
+   * @param key      the call key.
+   * @param response the response instance.
+   */
+  void put(@NotNull final CallKey key, @NotNull final Response<Object> response) {
+    final CacheEntry entry = new CacheEntry(response, System.nanoTime() + mTimeToLiveNanos);
+    synchronized (mEntries) {
+      mEntries.put(key, entry);
+    }
+  }
+
+  /**
+   * Cache entry.
+   */
+  private static class CacheEntry {
+
+    private final long mExpirationTime;
+
+    private final Response<Object> mResponse;
+
+    /**
+     * Constructor.
+     *
+     * @param response       the response instance.
+     * @param expirationTime the expiration time in nanoseconds.
+     */
+    private CacheEntry(@NotNull final Response<Object> response, final long expirationTime) {
+      mResponse = response;
+      mExpirationTime = expirationTime;
+    }
+  }
+}
@@ -19,6 +19,7 @@ package com.github.dm.jrt.retrofit;
 import com.github.dm.jrt.core.config.InvocationConfigurable;
 import com.github.dm.jrt.core.config.InvocationConfiguration;
 import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.UnitDuration;
 import com.github.dm.jrt.object.builder.Builders;
 
 import org.jetbrains.annotations.NotNull;
@@ -26,6 +27,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 
 import retrofit2.CallAdapter;
 
@@ -42,17 +44,24 @@ import retrofit2.CallAdapter;
 public class RoutineAdapterFactory extends AbstractAdapterFactory {
 
   private static final RoutineAdapterFactory sFactory =
-      new RoutineAdapterFactory(null, InvocationConfiguration.defaultConfiguration());
+      new RoutineAdapterFactory(null, InvocationConfiguration.defaultConfiguration(), false,
+          false, 0, UnitDuration.zero());
 
   /**
    * Constructor.
    *
    * @param delegateFactory the delegate factory.
    * @param configuration   the invocation configuration.
+   * @param isEnqueue       whether the calls are enqueued instead of being synchronously executed.
+   * @param isCoalesce      whether concurrent identical calls are coalesced into one request.
+   * @param maxCacheSize    the maximum number of cached responses.
+   * @param cacheTimeToLive the time to live of the cached responses.
    */
   private RoutineAdapterFactory(@Nullable final CallAdapter.Factory delegateFactory,
-      @NotNull final InvocationConfiguration configuration) {
-    super(delegateFactory, configuration);
+      @NotNull final InvocationConfiguration configuration, final boolean isEnqueue,
+      final boolean isCoalesce, final int maxCacheSize,
+      @NotNull final UnitDuration cacheTimeToLive) {
+    super(delegateFactory, configuration, isEnqueue, isCoalesce, maxCacheSize, cacheTimeToLive);
   }
 
   /**
@@ -86,10 +95,18 @@ public class RoutineAdapterFactory extends AbstractAdapterFactory {
    */
   public static class Builder implements InvocationConfigurable<Builder> {
 
+    private UnitDuration mCacheTimeToLive = UnitDuration.zero();
+
     private InvocationConfiguration mConfiguration = InvocationConfiguration.defaultConfiguration();
 
     private CallAdapter.Factory mDelegateFactory;
 
+    private boolean mIsCoalesce;
+
+    private boolean mIsEnqueue;
+
+    private int mMaxCacheSize;
+
     /**
      * Constructor.
      */
@@ -114,7 +131,68 @@ public class RoutineAdapterFactory extends AbstractAdapterFactory {
      */
     @NotNull
     public RoutineAdapterFactory buildFactory() {
-      return new RoutineAdapterFactory(mDelegateFactory, mConfiguration);
+      return new RoutineAdapterFactory(mDelegateFactory, mConfiguration, mIsEnqueue, mIsCoalesce,
+          mMaxCacheSize, mCacheTimeToLive);
+    }
+
+    /**
+     * Sets the maximum number and the time to live of the cached call responses.
+     * <br>
+     * Successful responses of identical calls, that is, calls sharing the same method, URL,
+     * headers and body, will be reused until they expire. The least recently used responses are
+     * evicted when the maximum size is exceeded. A size equal to 0 disables the cache. Note that
+     * raw response bodies are never cached, and that the option is ignored when a delegate factory
+     * is set.
+     *
+     * @param maxSize    the maximum number of cached responses.
+     * @param timeToLive the time to live of the cached responses.
+     * @return this builder.
+     * @throws java.lang.IllegalArgumentException if the specified size is negative.
+     */
+    @NotNull
+    public Builder cacheResponses(final int maxSize, @NotNull final UnitDuration timeToLive) {
+      mMaxCacheSize = ConstantConditions.notNegative("max cache size", maxSize);
+      mCacheTimeToLive = ConstantConditions.notNull("time to live", timeToLive);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number and the time to live of the cached call responses.
+     * <br>
+     * Successful responses of identical calls, that is, calls sharing the same method, URL,
+     * headers and body, will be reused until they expire. The least recently used responses are
+     * evicted when the maximum size is exceeded. A size equal to 0 disables the cache. Note that
+     * raw response bodies are never cached, and that the option is ignored when a delegate factory
+     * is set.
+     *
+     * @param maxSize    the maximum number of cached responses.
+     * @param timeToLive the time to live value.
+     * @param timeUnit   the time to live unit.
+     * @return this builder.
+     * @throws java.lang.IllegalArgumentException if the specified size or time to live are
+     *                                            negative.
+     */
+    @NotNull
+    public Builder cacheResponses(final int maxSize, final long timeToLive,
+        @NotNull final TimeUnit timeUnit) {
+      return cacheResponses(maxSize, UnitDuration.fromUnit(timeToLive, timeUnit));
+    }
+
+    /**
+     * Sets whether concurrent identical calls are coalesced into a single request.
+     * <br>
+     * Identical calls, that is, calls sharing the same method, URL, headers and body, will wait
+     * for the result of the one already in flight, if any. Note that calls returning a raw
+     * response body are never coalesced, and that the option is ignored when a delegate factory is
+     * set.
+     *
+     * @param isCoalesce whether to coalesce the calls.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder coalesceCalls(final boolean isCoalesce) {
+      mIsCoalesce = isCoalesce;
+      return this;
     }
 
     /**
@@ -128,5 +206,21 @@ public class RoutineAdapterFactory extends AbstractAdapterFactory {
       mDelegateFactory = factory;
       return this;
     }
+
+    /**
+     * Sets whether the calls are enqueued instead of being synchronously executed.
+     * <br>
+     * Enqueued calls do not block the invocation runner thread, since the routine results are
+     * produced by the HTTP client callback. Note that the option is ignored when a delegate
+     * factory is set.
+     *
+     * @param isEnqueue whether to enqueue the calls.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder enqueueCalls(final boolean isEnqueue) {
+      mIsEnqueue = isEnqueue;
+      return this;
+    }
   }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.retrofit;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
+import com.github.dm.jrt.core.invocation.MappingInvocation;
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Mapping invocation sharing the results of identical Retrofit calls.
+ * <br>
+ * When coalescing is enabled, concurrent identical calls share the same in-flight request, whose
+ * result is dispatched to all the waiting channels. While, when a response cache is specified,
+ * successful responses are cached and reused by the following identical calls.
+ * <br>
+ * Note that the very same response body instance is passed to all the sharing calls, so the
+ * invocation must never be employed for raw response bodies, since their content can be read only
+ * once. Calls whose request body cannot be keyed are never shared (see {@link CallKey}).
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+class SharedCallInvocation extends MappingInvocation<Call<Object>, Object> {
+
+  private final ResponseCache mCache;
+
+  private final HashMap<CallKey, ArrayList<Channel<Object, ?>>> mInFlightCalls;
+
+  private final boolean mIsEnqueue;
+
+  private final Type mResponseType;
+
+  /**
+   * Constructor.
+   *
+   * @param args          the factory arguments.
+   * @param responseType  the response type.
+   * @param isEnqueue     whether the calls are enqueued instead of being synchronously executed.
+   * @param inFlightCalls the map of in-flight calls or null, if coalescing is disabled.
+   * @param cache         the response cache or null.
+   */
+  SharedCallInvocation(@Nullable final Object[] args, @NotNull final Type responseType,
+      final boolean isEnqueue,
+      @Nullable final HashMap<CallKey, ArrayList<Channel<Object, ?>>> inFlightCalls,
+      @Nullable final ResponseCache cache) {
+    super(args);
+    mResponseType = ConstantConditions.notNull("response type", responseType);
+    mIsEnqueue = isEnqueue;
+    mInFlightCalls = inFlightCalls;
+    mCache = cache;
+  }
+
+  public void onInput(final Call<Object> input, @NotNull final Channel<Object, ?> result) throws
+      IOException {
+    final Request request = input.request();
+    final CallKey key = CallKey.isSupported(request) ? new CallKey(mResponseType, request) : null;
+    final ResponseCache cache = mCache;
+    if ((key != null) && (cache != null)) {
+      final Response<Object> response = cache.get(key);
+      if (response != null) {
+        result.pass(response.body());
+        return;
+      }
+    }
+
+    final Channel<Object, Object> channel = JRoutineCore.io().buildChannel();
+    result.pass(channel);
+    final HashMap<CallKey, ArrayList<Channel<Object, ?>>> inFlightCalls = mInFlightCalls;
+    if ((key != null) && (inFlightCalls != null)) {
+      synchronized (inFlightCalls) {
+        final ArrayList<Channel<Object, ?>> channels = inFlightCalls.get(key);
+        if (channels != null) {
+          channels.add(channel);
+          return;
+        }
+
+        final ArrayList<Channel<Object, ?>> newChannels = new ArrayList<Channel<Object, ?>>();
+        newChannels.add(channel);
+        inFlightCalls.put(key, newChannels);
+      }
+    }
+
+    final SharedCallback callback = new SharedCallback(key, channel);
+    final Response<Object> response;
+    try {
+      if (mIsEnqueue) {
+        input.enqueue(callback);
+        return;
+      }
+
+      response = input.execute();
+
+    } catch (final Throwable t) {
+      // Always release the in-flight key, so that the following identical calls are not stalled
+      callback.onFailure(input, t);
+      InvocationInterruptedException.throwIfInterrupt(t);
+      return;
+    }
+
+    callback.onResponse(input, response);
+  }
+
+  /**
+   * Retrofit callback dispatching the call response to all the waiting channels.
+   */
+  private class SharedCallback implements Callback<Object> {
+
+    private final Channel<Object, ?> mChannel;
+
+    private final CallKey mKey;
+
+    /**
+     * Constructor.
+     *
+     * @param key     the call key or null, if the call is not shared.
+     * @param channel the channel of the first call.
+     */
+    private SharedCallback(@Nullable final CallKey key, @NotNull final Channel<Object, ?> channel) {
+      mKey = key;
+      mChannel = channel;
+    }
+
+    public void onFailure(final Call<Object> call, final Throwable t) {
+      for (final Channel<Object, ?> channel : removeChannels()) {
+        channel.abort(t);
+      }
+    }
+
+    public void onResponse(final Call<Object> call, final Response<Object> response) {
+      if (response.isSuccessful()) {
+        final CallKey key = mKey;
+        final ResponseCache cache = mCache;
+        if ((key != null) && (cache != null)) {
+          cache.put(key, response);
+        }
+
+        final Object body = response.body();
+        for (final Channel<Object, ?> channel : removeChannels()) {
+          channel.pass(body).close();
+        }
+
+        return;
+      }
+
+      Throwable error;
+      try {
+        error = new ErrorResponseException(response);
+
+      } catch (final IOException e) {
+        error = e;
+      }
+
+      for (final Channel<Object, ?> channel : removeChannels()) {
+        channel.abort(error);
+      }
+    }
+
+    @NotNull
+    private List<Channel<Object, ?>> removeChannels() {
+      final HashMap<CallKey, ArrayList<Channel<Object, ?>>> inFlightCalls = mInFlightCalls;
+      if ((mKey == null) || (inFlightCalls == null)) {
+        return Collections.<Channel<Object, ?>>singletonList(mChannel);
+      }
+
+      synchronized (inFlightCalls) {
+        return inFlightCalls.remove(mKey);
+      }
+    }
+  }
+}
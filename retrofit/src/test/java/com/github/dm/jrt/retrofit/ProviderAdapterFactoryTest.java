@@ -136,6 +136,26 @@ public class ProviderAdapterFactoryTest {
     }
   }
 
+  @Test
+  public void testEnqueueCalls() {
+
+    final TestAdapterFactory factory = new TestAdapterFactory();
+    final ProviderAdapterFactory adapterFactory = //
+        ProviderAdapterFactory.builder().add("list", factory).enqueueCalls(true).buildFactory();
+    final GsonConverterFactory converterFactory = GsonConverterFactory.create();
+    final Retrofit retrofit = new Builder().baseUrl("http://localhost")
+                                           .addCallAdapterFactory(adapterFactory)
+                                           .addConverterFactory(converterFactory)
+                                           .build();
+    final GitHubService service = retrofit.create(GitHubService.class);
+    assertThat(service.getRepos("octocat").after(seconds(3)).getError()).isNotNull();
+    assertThat(service.streamRepos("octocat").call().close().after(seconds(3)).getError())
+        .isNotNull();
+    assertThat(factory.isCalled()).isFalse();
+    service.listRepos("octocat");
+    assertThat(factory.isCalled()).isTrue();
+  }
+
   @Test
   public void testNotAnnotated() {
 
@@ -18,6 +18,7 @@ package com.github.dm.jrt.retrofit;
 
 import com.github.dm.jrt.core.channel.Channel;
 import com.github.dm.jrt.core.invocation.InvocationException;
+import com.github.dm.jrt.core.runner.Runners;
 import com.github.dm.jrt.function.Consumer;
 import com.github.dm.jrt.operator.Operators;
 
@@ -28,11 +29,17 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
+import retrofit2.Callback;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.Retrofit.Builder;
 import retrofit2.converter.gson.GsonConverterFactory;
@@ -51,6 +58,213 @@ public class RoutineAdapterFactoryTest {
   private static final String BODY = "[{\"id\":\"1\", \"name\":\"Repo1\"}, {\"id\":\"2\","
       + " \"name\":\"Repo2\"}, {\"id\":\"3\", \"name\":\"Repo3\", \"isPrivate\":true}]";
 
+  @Test
+  public void testCacheResponses() throws IOException, InterruptedException {
+
+    final MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody(BODY));
+    server.enqueue(new MockResponse().setBody(BODY));
+    server.start();
+    try {
+      final RoutineAdapterFactory adapterFactory = //
+          RoutineAdapterFactory.builder()
+                               .cacheResponses(10, 500, TimeUnit.MILLISECONDS)
+                               .applyInvocationConfiguration()
+                               .withOutputTimeout(seconds(3))
+                               .configured()
+                               .buildFactory();
+      final GsonConverterFactory converterFactory = GsonConverterFactory.create();
+      final Retrofit retrofit = new Builder().baseUrl("http://localhost:" + server.getPort())
+                                             .addCallAdapterFactory(adapterFactory)
+                                             .addConverterFactory(converterFactory)
+                                             .build();
+      final GitHubService service = retrofit.create(GitHubService.class);
+      assertThat(service.getRepos("octocat").next()).hasSize(3);
+      assertThat(service.getRepos("octocat").next()).hasSize(3);
+      assertThat(server.getRequestCount()).isEqualTo(1);
+      Thread.sleep(1000);
+      assertThat(service.getRepos("octocat").next()).hasSize(3);
+      assertThat(server.getRequestCount()).isEqualTo(2);
+
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCacheResponseBody() {
+
+    final RoutineAdapterFactory adapterFactory = //
+        RoutineAdapterFactory.builder()
+                             .cacheResponses(10, seconds(10))
+                             .applyInvocationConfiguration()
+                             .withRunner(Runners.syncRunner())
+                             .configured()
+                             .buildFactory();
+    final Retrofit retrofit = new Builder().baseUrl("http://localhost").build();
+    final CallAdapter<?> adapter =
+        adapterFactory.get(AbstractAdapterFactory.getChannelType(ResponseBody.class),
+            new Annotation[0], retrofit);
+    assertThat(adapter).isNotNull();
+    final ResponseBody body = ResponseBody.create(MediaType.parse("text/plain"), "test");
+    final TestCall call1 = new TestCall(body);
+    assertThat(((Channel<Object, Object>) adapter.adapt(call1)).all()).containsExactly(body);
+    final TestCall call2 = new TestCall(body);
+    assertThat(((Channel<Object, Object>) adapter.adapt(call2)).all()).containsExactly(body);
+    assertThat(call1.isExecuted()).isTrue();
+    assertThat(call2.isExecuted()).isTrue();
+  }
+
+  @Test
+  public void testCoalesceCalls() throws IOException {
+
+    final MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody(BODY).setBodyDelay(1, TimeUnit.SECONDS));
+    server.enqueue(new MockResponse().setBody(BODY));
+    server.start();
+    try {
+      final RoutineAdapterFactory adapterFactory = //
+          RoutineAdapterFactory.builder()
+                               .enqueueCalls(true)
+                               .coalesceCalls(true)
+                               .applyInvocationConfiguration()
+                               .withOutputTimeout(seconds(3))
+                               .configured()
+                               .buildFactory();
+      final GsonConverterFactory converterFactory = GsonConverterFactory.create();
+      final Retrofit retrofit = new Builder().baseUrl("http://localhost:" + server.getPort())
+                                             .addCallAdapterFactory(adapterFactory)
+                                             .addConverterFactory(converterFactory)
+                                             .build();
+      final GitHubService service = retrofit.create(GitHubService.class);
+      final Channel<Object, List<Repo>> channel1 = service.getRepos("octocat");
+      final Channel<Object, List<Repo>> channel2 = service.getRepos("octocat");
+      assertThat(channel1.next()).hasSize(3);
+      assertThat(channel2.next()).hasSize(3);
+      assertThat(server.getRequestCount()).isEqualTo(1);
+
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCoalesceCallsFailure() {
+
+    final RoutineAdapterFactory adapterFactory = //
+        RoutineAdapterFactory.builder()
+                             .coalesceCalls(true)
+                             .applyInvocationConfiguration()
+                             .withRunner(Runners.syncRunner())
+                             .configured()
+                             .buildFactory();
+    final Retrofit retrofit = new Builder().baseUrl("http://localhost").build();
+    final CallAdapter<?> adapter =
+        adapterFactory.get(AbstractAdapterFactory.getChannelType(String.class),
+            new Annotation[0], retrofit);
+    assertThat(adapter).isNotNull();
+    final Channel<?, ?> channel1 =
+        (Channel<?, ?>) adapter.adapt(new TestCall(new IllegalStateException()));
+    assertThat(channel1.getError().getCause()).isExactlyInstanceOf(IllegalStateException.class);
+    final Channel<Object, Object> channel2 =
+        (Channel<Object, Object>) adapter.adapt(new TestCall("test"));
+    assertThat(channel2.after(seconds(3)).all()).containsExactly("test");
+  }
+
+  @Test
+  public void testCoalesceResponseBody() {
+
+    final RoutineAdapterFactory adapterFactory = //
+        RoutineAdapterFactory.builder()
+                             .enqueueCalls(true)
+                             .coalesceCalls(true)
+                             .applyInvocationConfiguration()
+                             .withRunner(Runners.syncRunner())
+                             .configured()
+                             .buildFactory();
+    final Retrofit retrofit = new Builder().baseUrl("http://localhost").build();
+    final CallAdapter<?> adapter =
+        adapterFactory.get(AbstractAdapterFactory.getChannelType(ResponseBody.class),
+            new Annotation[0], retrofit);
+    assertThat(adapter).isNotNull();
+    final ResponseBody body = ResponseBody.create(MediaType.parse("text/plain"), "test");
+    final TestCall call1 = new TestCall(body);
+    adapter.adapt(call1);
+    final TestCall call2 = new TestCall(body);
+    adapter.adapt(call2);
+    assertThat(call1.isExecuted()).isTrue();
+    assertThat(call2.isExecuted()).isTrue();
+  }
+
+  @Test
+  public void testEnqueueCalls() throws IOException {
+
+    final MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody(BODY).setBodyDelay(1, TimeUnit.SECONDS));
+    server.enqueue(new MockResponse().setBody(BODY).setBodyDelay(1, TimeUnit.SECONDS));
+    server.enqueue(new MockResponse().setBody(BODY));
+    server.enqueue(new MockResponse().setResponseCode(404));
+    server.start();
+    try {
+      final RoutineAdapterFactory adapterFactory = //
+          RoutineAdapterFactory.builder()
+                               .enqueueCalls(true)
+                               .applyInvocationConfiguration()
+                               .withRunner(Runners.poolRunner(1))
+                               .withOutputTimeout(seconds(3))
+                               .configured()
+                               .buildFactory();
+      final GsonConverterFactory converterFactory = GsonConverterFactory.create();
+      final Retrofit retrofit = new Builder().baseUrl("http://localhost:" + server.getPort())
+                                             .addCallAdapterFactory(adapterFactory)
+                                             .addConverterFactory(converterFactory)
+                                             .build();
+      final GitHubService service = retrofit.create(GitHubService.class);
+      final long startTime = System.currentTimeMillis();
+      final Channel<Object, List<Repo>> channel1 = service.getRepos("octocat");
+      final Channel<Object, List<Repo>> channel2 = service.getRepos("octocat");
+      assertThat(channel1.next()).hasSize(3);
+      assertThat(channel2.next()).hasSize(3);
+      assertThat(System.currentTimeMillis() - startTime).isLessThan(1900);
+      assertThat(service.streamRepos("octocat")
+                        .map(Operators.<Repo>unfold())
+                        .call()
+                        .close()
+                        .after(seconds(3))
+                        .all()).hasSize(3);
+      assertThat(service.getRepos("octocat").after(seconds(3)).getError()).isExactlyInstanceOf(
+          ErrorResponseException.class);
+
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void testEnqueueCancel() {
+
+    final RoutineAdapterFactory adapterFactory = //
+        RoutineAdapterFactory.builder()
+                             .enqueueCalls(true)
+                             .applyInvocationConfiguration()
+                             .withRunner(Runners.syncRunner())
+                             .configured()
+                             .buildFactory();
+    final Retrofit retrofit = new Builder().baseUrl("http://localhost").build();
+    final CallAdapter<?> adapter =
+        adapterFactory.get(AbstractAdapterFactory.getChannelType(String.class),
+            new Annotation[0], retrofit);
+    assertThat(adapter).isNotNull();
+    final TestCall call = new TestCall("test");
+    final Channel<?, ?> channel = (Channel<?, ?>) adapter.adapt(call);
+    assertThat(call.isExecuted()).isTrue();
+    assertThat(call.isCanceled()).isFalse();
+    assertThat(channel.abort()).isTrue();
+    assertThat(call.isCanceled()).isTrue();
+  }
+
   @Test
   public void testOutputChannelAdapter() throws IOException {
 
@@ -277,4 +491,52 @@ public class RoutineAdapterFactoryTest {
       };
     }
   }
+
+  private static class TestCall implements Call<Object> {
+
+    private final Object mResult;
+
+    private boolean mIsCanceled;
+
+    private boolean mIsExecuted;
+
+    private TestCall(final Object result) {
+      mResult = result;
+    }
+
+    public synchronized Response<Object> execute() throws IOException {
+      mIsExecuted = true;
+      final Object result = mResult;
+      if (result instanceof RuntimeException) {
+        throw (RuntimeException) result;
+      }
+
+      return Response.success(result);
+    }
+
+    public synchronized void enqueue(final Callback<Object> callback) {
+      mIsExecuted = true;
+    }
+
+    public synchronized boolean isExecuted() {
+      return mIsExecuted;
+    }
+
+    public synchronized void cancel() {
+      mIsCanceled = true;
+    }
+
+    public synchronized boolean isCanceled() {
+      return mIsCanceled;
+    }
+
+    @SuppressWarnings("CloneDoesntCallSuperClone")
+    public Call<Object> clone() {
+      return new TestCall(mResult);
+    }
+
+    public Request request() {
+      return new Request.Builder().url("http://localhost").build();
+    }
+  }
 }
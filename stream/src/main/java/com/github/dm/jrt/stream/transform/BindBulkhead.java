@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.config.ChannelConfiguration;
+import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.BiFunction;
+import com.github.dm.jrt.function.Function;
+import com.github.dm.jrt.stream.builder.StreamBuilder.StreamConfiguration;
+import com.github.dm.jrt.stream.transform.ThrottleChannelConsumer.CompletionHandler;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Invocation bulkhead binding function.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+class BindBulkhead<IN, OUT>
+    implements BiFunction<StreamConfiguration, Function<Channel<?, IN>, Channel<?, OUT>>, Function<?
+    super Channel<?, IN>, ? extends Channel<?, OUT>>> {
+
+  private final Bulkhead mBulkhead;
+
+  /**
+   * Constructor.
+   *
+   * @param bulkhead the bulkhead instance.
+   */
+  BindBulkhead(@NotNull final Bulkhead bulkhead) {
+    mBulkhead = ConstantConditions.notNull("bulkhead instance", bulkhead);
+  }
+
+  public Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> apply(
+      final StreamConfiguration streamConfiguration,
+      final Function<Channel<?, IN>, Channel<?, OUT>> function) {
+    return new BindingFunction(streamConfiguration.toChannelConfiguration(), function);
+  }
+
+  /**
+   * Binding function implementation.
+   */
+  private class BindingFunction
+      implements Function<Channel<?, IN>, Channel<?, OUT>>, CompletionHandler {
+
+    private final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> mBindingFunction;
+
+    private final ChannelConfiguration mConfiguration;
+
+    /**
+     * Constructor.
+     *
+     * @param configuration   the channel configuration.
+     * @param bindingFunction the binding function.
+     */
+    private BindingFunction(@NotNull final ChannelConfiguration configuration,
+        @NotNull final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>>
+            bindingFunction) {
+      mConfiguration = ConstantConditions.notNull("channel configuration", configuration);
+      mBindingFunction = ConstantConditions.notNull("binding function", bindingFunction);
+    }
+
+    public Channel<?, OUT> apply(final Channel<?, IN> channel) {
+      final Channel<OUT, OUT> outputChannel =
+          JRoutineCore.io().apply(mConfiguration).buildChannel();
+      final boolean isAccepted = mBulkhead.submit(new Runnable() {
+
+        public void run() {
+          try {
+            mBindingFunction.apply(channel)
+                            .bind(new ThrottleChannelConsumer<OUT>(BindingFunction.this,
+                                outputChannel));
+
+          } catch (final Throwable t) {
+            outputChannel.abort(t);
+            onComplete();
+            InvocationInterruptedException.throwIfInterrupt(t);
+          }
+        }
+      });
+
+      if (!isAccepted) {
+        outputChannel.abort(new BulkheadFullException("bulkhead queue is full"));
+      }
+
+      return outputChannel;
+    }
+
+    public void onComplete() {
+      mBulkhead.release();
+    }
+  }
+}
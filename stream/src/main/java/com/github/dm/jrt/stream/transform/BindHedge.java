@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.channel.Channels;
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.config.ChannelConfiguration;
+import com.github.dm.jrt.core.runner.Runners;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedge binding function.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+class BindHedge<IN, OUT> implements Function<Channel<?, IN>, Channel<?, OUT>> {
+
+  private final Function<Channel<?, IN>, Channel<?, OUT>> mBindingFunction;
+
+  private final ChannelConfiguration mConfiguration;
+
+  private final long mDelay;
+
+  private final int mMaxHedges;
+
+  /**
+   * Constructor.
+   *
+   * @param configuration   the channel configuration.
+   * @param bindingFunction the binding function.
+   * @param delay           the delay value.
+   * @param timeUnit        the delay unit.
+   * @param maxHedges       the maximum number of hedged attempts.
+   * @throws java.lang.IllegalArgumentException if the delay is negative, or the maximum number of
+   *                                            hedges is 0 or negative.
+   */
+  BindHedge(@NotNull final ChannelConfiguration configuration,
+      @NotNull final Function<Channel<?, IN>, Channel<?, OUT>> bindingFunction,
+      final long delay, @NotNull final TimeUnit timeUnit, final int maxHedges) {
+    mConfiguration = ConstantConditions.notNull("channel configuration", configuration);
+    mBindingFunction = ConstantConditions.notNull("binding function", bindingFunction);
+    mDelay = timeUnit.toMillis(ConstantConditions.notNegative("hedge delay", delay));
+    mMaxHedges = ConstantConditions.positive("max hedges", maxHedges);
+  }
+
+  public Channel<?, OUT> apply(final Channel<?, IN> channel) {
+    final ChannelConfiguration configuration = mConfiguration;
+    final Channel<?, IN> inputChannel = Channels.replay(channel).buildChannels();
+    final Channel<OUT, OUT> outputChannel = JRoutineCore.io().apply(configuration).buildChannel();
+    new HedgeExecution<IN, OUT>(inputChannel, outputChannel,
+        configuration.getRunnerOrElse(Runners.sharedRunner()), mBindingFunction, mDelay,
+        mMaxHedges).run();
+    return outputChannel;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.channel.TemplateChannelConsumer;
+import com.github.dm.jrt.core.config.ChannelConfiguration;
+import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
+import com.github.dm.jrt.core.runner.Execution;
+import com.github.dm.jrt.core.runner.Runner;
+import com.github.dm.jrt.core.runner.Runners;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.BiFunction;
+import com.github.dm.jrt.function.Function;
+import com.github.dm.jrt.stream.builder.StreamBuilder.StreamConfiguration;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invocation rate limit binding function.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+class BindInvocationRateLimit<IN, OUT>
+    implements BiFunction<StreamConfiguration, Function<Channel<?, IN>, Channel<?, OUT>>, Function<?
+    super Channel<?, IN>, ? extends Channel<?, OUT>>> {
+
+  private final RateLimitActionType mActionType;
+
+  private final RateLimiter mLimiter;
+
+  /**
+   * Constructor.
+   *
+   * @param limiter    the rate limiter instance.
+   * @param actionType the action type.
+   */
+  BindInvocationRateLimit(@NotNull final RateLimiter limiter,
+      @NotNull final RateLimitActionType actionType) {
+    mLimiter = ConstantConditions.notNull("rate limiter", limiter);
+    mActionType = ConstantConditions.notNull("action type", actionType);
+  }
+
+  public Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> apply(
+      final StreamConfiguration streamConfiguration,
+      final Function<Channel<?, IN>, Channel<?, OUT>> function) {
+    return new BindingFunction(streamConfiguration.toChannelConfiguration(), function);
+  }
+
+  /**
+   * Binding function implementation.
+   */
+  private class BindingFunction implements Function<Channel<?, IN>, Channel<?, OUT>> {
+
+    private final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> mBindingFunction;
+
+    private final ChannelConfiguration mConfiguration;
+
+    private final Runner mRunner;
+
+    /**
+     * Constructor.
+     *
+     * @param configuration   the channel configuration.
+     * @param bindingFunction the binding function.
+     */
+    BindingFunction(@NotNull final ChannelConfiguration configuration,
+        @NotNull final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>>
+            bindingFunction) {
+      mConfiguration = ConstantConditions.notNull("channel configuration", configuration);
+      mBindingFunction = ConstantConditions.notNull("binding function", bindingFunction);
+      mRunner = configuration.getRunnerOrElse(Runners.sharedRunner());
+    }
+
+    public Channel<?, OUT> apply(final Channel<?, IN> channel) throws Exception {
+      final Channel<OUT, OUT> outputChannel =
+          JRoutineCore.io().apply(mConfiguration).buildChannel();
+      final RateLimitActionType actionType = mActionType;
+      final long delay = mLimiter.acquire(actionType == RateLimitActionType.DELAY);
+      if (delay == 0) {
+        outputChannel.pass(mBindingFunction.apply(channel)).close();
+
+      } else if (delay > 0) {
+        mRunner.run(new Execution() {
+
+          public void run() {
+            try {
+              outputChannel.pass(mBindingFunction.apply(channel)).close();
+
+            } catch (final Throwable t) {
+              outputChannel.abort(t);
+              InvocationInterruptedException.throwIfInterrupt(t);
+            }
+          }
+        }, delay, TimeUnit.NANOSECONDS);
+
+      } else if (actionType == RateLimitActionType.ABORT) {
+        final RateLimitExceededException exception =
+            new RateLimitExceededException("invocation rate limit exceeded");
+        channel.abort(exception);
+        outputChannel.abort(exception);
+
+      } else {
+        // Discard the inputs so that no producer is left waiting for them to be consumed
+        channel.bind(new TemplateChannelConsumer<IN>() {});
+        outputChannel.close();
+      }
+
+      return outputChannel;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.config.ChannelConfiguration;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Output rate limit binding function.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <OUT> the output data type.
+ */
+class BindRateLimit<OUT> implements Function<Channel<?, OUT>, Channel<?, OUT>> {
+
+  private final RateLimitActionType mActionType;
+
+  private final ChannelConfiguration mConfiguration;
+
+  private final RateLimiter mLimiter;
+
+  /**
+   * Constructor.
+   *
+   * @param configuration the channel configuration.
+   * @param limiter       the rate limiter instance.
+   * @param actionType    the action type.
+   */
+  BindRateLimit(@NotNull final ChannelConfiguration configuration,
+      @NotNull final RateLimiter limiter, @NotNull final RateLimitActionType actionType) {
+    mConfiguration = ConstantConditions.notNull("channel configuration", configuration);
+    mLimiter = ConstantConditions.notNull("rate limiter", limiter);
+    mActionType = ConstantConditions.notNull("action type", actionType);
+  }
+
+  public Channel<?, OUT> apply(final Channel<?, OUT> channel) {
+    final Channel<OUT, OUT> outputChannel =
+        JRoutineCore.io().apply(mConfiguration).buildChannel();
+    channel.bind(new RateLimitChannelConsumer<OUT>(mLimiter, mActionType, outputChannel));
+    return outputChannel;
+  }
+}
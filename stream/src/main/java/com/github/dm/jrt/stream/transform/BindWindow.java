@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.config.ChannelConfiguration;
+import com.github.dm.jrt.core.runner.Runners;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.BiFunction;
+import com.github.dm.jrt.function.Function;
+import com.github.dm.jrt.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time window binding function.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <OUT>   the output data type.
+ * @param <AFTER> the accumulated data type.
+ */
+class BindWindow<OUT, AFTER> implements Function<Channel<?, OUT>, Channel<?, AFTER>> {
+
+  private static final BiFunction<List<Object>, Object, List<Object>> sAddFunction =
+      new BiFunction<List<Object>, Object, List<Object>>() {
+
+        public List<Object> apply(final List<Object> list, final Object output) {
+          list.add(output);
+          return list;
+        }
+      };
+
+  private static final Supplier<List<Object>> sListSupplier = new Supplier<List<Object>>() {
+
+    public List<Object> get() {
+      return new ArrayList<Object>();
+    }
+  };
+
+  private final BiFunction<? super AFTER, ? super OUT, ? extends AFTER> mAccumulateFunction;
+
+  private final ChannelConfiguration mConfiguration;
+
+  private final long mDuration;
+
+  private final TimeUnit mDurationUnit;
+
+  private final boolean mIsSession;
+
+  private final Supplier<? extends AFTER> mSeedSupplier;
+
+  /**
+   * Constructor.
+   *
+   * @param configuration      the channel configuration.
+   * @param duration           the window duration value.
+   * @param timeUnit           the window duration unit.
+   * @param isSession          whether the window duration is restarted by each output.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the accumulating bi-function instance.
+   */
+  BindWindow(@NotNull final ChannelConfiguration configuration, final long duration,
+      @NotNull final TimeUnit timeUnit, final boolean isSession,
+      @NotNull final Supplier<? extends AFTER> seedSupplier,
+      @NotNull final BiFunction<? super AFTER, ? super OUT, ? extends AFTER> accumulateFunction) {
+    mConfiguration = ConstantConditions.notNull("channel configuration", configuration);
+    mDuration = ConstantConditions.positive("window duration", duration);
+    mDurationUnit = ConstantConditions.notNull("window duration unit", timeUnit);
+    mIsSession = isSession;
+    mSeedSupplier = ConstantConditions.notNull("supplier instance", seedSupplier);
+    mAccumulateFunction = ConstantConditions.notNull("function instance", accumulateFunction);
+  }
+
+  /**
+   * Returns the binding function collecting the outputs of each window into a list.
+   *
+   * @param configuration the channel configuration.
+   * @param duration      the window duration value.
+   * @param timeUnit      the window duration unit.
+   * @param isSession     whether the window duration is restarted by each output.
+   * @param <OUT>         the output data type.
+   * @return the binding function.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  static <OUT> BindWindow<OUT, List<OUT>> listWindow(
+      @NotNull final ChannelConfiguration configuration, final long duration,
+      @NotNull final TimeUnit timeUnit, final boolean isSession) {
+    final Supplier<?> supplier = sListSupplier;
+    final BiFunction<?, ?, ?> function = sAddFunction;
+    return new BindWindow<OUT, List<OUT>>(configuration, duration, timeUnit, isSession,
+        (Supplier<List<OUT>>) supplier,
+        (BiFunction<? super List<OUT>, ? super OUT, ? extends List<OUT>>) function);
+  }
+
+  public Channel<?, AFTER> apply(final Channel<?, OUT> channel) {
+    final ChannelConfiguration configuration = mConfiguration;
+    final Channel<AFTER, AFTER> outputChannel =
+        JRoutineCore.io().apply(configuration).buildChannel();
+    channel.bind(new WindowChannelConsumer<OUT, AFTER>(mDuration, mDurationUnit, mIsSession,
+        mSeedSupplier, mAccumulateFunction, configuration.getRunnerOrElse(Runners.sharedRunner()),
+        outputChannel));
+    return outputChannel;
+  }
+}
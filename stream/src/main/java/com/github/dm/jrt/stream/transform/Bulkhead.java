@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class implementing a bulkhead.
+ * <br>
+ * The bulkhead caps the number of concurrently running invocations. Invocations exceeding the
+ * limit are queued up to the specified maximum number, after which they are rejected.
+ * <p>
+ * The state of the bulkhead is updated without locking, and some metrics are exposed so to allow
+ * monitoring its behavior.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+@SuppressWarnings("WeakerAccess")
+public class Bulkhead {
+
+  private final AtomicInteger mActiveCount = new AtomicInteger();
+
+  private final int mMaxConcurrent;
+
+  private final int mMaxQueue;
+
+  private final ConcurrentLinkedQueue<Runnable> mQueue = new ConcurrentLinkedQueue<Runnable>();
+
+  private final AtomicInteger mQueuedCount = new AtomicInteger();
+
+  private final AtomicLong mRejectedCount = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @param maxConcurrent the maximum number of concurrently running invocations.
+   * @param maxQueue      the maximum number of queued invocations.
+   * @throws java.lang.IllegalArgumentException if the maximum concurrent number is 0 or negative,
+   *                                            or the maximum queue size is negative.
+   */
+  public Bulkhead(final int maxConcurrent, final int maxQueue) {
+    mMaxConcurrent = ConstantConditions.positive("max concurrent", maxConcurrent);
+    mMaxQueue = ConstantConditions.notNegative("max queue size", maxQueue);
+  }
+
+  /**
+   * Returns the number of running invocations.
+   *
+   * @return the active count.
+   */
+  public int getActiveCount() {
+    return mActiveCount.get();
+  }
+
+  /**
+   * Returns the number of queued invocations.
+   *
+   * @return the queued count.
+   */
+  public int getQueuedCount() {
+    return mQueuedCount.get();
+  }
+
+  /**
+   * Returns the total number of rejected invocations.
+   *
+   * @return the rejected count.
+   */
+  public long getRejectedCount() {
+    return mRejectedCount.get();
+  }
+
+  /**
+   * Notifies the bulkhead that an invocation has completed.
+   */
+  void release() {
+    mActiveCount.decrementAndGet();
+    drain();
+  }
+
+  /**
+   * Runs the specified invocation as soon as the concurrency limit allows it.
+   * <br>
+   * The runnable must call {@link #release()} when the invocation completes.
+   *
+   * @param runnable the runnable starting the invocation.
+   * @return whether the invocation has been accepted.
+   */
+  boolean submit(@NotNull final Runnable runnable) {
+    if (tryAcquire()) {
+      runnable.run();
+      return true;
+    }
+
+    final AtomicInteger queuedCount = mQueuedCount;
+    if (queuedCount.incrementAndGet() > mMaxQueue) {
+      queuedCount.decrementAndGet();
+      mRejectedCount.incrementAndGet();
+      return false;
+    }
+
+    mQueue.add(runnable);
+    drain();
+    return true;
+  }
+
+  private void drain() {
+    final ConcurrentLinkedQueue<Runnable> queue = mQueue;
+    while (!queue.isEmpty() && tryAcquire()) {
+      final Runnable runnable = queue.poll();
+      if (runnable == null) {
+        // Another thread got the queued invocation first
+        mActiveCount.decrementAndGet();
+        continue;
+      }
+
+      mQueuedCount.decrementAndGet();
+      runnable.run();
+    }
+  }
+
+  private boolean tryAcquire() {
+    final AtomicInteger activeCount = mActiveCount;
+    final int maxConcurrent = mMaxConcurrent;
+    while (true) {
+      final int count = activeCount.get();
+      if (count >= maxConcurrent) {
+        return false;
+      }
+
+      if (activeCount.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+}
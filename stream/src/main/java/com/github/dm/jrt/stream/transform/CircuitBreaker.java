@@ -0,0 +1,269 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.channel.AbortException;
+import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.core.util.UnitDuration;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class implementing a circuit breaker.
+ * <br>
+ * The breaker starts in the closed state and evaluates the rate of failed invocations each time
+ * the specified number of invocations has completed. When the failure rate reaches the specified
+ * threshold, the breaker opens and any new invocation is made fail immediately. After the open
+ * duration has elapsed, the breaker moves to the half-open state and lets a single probe invocation
+ * through: if the probe succeeds the breaker closes again, otherwise it re-opens.
+ * <br>
+ * Note that explicit abortions, that is, errors which are instances of
+ * {@link com.github.dm.jrt.core.channel.AbortException}, are not counted as failures.
+ * <p>
+ * The state of the breaker is updated without locking, and some metrics are exposed so to allow
+ * monitoring its behavior.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+@SuppressWarnings("WeakerAccess")
+public class CircuitBreaker {
+
+  /**
+   * Permit indicating that the invocation must be made fail.
+   */
+  static final int REJECTED = 0;
+
+  /**
+   * Permit indicating that the invocation can run.
+   */
+  static final int ALLOWED = 1;
+
+  /**
+   * Permit indicating that the invocation can run as an half-open probe.
+   */
+  static final int PROBE = 2;
+
+  private static final int CLOSED = 0;
+
+  private static final int HALF_OPEN = 2;
+
+  private static final int OPEN = 1;
+
+  private final AtomicLong mFailureCount = new AtomicLong();
+
+  private final int mMaxFailures;
+
+  private final long mOpenNanos;
+
+  private final AtomicLong mRejectedCount = new AtomicLong();
+
+  private final AtomicInteger mState = new AtomicInteger(CLOSED);
+
+  private final AtomicLong mSuccessCount = new AtomicLong();
+
+  private final int mWindow;
+
+  private final AtomicLong mWindowCounts = new AtomicLong();
+
+  private volatile long mOpenTime;
+
+  /**
+   * Constructor.
+   *
+   * @param failureRate  the failure rate, in the range ]0, 1], making the breaker open.
+   * @param window       the number of invocations over which the failure rate is evaluated.
+   * @param openDuration the time the breaker stays open before letting a probe through.
+   * @throws java.lang.IllegalArgumentException if the failure rate is not in the range ]0, 1], or
+   *                                            the window is 0 or negative.
+   */
+  public CircuitBreaker(final float failureRate, final int window,
+      @NotNull final UnitDuration openDuration) {
+    this(failureRate, window, openDuration.value, openDuration.unit);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param failureRate  the failure rate, in the range ]0, 1], making the breaker open.
+   * @param window       the number of invocations over which the failure rate is evaluated.
+   * @param openDuration the time the breaker stays open before letting a probe through.
+   * @param timeUnit     the open duration unit.
+   * @throws java.lang.IllegalArgumentException if the failure rate is not in the range ]0, 1], the
+   *                                            window is 0 or negative, or the open duration is
+   *                                            negative.
+   */
+  public CircuitBreaker(final float failureRate, final int window, final long openDuration,
+      @NotNull final TimeUnit timeUnit) {
+    if ((failureRate <= 0) || (failureRate > 1)) {
+      throw new IllegalArgumentException(
+          "the failure rate must be in the range ]0, 1], but is: " + failureRate);
+    }
+
+    mWindow = ConstantConditions.positive("window size", window);
+    mMaxFailures = Math.max(1, (int) Math.ceil(failureRate * window));
+    mOpenNanos = timeUnit.toNanos(ConstantConditions.notNegative("open duration", openDuration));
+  }
+
+  /**
+   * Returns the total number of failed invocations.
+   *
+   * @return the failure count.
+   */
+  public long getFailureCount() {
+    return mFailureCount.get();
+  }
+
+  /**
+   * Returns the total number of invocations made fail because of the breaker being open.
+   *
+   * @return the rejected count.
+   */
+  public long getRejectedCount() {
+    return mRejectedCount.get();
+  }
+
+  /**
+   * Returns the current state of the breaker.
+   *
+   * @return the breaker state.
+   */
+  @NotNull
+  public State getState() {
+    final int state = mState.get();
+    if (state == CLOSED) {
+      return State.CLOSED;
+
+    } else if (state == OPEN) {
+      return State.OPEN;
+    }
+
+    return State.HALF_OPEN;
+  }
+
+  /**
+   * Returns the total number of successful invocations.
+   *
+   * @return the success count.
+   */
+  public long getSuccessCount() {
+    return mSuccessCount.get();
+  }
+
+  /**
+   * Acquires the permit to run a new invocation.
+   *
+   * @return the permit type.
+   */
+  int acquire() {
+    final AtomicInteger state = mState;
+    final int current = state.get();
+    if (current == CLOSED) {
+      return ALLOWED;
+
+    } else if ((current == OPEN) && ((System.nanoTime() - mOpenTime) >= mOpenNanos)
+        && state.compareAndSet(OPEN, HALF_OPEN)) {
+      return PROBE;
+    }
+
+    mRejectedCount.incrementAndGet();
+    return REJECTED;
+  }
+
+  /**
+   * Notifies the breaker that an invocation has completed.
+   *
+   * @param permit the permit acquired by the invocation.
+   * @param error  the error which made the invocation fail or null.
+   */
+  void release(final int permit, @Nullable final RoutineException error) {
+    final boolean isFailure = (error != null) && !(error instanceof AbortException);
+    if (isFailure) {
+      mFailureCount.incrementAndGet();
+
+    } else {
+      mSuccessCount.incrementAndGet();
+    }
+
+    if (permit == PROBE) {
+      if (isFailure) {
+        open(HALF_OPEN);
+
+      } else {
+        mWindowCounts.set(0);
+        mState.compareAndSet(HALF_OPEN, CLOSED);
+      }
+
+      return;
+    }
+
+    // Counts are packed in a single long: invocations in the high bits, failures in the low ones
+    final AtomicLong windowCounts = mWindowCounts;
+    while (true) {
+      final long counts = windowCounts.get();
+      final int count = (int) (counts >>> 32) + 1;
+      final int failures = (int) counts + (isFailure ? 1 : 0);
+      if (count < mWindow) {
+        if (windowCounts.compareAndSet(counts, ((long) count << 32) | failures)) {
+          return;
+        }
+
+      } else if (windowCounts.compareAndSet(counts, 0)) {
+        if (failures >= mMaxFailures) {
+          open(CLOSED);
+        }
+
+        return;
+      }
+    }
+  }
+
+  private void open(final int expectedState) {
+    mOpenTime = System.nanoTime();
+    mState.compareAndSet(expectedState, OPEN);
+  }
+
+  /**
+   * Circuit breaker state enumeration.
+   */
+  public enum State {
+
+    /**
+     * Closed state.
+     * <br>
+     * Invocations are run normally.
+     */
+    CLOSED,
+    /**
+     * Open state.
+     * <br>
+     * Invocations are made fail immediately.
+     */
+    OPEN,
+    /**
+     * Half-open state.
+     * <br>
+     * A single probe invocation is let through.
+     */
+    HALF_OPEN
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.channel.ChannelConsumer;
+import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Channel consumer notifying a circuit breaker of the invocation completion.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <OUT> the output data type.
+ */
+class CircuitBreakerChannelConsumer<OUT> implements ChannelConsumer<OUT> {
+
+  private final CircuitBreaker mBreaker;
+
+  private final Channel<OUT, ?> mOutputChannel;
+
+  private final int mPermit;
+
+  /**
+   * Constructor.
+   *
+   * @param breaker       the circuit breaker instance.
+   * @param permit        the acquired permit.
+   * @param outputChannel the output channel.
+   */
+  CircuitBreakerChannelConsumer(@NotNull final CircuitBreaker breaker, final int permit,
+      @NotNull final Channel<OUT, ?> outputChannel) {
+    mBreaker = ConstantConditions.notNull("circuit breaker", breaker);
+    mOutputChannel = ConstantConditions.notNull("output channel", outputChannel);
+    mPermit = permit;
+  }
+
+  public void onComplete() {
+    mBreaker.release(mPermit, null);
+    mOutputChannel.close();
+  }
+
+  public void onError(@NotNull final RoutineException error) {
+    mBreaker.release(mPermit, error);
+    mOutputChannel.abort(error);
+  }
+
+  public void onOutput(final OUT output) {
+    mOutputChannel.pass(output);
+  }
+}
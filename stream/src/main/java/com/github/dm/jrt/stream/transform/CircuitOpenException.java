@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.common.RoutineException;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Exception indicating that an invocation has been made fail because of an open circuit breaker.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+@SuppressWarnings("WeakerAccess")
+public class CircuitOpenException extends RoutineException {
+
+  /**
+   * Constructor.
+   *
+   * @param message the error message.
+   */
+  public CircuitOpenException(@Nullable final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.JRoutineCore;
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.channel.ChannelConsumer;
+import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.invocation.InvocationException;
+import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
+import com.github.dm.jrt.core.runner.Execution;
+import com.github.dm.jrt.core.runner.Runner;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.Function;
+import com.github.dm.jrt.stream.transform.RetryChannelConsumer.SafeChannelConsumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedge execution.
+ * <br>
+ * Each time the execution is run, a new attempt is started by binding the input channel to the
+ * binding function. The outputs of the first attempt to complete are passed to the output channel,
+ * while all the other attempts are aborted.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <IN>  the input data type.
+ * @param <OUT> the output data type.
+ */
+class HedgeExecution<IN, OUT> implements Execution {
+
+  private final Function<Channel<?, IN>, Channel<?, OUT>> mBindingFunction;
+
+  private final ArrayList<Channel<?, OUT>> mChannels = new ArrayList<Channel<?, OUT>>();
+
+  private final long mDelay;
+
+  private final Channel<?, IN> mInputChannel;
+
+  private final int mMaxAttempts;
+
+  private final Object mMutex = new Object();
+
+  private final Channel<OUT, ?> mOutputChannel;
+
+  private final Runner mRunner;
+
+  private int mAttemptCount;
+
+  private boolean mIsComplete;
+
+  private int mPendingCount;
+
+  /**
+   * Constructor.
+   *
+   * @param inputChannel    the input channel.
+   * @param outputChannel   the output channel.
+   * @param runner          the runner instance.
+   * @param bindingFunction the binding function.
+   * @param delayMillis     the delay in milliseconds before starting a new attempt.
+   * @param maxHedges       the maximum number of additional attempts.
+   */
+  HedgeExecution(@NotNull final Channel<?, IN> inputChannel,
+      @NotNull final Channel<OUT, ?> outputChannel, @NotNull final Runner runner,
+      @NotNull final Function<Channel<?, IN>, Channel<?, OUT>> bindingFunction,
+      final long delayMillis, final int maxHedges) {
+    mInputChannel = ConstantConditions.notNull("input channel instance", inputChannel);
+    mOutputChannel = ConstantConditions.notNull("output channel instance", outputChannel);
+    mRunner = ConstantConditions.notNull("runner instance", runner);
+    mBindingFunction = ConstantConditions.notNull("binding function", bindingFunction);
+    mDelay = delayMillis;
+    mMaxAttempts = maxHedges + 1;
+  }
+
+  public void run() {
+    final int count;
+    synchronized (mMutex) {
+      if (mIsComplete) {
+        return;
+      }
+
+      count = ++mAttemptCount;
+      ++mPendingCount;
+    }
+
+    if (count < mMaxAttempts) {
+      mRunner.run(this, mDelay, TimeUnit.MILLISECONDS);
+    }
+
+    final Channel<IN, IN> channel = JRoutineCore.io().buildChannel();
+    final Channel<?, OUT> outputChannel;
+    try {
+      mInputChannel.bind(new SafeChannelConsumer<IN>(channel));
+      outputChannel = mBindingFunction.apply(channel);
+
+    } catch (final Throwable t) {
+      channel.abort(t);
+      synchronized (mMutex) {
+        --mPendingCount;
+      }
+
+      onError(null, InvocationException.wrapIfNeeded(t));
+      InvocationInterruptedException.throwIfInterrupt(t);
+      return;
+    }
+
+    final boolean isComplete;
+    synchronized (mMutex) {
+      --mPendingCount;
+      isComplete = mIsComplete;
+      if (!isComplete) {
+        mChannels.add(outputChannel);
+      }
+    }
+
+    if (isComplete) {
+      // Stop receiving the replayed inputs
+      channel.abort();
+      outputChannel.abort();
+      return;
+    }
+
+    outputChannel.bind(new AttemptChannelConsumer(outputChannel));
+  }
+
+  private void onComplete(@NotNull final Channel<?, OUT> channel,
+      @NotNull final ArrayList<OUT> outputs) {
+    final ArrayList<Channel<?, OUT>> channels;
+    synchronized (mMutex) {
+      if (mIsComplete) {
+        return;
+      }
+
+      mIsComplete = true;
+      channels = new ArrayList<Channel<?, OUT>>(mChannels);
+      mChannels.clear();
+    }
+
+    mRunner.cancel(this);
+    for (final Channel<?, OUT> other : channels) {
+      if (other != channel) {
+        other.abort();
+      }
+    }
+
+    final Channel<OUT, ?> outputChannel = mOutputChannel;
+    try {
+      outputChannel.pass(outputs).close();
+
+    } catch (final Throwable t) {
+      outputChannel.abort(t);
+      InvocationInterruptedException.throwIfInterrupt(t);
+    }
+  }
+
+  private void onError(@Nullable final Channel<?, OUT> channel,
+      @NotNull final RoutineException error) {
+    synchronized (mMutex) {
+      if (mIsComplete) {
+        return;
+      }
+
+      final ArrayList<Channel<?, OUT>> channels = mChannels;
+      channels.remove(channel);
+      // Wait for the running attempts, the starting ones and the pending ones to complete
+      if (!channels.isEmpty() || (mPendingCount > 0) || (mAttemptCount < mMaxAttempts)) {
+        return;
+      }
+
+      mIsComplete = true;
+    }
+
+    mRunner.cancel(this);
+    mOutputChannel.abort(error);
+    mInputChannel.abort(error);
+  }
+
+  /**
+   * Channel consumer collecting the outputs of a single attempt.
+   */
+  private class AttemptChannelConsumer implements ChannelConsumer<OUT> {
+
+    private final Channel<?, OUT> mChannel;
+
+    private final ArrayList<OUT> mOutputs = new ArrayList<OUT>();
+
+    /**
+     * Constructor.
+     *
+     * @param channel the attempt output channel.
+     */
+    private AttemptChannelConsumer(@NotNull final Channel<?, OUT> channel) {
+      mChannel = channel;
+    }
+
+    public void onComplete() {
+      HedgeExecution.this.onComplete(mChannel, mOutputs);
+    }
+
+    public void onError(@NotNull final RoutineException error) {
+      HedgeExecution.this.onError(mChannel, error);
+    }
+
+    public void onOutput(final OUT output) {
+      mOutputs.add(output);
+    }
+  }
+}
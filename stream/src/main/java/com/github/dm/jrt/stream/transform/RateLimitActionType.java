@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+/**
+ * Enumeration indicating the type of action to be taken when the rate limit is exceeded.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+public enum RateLimitActionType {
+
+  /**
+   * Delay execution.
+   * <br>
+   * The data or the invocation will be delayed until a permit becomes available.
+   */
+  DELAY,
+  /**
+   * Drop data.
+   * <br>
+   * The data will be discarded, while the invocation will complete without producing any output.
+   */
+  DROP,
+  /**
+   * Abort execution.
+   * <br>
+   * The stream will be aborted with a
+   * {@link com.github.dm.jrt.stream.transform.RateLimitExceededException
+   * RateLimitExceededException}.
+   */
+  ABORT
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.channel.ChannelConsumer;
+import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting channel consumer.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <OUT> the output data type.
+ */
+class RateLimitChannelConsumer<OUT> implements ChannelConsumer<OUT> {
+
+  private final RateLimitActionType mActionType;
+
+  private final RateLimiter mLimiter;
+
+  private final Channel<OUT, ?> mOutputChannel;
+
+  private boolean mIsAborted;
+
+  /**
+   * Constructor.
+   *
+   * @param limiter       the rate limiter instance.
+   * @param actionType    the action type.
+   * @param outputChannel the output channel.
+   */
+  RateLimitChannelConsumer(@NotNull final RateLimiter limiter,
+      @NotNull final RateLimitActionType actionType, @NotNull final Channel<OUT, ?> outputChannel) {
+    mLimiter = ConstantConditions.notNull("rate limiter", limiter);
+    mActionType = ConstantConditions.notNull("action type", actionType);
+    mOutputChannel = ConstantConditions.notNull("output channel", outputChannel);
+  }
+
+  public void onComplete() {
+    mOutputChannel.close();
+  }
+
+  public void onError(@NotNull final RoutineException error) {
+    mOutputChannel.abort(error);
+  }
+
+  public void onOutput(final OUT output) {
+    if (mIsAborted) {
+      return;
+    }
+
+    final RateLimitActionType actionType = mActionType;
+    final long delay = mLimiter.acquire(actionType == RateLimitActionType.DELAY);
+    if (delay == 0) {
+      mOutputChannel.pass(output);
+
+    } else if (delay > 0) {
+      mOutputChannel.after(delay, TimeUnit.NANOSECONDS).pass(output).now();
+
+    } else if (actionType == RateLimitActionType.ABORT) {
+      mIsAborted = true;
+      mOutputChannel.abort(new RateLimitExceededException("rate limit exceeded"));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.util.ConstantConditions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free rate limiter implementing the generic cell rate algorithm (GCRA).
+ * <br>
+ * The limiter state is made of the sole theoretical arrival time of the next permit, which is
+ * advanced by the emission interval each time a permit is acquired. A permit is conforming if
+ * the theoretical arrival time does not exceed the current time by more than the burst tolerance.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ */
+class RateLimiter {
+
+  private final long mIntervalNanos;
+
+  private final AtomicLong mTheoreticalTime;
+
+  private final long mToleranceNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param maxCount the maximum number of permits in the time range.
+   * @param range    the time range value.
+   * @param timeUnit the time range unit.
+   * @param maxBurst the maximum number of permits which can be acquired at once.
+   * @throws java.lang.IllegalArgumentException if the specified count or burst are 0 or negative,
+   *                                            the range is negative, or the rate exceeds one
+   *                                            permit per nanosecond.
+   */
+  RateLimiter(final int maxCount, final long range, @NotNull final TimeUnit timeUnit,
+      final int maxBurst) {
+    ConstantConditions.positive("max count", maxCount);
+    ConstantConditions.notNegative("time range", range);
+    ConstantConditions.positive("max burst", maxBurst);
+    final long rangeNanos = timeUnit.toNanos(range);
+    final long intervalNanos = rangeNanos / maxCount;
+    if ((rangeNanos > 0) && (intervalNanos == 0)) {
+      throw new IllegalArgumentException(
+          "the rate limit cannot exceed one permit per nanosecond: " + maxCount + " in "
+              + rangeNanos + " nanoseconds");
+    }
+
+    mIntervalNanos = intervalNanos;
+    mToleranceNanos = mIntervalNanos * (maxBurst - 1);
+    mTheoreticalTime = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Acquires a permit.
+   * <br>
+   * If the permit is not conforming and the reservation is not allowed, the limiter state is left
+   * unchanged and a negative number is returned.
+   *
+   * @param isReserve whether to reserve a permit in the future, when none is currently available.
+   * @return the number of nanoseconds to wait before using the permit, or a negative number if no
+   * permit has been acquired.
+   */
+  long acquire(final boolean isReserve) {
+    final AtomicLong theoreticalTime = mTheoreticalTime;
+    final long intervalNanos = mIntervalNanos;
+    final long toleranceNanos = mToleranceNanos;
+    while (true) {
+      final long now = System.nanoTime();
+      final long time = theoreticalTime.get();
+      final long arrivalTime = (time - now > 0) ? time : now;
+      final long delay = arrivalTime - now - toleranceNanos;
+      if ((delay > 0) && !isReserve) {
+        return -1;
+      }
+
+      if (theoreticalTime.compareAndSet(time, arrivalTime + intervalNanos)) {
+        return Math.max(delay, 0);
+      }
+    }
+  }
+}
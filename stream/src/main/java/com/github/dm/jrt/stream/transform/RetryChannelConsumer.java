@@ -114,7 +114,7 @@ class RetryChannelConsumer<IN, OUT> implements Execution, ChannelConsumer<OUT> {
    *
    * @param <IN> the input data type.
    */
-  private static class SafeChannelConsumer<IN> implements ChannelConsumer<IN> {
+  static class SafeChannelConsumer<IN> implements ChannelConsumer<IN> {
 
     private final Channel<IN, ?> mChannel;
 
@@ -123,7 +123,7 @@ class RetryChannelConsumer<IN, OUT> implements Execution, ChannelConsumer<OUT> {
      *
      * @param channel the channel.
      */
-    private SafeChannelConsumer(@NotNull final Channel<IN, ?> channel) {
+    SafeChannelConsumer(@NotNull final Channel<IN, ?> channel) {
       mChannel = channel;
     }
 
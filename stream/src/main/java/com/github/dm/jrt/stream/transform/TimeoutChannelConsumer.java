@@ -26,10 +26,14 @@ import com.github.dm.jrt.core.util.ConstantConditions;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Timeout channel consumer.
+ * <br>
+ * The time of the last output is stored in a volatile field, while a single check execution,
+ * scheduled when the first output is received, reschedules itself for the remaining time until
+ * the timeout is actually elapsed.
  * <p>
  * Created by davide-maestroni on 07/29/2016.
  *
@@ -37,7 +41,8 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 class TimeoutChannelConsumer<OUT> implements ChannelConsumer<OUT> {
 
-  private final AtomicLong mCount = new AtomicLong();
+  private final AtomicReference<CheckExecution> mExecution =
+      new AtomicReference<CheckExecution>();
 
   private final Channel<OUT, ?> mOutputChannel;
 
@@ -45,9 +50,13 @@ class TimeoutChannelConsumer<OUT> implements ChannelConsumer<OUT> {
 
   private final long mTimeout;
 
+  private final long mTimeoutNanos;
+
   private final TimeUnit mTimeoutUnit;
 
-  private AbortExecution mExecution = new AbortExecution();
+  private volatile boolean mIsComplete;
+
+  private volatile long mLastOutputTime;
 
   /**
    * Constructor.
@@ -63,46 +72,56 @@ class TimeoutChannelConsumer<OUT> implements ChannelConsumer<OUT> {
     mTimeoutUnit = ConstantConditions.notNull("timeout unit", timeUnit);
     mRunner = ConstantConditions.notNull("runner instance", runner);
     mOutputChannel = ConstantConditions.notNull("output channel", outputChannel);
+    mTimeoutNanos = timeUnit.toNanos(timeout);
   }
 
   public void onComplete() throws Exception {
+    stopTimeout();
     mOutputChannel.close();
   }
 
   public void onError(@NotNull final RoutineException error) {
+    stopTimeout();
     mOutputChannel.abort(error);
   }
 
   public void onOutput(final OUT output) {
-    restartTimeout();
+    mLastOutputTime = System.nanoTime();
+    if (mExecution.get() == null) {
+      final CheckExecution execution = new CheckExecution();
+      if (mExecution.compareAndSet(null, execution)) {
+        mRunner.run(execution, mTimeoutNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
     mOutputChannel.pass(output);
   }
 
-  private void restartTimeout() {
-    final Runner runner = mRunner;
-    runner.cancel(mExecution);
-    final AbortExecution execution = (mExecution = new AbortExecution());
-    runner.run(execution, mTimeout, mTimeoutUnit);
+  private void stopTimeout() {
+    mIsComplete = true;
+    final CheckExecution execution = mExecution.get();
+    if (execution != null) {
+      mRunner.cancel(execution);
+    }
   }
 
   /**
-   * Execution aborting the output channel.
+   * Execution checking the elapsed time and aborting the output channel on timeout.
    */
-  private class AbortExecution implements Execution {
+  private class CheckExecution implements Execution {
 
-    private final long mExecutionCount;
+    public void run() {
+      if (mIsComplete) {
+        return;
+      }
 
-    /**
-     * Constructor.
-     */
-    AbortExecution() {
-      mExecutionCount = mCount.incrementAndGet();
-    }
+      final long remaining = mTimeoutNanos - (System.nanoTime() - mLastOutputTime);
+      if (remaining > 0) {
+        mRunner.run(this, remaining, TimeUnit.NANOSECONDS);
 
-    public void run() {
-      if (mExecutionCount == mCount.get()) {
+      } else {
         mOutputChannel.abort(new ResultTimeoutException(
-            "timeout while waiting for inputs: [" + mTimeout + " " + mTimeout + "]"));
+            "timeout while waiting for inputs: [" + mTimeout + " " + mTimeoutUnit + "]"));
       }
     }
   }
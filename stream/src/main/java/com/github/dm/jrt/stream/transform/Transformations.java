@@ -30,11 +30,13 @@ import com.github.dm.jrt.function.Action;
 import com.github.dm.jrt.function.BiConsumer;
 import com.github.dm.jrt.function.BiFunction;
 import com.github.dm.jrt.function.Function;
+import com.github.dm.jrt.function.Supplier;
 import com.github.dm.jrt.stream.builder.StreamBuilder;
 import com.github.dm.jrt.stream.builder.StreamBuilder.StreamConfiguration;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.github.dm.jrt.function.Functions.decorate;
@@ -54,6 +56,150 @@ public class Transformations {
     ConstantConditions.avoid();
   }
 
+  /**
+   * Returns a function making the stream cap the number of concurrently running invocation
+   * instances through the specified bulkhead.
+   * <br>
+   * Invocations exceeding the limit are queued and started as soon as the running ones complete.
+   * When the bulkhead queue is full, the stream is aborted with a
+   * {@link com.github.dm.jrt.stream.transform.BulkheadFullException BulkheadFullException}.
+   * <br>
+   * Note that the same bulkhead instance can be used with several streams, so that the total
+   * number of invocations will not exceed the specified limit.
+   *
+   * @param bulkhead the bulkhead instance.
+   * @param <IN>     the input data type.
+   * @param <OUT>    the output data type.
+   * @return the transformation function.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> bulkhead(
+      @NotNull final Bulkhead bulkhead) {
+    final BindBulkhead<IN, OUT> bindBulkhead = new BindBulkhead<IN, OUT>(bulkhead);
+    return new Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>>() {
+
+      public StreamBuilder<IN, OUT> apply(final StreamBuilder<IN, OUT> builder) {
+        return builder.liftWithConfig(bindBulkhead);
+      }
+    };
+  }
+
+  /**
+   * Returns a function making the stream cap the number of concurrently running invocation
+   * instances.
+   * <br>
+   * Invocations exceeding the limit are queued and started as soon as the running ones complete.
+   * When the queue is full, the stream is aborted with a
+   * {@link com.github.dm.jrt.stream.transform.BulkheadFullException BulkheadFullException}.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the total
+   * number of invocations will not exceed the specified limit.
+   *
+   * @param maxConcurrent the maximum number of concurrently running invocations.
+   * @param maxQueue      the maximum number of queued invocations.
+   * @param <IN>          the input data type.
+   * @param <OUT>         the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the maximum concurrent number is 0 or negative,
+   *                                            or the maximum queue size is negative.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> bulkhead(
+      final int maxConcurrent, final int maxQueue) {
+    return bulkhead(new Bulkhead(maxConcurrent, maxQueue));
+  }
+
+  /**
+   * Returns a function making the stream invocation instances go through the specified circuit
+   * breaker.
+   * <br>
+   * While the breaker is open, the stream is immediately aborted with a
+   * {@link com.github.dm.jrt.stream.transform.CircuitOpenException CircuitOpenException}.
+   * <br>
+   * Note that the same breaker instance can be used with several streams, so that the failures of
+   * all of them will contribute to its state.
+   *
+   * @param breaker the circuit breaker instance.
+   * @param <IN>    the input data type.
+   * @param <OUT>   the output data type.
+   * @return the transformation function.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> circuitBreaker(
+      @NotNull final CircuitBreaker breaker) {
+    final BindCircuitBreaker<IN, OUT> bindBreaker = new BindCircuitBreaker<IN, OUT>(breaker);
+    return new Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>>() {
+
+      public StreamBuilder<IN, OUT> apply(final StreamBuilder<IN, OUT> builder) {
+        return builder.liftWithConfig(bindBreaker);
+      }
+    };
+  }
+
+  /**
+   * Returns a function making the stream invocation instances go through a circuit breaker.
+   * <br>
+   * The breaker opens when the rate of failed invocations, evaluated each time the specified
+   * number of invocations has completed, reaches the passed threshold. While open, the stream is
+   * immediately aborted with a
+   * {@link com.github.dm.jrt.stream.transform.CircuitOpenException CircuitOpenException}. After
+   * the open duration has elapsed, a single probe invocation is let through to decide whether to
+   * close the breaker again.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the failures
+   * of all of them will contribute to the breaker state.
+   *
+   * @param failureRate  the failure rate, in the range ]0, 1], making the breaker open.
+   * @param window       the number of invocations over which the failure rate is evaluated.
+   * @param openDuration the time the breaker stays open before letting a probe through.
+   * @param <IN>         the input data type.
+   * @param <OUT>        the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the failure rate is not in the range ]0, 1], or
+   *                                            the window is 0 or negative.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> circuitBreaker(
+      final float failureRate, final int window, @NotNull final UnitDuration openDuration) {
+    return circuitBreaker(new CircuitBreaker(failureRate, window, openDuration));
+  }
+
+  /**
+   * Returns a function making the stream invocation instances go through a circuit breaker.
+   * <br>
+   * The breaker opens when the rate of failed invocations, evaluated each time the specified
+   * number of invocations has completed, reaches the passed threshold. While open, the stream is
+   * immediately aborted with a
+   * {@link com.github.dm.jrt.stream.transform.CircuitOpenException CircuitOpenException}. After
+   * the open duration has elapsed, a single probe invocation is let through to decide whether to
+   * close the breaker again.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the failures
+   * of all of them will contribute to the breaker state.
+   *
+   * @param failureRate  the failure rate, in the range ]0, 1], making the breaker open.
+   * @param window       the number of invocations over which the failure rate is evaluated.
+   * @param openDuration the open duration value.
+   * @param timeUnit     the open duration unit.
+   * @param <IN>         the input data type.
+   * @param <OUT>        the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the failure rate is not in the range ]0, 1], the
+   *                                            window is 0 or negative, or the open duration is
+   *                                            negative.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> circuitBreaker(
+      final float failureRate, final int window, final long openDuration,
+      @NotNull final TimeUnit timeUnit) {
+    return circuitBreaker(new CircuitBreaker(failureRate, window, openDuration, timeUnit));
+  }
+
   /**
    * Returns a function adding a delay at the end of the stream, so that any data, exception or
    * completion notification will be dispatched to the next concatenated routine after the
@@ -103,6 +249,74 @@ public class Transformations {
     return delay(delay.value, delay.unit);
   }
 
+  /**
+   * Returns a function making the stream hedge the whole flow of data, by starting a duplicate of
+   * it each time the specified delay elapses without any of the running ones having completed.
+   * <br>
+   * All the duplicates receive the same inputs, and the outputs of the first one to complete are
+   * passed to the stream, while all the others are aborted. In case all the duplicates fail, the
+   * flow of data is aborted with the error of the last one.
+   * <p>
+   * Note that, like for {@link #retry(BiFunction)}, the outputs are collected and passed to the
+   * stream only when a duplicate completes.
+   *
+   * @param delay     the delay before starting a new duplicate.
+   * @param maxHedges the maximum number of duplicates.
+   * @param <IN>      the input data type.
+   * @param <OUT>     the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified number of duplicates is 0 or
+   *                                            negative.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> hedge(
+      @NotNull final UnitDuration delay, final int maxHedges) {
+    return hedge(delay.value, delay.unit, maxHedges);
+  }
+
+  /**
+   * Returns a function making the stream hedge the whole flow of data, by starting a duplicate of
+   * it each time the specified delay elapses without any of the running ones having completed.
+   * <br>
+   * All the duplicates receive the same inputs, and the outputs of the first one to complete are
+   * passed to the stream, while all the others are aborted. In case all the duplicates fail, the
+   * flow of data is aborted with the error of the last one.
+   * <p>
+   * Note that, like for {@link #retry(BiFunction)}, the outputs are collected and passed to the
+   * stream only when a duplicate completes.
+   *
+   * @param delay     the delay value.
+   * @param timeUnit  the delay time unit.
+   * @param maxHedges the maximum number of duplicates.
+   * @param <IN>      the input data type.
+   * @param <OUT>     the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified delay is negative, or the number
+   *                                            of duplicates is 0 or negative.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> hedge(
+      final long delay, @NotNull final TimeUnit timeUnit, final int maxHedges) {
+    ConstantConditions.notNull("time unit", timeUnit);
+    ConstantConditions.notNegative("hedge delay", delay);
+    ConstantConditions.positive("max hedges", maxHedges);
+    return new TransformationFunction<IN, OUT, OUT>(
+        new BiFunction<StreamConfiguration, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>>() {
+
+          @SuppressWarnings("unchecked")
+          public Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> apply(
+              final StreamConfiguration streamConfiguration,
+              final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> function) {
+            return new BindHedge<IN, OUT>(streamConfiguration.toChannelConfiguration(),
+                (Function<Channel<?, IN>, Channel<?, OUT>>) function, delay, timeUnit, maxHedges);
+          }
+        });
+  }
+
   /**
    * Returns a function adding a delay at the beginning of the stream, so that any data, exception
    * or completion notification coming from the source will be dispatched to the stream after the
@@ -350,6 +564,150 @@ public class Transformations {
     return parallelBy(keyFunction, builder.buildRoutine());
   }
 
+  /**
+   * Returns a function making the stream limit the rate of its outputs so that, on average, only
+   * the specified maximum number are produced in the passed time range.
+   * <br>
+   * The rate is enforced through the generic cell rate algorithm (GCRA), which allows at maximum
+   * the specified number of outputs to be produced at once. Outputs exceeding the rate will be
+   * handled based on the specified action type.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the total
+   * rate of outputs will not exceed the specified limit.
+   *
+   * @param maxCount   the maximum number of outputs.
+   * @param range      the time range.
+   * @param maxBurst   the maximum number of outputs produced at once.
+   * @param actionType the action type.
+   * @param <IN>       the input data type.
+   * @param <OUT>      the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified count or burst number are 0 or
+   *                                            negative, or the rate exceeds one per
+   *                                            nanosecond.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> rateLimit(
+      final int maxCount, @NotNull final UnitDuration range, final int maxBurst,
+      @NotNull final RateLimitActionType actionType) {
+    return rateLimit(maxCount, range.value, range.unit, maxBurst, actionType);
+  }
+
+  /**
+   * Returns a function making the stream limit the rate of its outputs so that, on average, only
+   * the specified maximum number are produced in the passed time range.
+   * <br>
+   * The rate is enforced through the generic cell rate algorithm (GCRA), which allows at maximum
+   * the specified number of outputs to be produced at once. Outputs exceeding the rate will be
+   * handled based on the specified action type.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the total
+   * rate of outputs will not exceed the specified limit.
+   *
+   * @param maxCount   the maximum number of outputs.
+   * @param range      the time range value.
+   * @param timeUnit   the time range unit.
+   * @param maxBurst   the maximum number of outputs produced at once.
+   * @param actionType the action type.
+   * @param <IN>       the input data type.
+   * @param <OUT>      the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified count or burst number are 0 or
+   *                                            negative, the range is negative, or the rate
+   *                                            exceeds one per nanosecond.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>> rateLimit(
+      final int maxCount, final long range, @NotNull final TimeUnit timeUnit, final int maxBurst,
+      @NotNull final RateLimitActionType actionType) {
+    ConstantConditions.notNull("action type", actionType);
+    final RateLimiter limiter = new RateLimiter(maxCount, range, timeUnit, maxBurst);
+    return new TransformationFunction<IN, OUT, OUT>(
+        new BiFunction<StreamConfiguration, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>>() {
+
+          public Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> apply(
+              final StreamConfiguration streamConfiguration,
+              final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> function) {
+            return decorate(function).andThen(
+                new BindRateLimit<OUT>(streamConfiguration.toChannelConfiguration(), limiter,
+                    actionType));
+          }
+        });
+  }
+
+  /**
+   * Returns a function making the stream limit the rate of the invocation instances so that, on
+   * average, only the specified maximum number are started in the passed time range.
+   * <br>
+   * The rate is enforced through the generic cell rate algorithm (GCRA), which allows at maximum
+   * the specified number of invocations to be started at once. Invocations exceeding the rate will
+   * be handled based on the specified action type.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the total
+   * rate of started invocations will not exceed the specified limit.
+   *
+   * @param maxInvocations the maximum number of invocations.
+   * @param range          the time range.
+   * @param maxBurst       the maximum number of invocations started at once.
+   * @param actionType     the action type.
+   * @param <IN>           the input data type.
+   * @param <OUT>          the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified count or burst number are 0 or
+   *                                            negative, or the rate exceeds one per
+   *                                            nanosecond.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>>
+  rateLimitInvocations(final int maxInvocations, @NotNull final UnitDuration range,
+      final int maxBurst, @NotNull final RateLimitActionType actionType) {
+    return rateLimitInvocations(maxInvocations, range.value, range.unit, maxBurst, actionType);
+  }
+
+  /**
+   * Returns a function making the stream limit the rate of the invocation instances so that, on
+   * average, only the specified maximum number are started in the passed time range.
+   * <br>
+   * The rate is enforced through the generic cell rate algorithm (GCRA), which allows at maximum
+   * the specified number of invocations to be started at once. Invocations exceeding the rate will
+   * be handled based on the specified action type.
+   * <br>
+   * Note that the same function instance can be used with several streams, so that the total
+   * rate of started invocations will not exceed the specified limit.
+   *
+   * @param maxInvocations the maximum number of invocations.
+   * @param range          the time range value.
+   * @param timeUnit       the time range unit.
+   * @param maxBurst       the maximum number of invocations started at once.
+   * @param actionType     the action type.
+   * @param <IN>           the input data type.
+   * @param <OUT>          the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified count or burst number are 0 or
+   *                                            negative, the range is negative, or the rate
+   *                                            exceeds one per nanosecond.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>>
+  rateLimitInvocations(final int maxInvocations, final long range,
+      @NotNull final TimeUnit timeUnit, final int maxBurst,
+      @NotNull final RateLimitActionType actionType) {
+    final BindInvocationRateLimit<IN, OUT> rateLimit = new BindInvocationRateLimit<IN, OUT>(
+        new RateLimiter(maxInvocations, range, timeUnit, maxBurst), actionType);
+    return new Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, OUT>>() {
+
+      public StreamBuilder<IN, OUT> apply(final StreamBuilder<IN, OUT> builder) {
+        return builder.liftWithConfig(rateLimit);
+      }
+    };
+  }
+
   /**
    * Returns a function making the stream retry the whole flow of data at maximum for the
    * specified number of times.
@@ -425,6 +783,116 @@ public class Transformations {
         });
   }
 
+  /**
+   * Returns a function accumulating the stream outputs into session windows, that is, windows
+   * closed only when no new output is produced for the specified time.
+   * <br>
+   * The first output opens a new window, whose result is passed on as soon as the gap of
+   * inactivity elapses, even if no further output arrives, or when the stream completes.
+   * <br>
+   * The outputs of each window are collected into a list.
+   *
+   * @param duration the window duration.
+   * @param <IN>     the input data type.
+   * @param <OUT>    the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified duration is not positive.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, List<OUT>>>
+  sessionWindow(@NotNull final UnitDuration duration) {
+    return sessionWindow(duration.value, duration.unit);
+  }
+
+  /**
+   * Returns a function accumulating the stream outputs into session windows, that is, windows
+   * closed only when no new output is produced for the specified time.
+   * <br>
+   * The first output opens a new window, whose result is passed on as soon as the gap of
+   * inactivity elapses, even if no further output arrives, or when the stream completes.
+   * <br>
+   * The outputs of each window are collected into a list.
+   *
+   * @param duration the window duration value.
+   * @param timeUnit the window duration unit.
+   * @param <IN>     the input data type.
+   * @param <OUT>    the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified duration is not positive.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, List<OUT>>>
+  sessionWindow(final long duration, @NotNull final TimeUnit timeUnit) {
+    ConstantConditions.notNull("time unit", timeUnit);
+    ConstantConditions.positive("window duration", duration);
+    return new TransformationFunction<IN, OUT, List<OUT>>(
+        new BiFunction<StreamConfiguration, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>, Function<? super Channel<?, IN>, ?
+            extends Channel<?, List<OUT>>>>() {
+
+          public Function<? super Channel<?, IN>, ? extends Channel<?, List<OUT>>> apply(
+              final StreamConfiguration streamConfiguration,
+              final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> function) {
+            return decorate(function).andThen(
+                BindWindow.<OUT>listWindow(streamConfiguration.toChannelConfiguration(), duration,
+                    timeUnit, true));
+          }
+        });
+  }
+
+  /**
+   * Returns a function accumulating the stream outputs into session windows, that is, windows
+   * closed only when no new output is produced for the specified time.
+   * <br>
+   * The first output opens a new window, whose result is passed on as soon as the gap of
+   * inactivity elapses, even if no further output arrives, or when the stream completes.
+   * <br>
+   * The value of each window will be computed as follows:
+   * <pre>
+   *     <code>
+   *
+   *         acc = function.apply(acc, output);
+   *     </code>
+   * </pre>
+   * where the initial accumulated value will be the one returned by the specified supplier.
+   *
+   * @param duration           the window duration value.
+   * @param timeUnit           the window duration unit.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the bi-function instance.
+   * @param <IN>               the input data type.
+   * @param <OUT>              the output data type.
+   * @param <AFTER>            the accumulated data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified duration is not positive.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT, AFTER> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, AFTER>>
+  sessionWindow(final long duration, @NotNull final TimeUnit timeUnit,
+      @NotNull final Supplier<? extends AFTER> seedSupplier,
+      @NotNull final BiFunction<? super AFTER, ? super OUT, ? extends AFTER> accumulateFunction) {
+    ConstantConditions.notNull("time unit", timeUnit);
+    ConstantConditions.positive("window duration", duration);
+    ConstantConditions.notNull("supplier instance", seedSupplier);
+    ConstantConditions.notNull("function instance", accumulateFunction);
+    return new TransformationFunction<IN, OUT, AFTER>(
+        new BiFunction<StreamConfiguration, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>, Function<? super Channel<?, IN>, ?
+            extends Channel<?, AFTER>>>() {
+
+          public Function<? super Channel<?, IN>, ? extends Channel<?, AFTER>> apply(
+              final StreamConfiguration streamConfiguration,
+              final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> function) {
+            return decorate(function).andThen(
+                new BindWindow<OUT, AFTER>(streamConfiguration.toChannelConfiguration(), duration,
+                    timeUnit, true, seedSupplier, accumulateFunction));
+          }
+        });
+  }
+
   /**
    * Returns a function making the stream throttle the invocation instances so that only the
    * specified maximum number are concurrently running at any given time.
@@ -633,6 +1101,116 @@ public class Transformations {
         });
   }
 
+  /**
+   * Returns a function accumulating the stream outputs into tumbling windows of the specified
+   * duration.
+   * <br>
+   * The first output opens a new window, whose result is passed on as soon as the duration
+   * elapses, even if no further output arrives, or when the stream completes.
+   * <br>
+   * The outputs of each window are collected into a list.
+   *
+   * @param duration the window duration.
+   * @param <IN>     the input data type.
+   * @param <OUT>    the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified duration is not positive.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, List<OUT>>>
+  tumblingWindow(@NotNull final UnitDuration duration) {
+    return tumblingWindow(duration.value, duration.unit);
+  }
+
+  /**
+   * Returns a function accumulating the stream outputs into tumbling windows of the specified
+   * duration.
+   * <br>
+   * The first output opens a new window, whose result is passed on as soon as the duration
+   * elapses, even if no further output arrives, or when the stream completes.
+   * <br>
+   * The outputs of each window are collected into a list.
+   *
+   * @param duration the window duration value.
+   * @param timeUnit the window duration unit.
+   * @param <IN>     the input data type.
+   * @param <OUT>    the output data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified duration is not positive.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, List<OUT>>>
+  tumblingWindow(final long duration, @NotNull final TimeUnit timeUnit) {
+    ConstantConditions.notNull("time unit", timeUnit);
+    ConstantConditions.positive("window duration", duration);
+    return new TransformationFunction<IN, OUT, List<OUT>>(
+        new BiFunction<StreamConfiguration, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>, Function<? super Channel<?, IN>, ?
+            extends Channel<?, List<OUT>>>>() {
+
+          public Function<? super Channel<?, IN>, ? extends Channel<?, List<OUT>>> apply(
+              final StreamConfiguration streamConfiguration,
+              final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> function) {
+            return decorate(function).andThen(
+                BindWindow.<OUT>listWindow(streamConfiguration.toChannelConfiguration(), duration,
+                    timeUnit, false));
+          }
+        });
+  }
+
+  /**
+   * Returns a function accumulating the stream outputs into tumbling windows of the specified
+   * duration.
+   * <br>
+   * The first output opens a new window, whose result is passed on as soon as the duration
+   * elapses, even if no further output arrives, or when the stream completes.
+   * <br>
+   * The value of each window will be computed as follows:
+   * <pre>
+   *     <code>
+   *
+   *         acc = function.apply(acc, output);
+   *     </code>
+   * </pre>
+   * where the initial accumulated value will be the one returned by the specified supplier.
+   *
+   * @param duration           the window duration value.
+   * @param timeUnit           the window duration unit.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the bi-function instance.
+   * @param <IN>               the input data type.
+   * @param <OUT>              the output data type.
+   * @param <AFTER>            the accumulated data type.
+   * @return the transformation function.
+   * @throws java.lang.IllegalArgumentException if the specified duration is not positive.
+   * @see StreamBuilder#let(Function)
+   */
+  @NotNull
+  public static <IN, OUT, AFTER> Function<StreamBuilder<IN, OUT>, StreamBuilder<IN, AFTER>>
+  tumblingWindow(final long duration, @NotNull final TimeUnit timeUnit,
+      @NotNull final Supplier<? extends AFTER> seedSupplier,
+      @NotNull final BiFunction<? super AFTER, ? super OUT, ? extends AFTER> accumulateFunction) {
+    ConstantConditions.notNull("time unit", timeUnit);
+    ConstantConditions.positive("window duration", duration);
+    ConstantConditions.notNull("supplier instance", seedSupplier);
+    ConstantConditions.notNull("function instance", accumulateFunction);
+    return new TransformationFunction<IN, OUT, AFTER>(
+        new BiFunction<StreamConfiguration, Function<? super Channel<?, IN>, ?
+            extends Channel<?, OUT>>, Function<? super Channel<?, IN>, ?
+            extends Channel<?, AFTER>>>() {
+
+          public Function<? super Channel<?, IN>, ? extends Channel<?, AFTER>> apply(
+              final StreamConfiguration streamConfiguration,
+              final Function<? super Channel<?, IN>, ? extends Channel<?, OUT>> function) {
+            return decorate(function).andThen(
+                new BindWindow<OUT, AFTER>(streamConfiguration.toChannelConfiguration(), duration,
+                    timeUnit, false, seedSupplier, accumulateFunction));
+          }
+        });
+  }
+
   /**
    * Transformation function implementation.
    *
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Davide Maestroni
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dm.jrt.stream.transform;
+
+import com.github.dm.jrt.core.channel.Channel;
+import com.github.dm.jrt.core.channel.ChannelConsumer;
+import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.invocation.InvocationInterruptedException;
+import com.github.dm.jrt.core.runner.Execution;
+import com.github.dm.jrt.core.runner.Runner;
+import com.github.dm.jrt.core.util.ConstantConditions;
+import com.github.dm.jrt.function.BiFunction;
+import com.github.dm.jrt.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time window channel consumer.
+ * <br>
+ * The outputs are accumulated into a window which is opened by the first output and closed when
+ * the specified duration elapses. In case of session windows the duration is restarted by every
+ * new output, so that a window is closed only after a gap of inactivity.
+ * <br>
+ * A single timer execution is scheduled per window: when it fires before the deadline (since the
+ * latter has been moved forward by a session output), it is simply rescheduled for the remaining
+ * time.
+ * <p>
+ * Created by davide-maestroni on 10/18/2026.
+ *
+ * @param <OUT>   the output data type.
+ * @param <AFTER> the accumulated data type.
+ */
+class WindowChannelConsumer<OUT, AFTER> implements ChannelConsumer<OUT> {
+
+  private final BiFunction<? super AFTER, ? super OUT, ? extends AFTER> mAccumulateFunction;
+
+  private final long mDurationNanos;
+
+  private final boolean mIsSession;
+
+  private final Object mMutex = new Object();
+
+  private final Channel<AFTER, ?> mOutputChannel;
+
+  private final Runner mRunner;
+
+  private final Supplier<? extends AFTER> mSeedSupplier;
+
+  private AFTER mAccumulated;
+
+  private long mDeadline;
+
+  private FlushExecution mExecution;
+
+  /**
+   * Constructor.
+   *
+   * @param duration           the window duration value.
+   * @param timeUnit           the window duration unit.
+   * @param isSession          whether the window duration is restarted by each output.
+   * @param seedSupplier       the supplier of initial accumulation values.
+   * @param accumulateFunction the accumulating bi-function instance.
+   * @param runner             the runner instance.
+   * @param outputChannel      the output channel.
+   */
+  WindowChannelConsumer(final long duration, @NotNull final TimeUnit timeUnit,
+      final boolean isSession, @NotNull final Supplier<? extends AFTER> seedSupplier,
+      @NotNull final BiFunction<? super AFTER, ? super OUT, ? extends AFTER> accumulateFunction,
+      @NotNull final Runner runner, @NotNull final Channel<AFTER, ?> outputChannel) {
+    mDurationNanos = timeUnit.toNanos(ConstantConditions.positive("window duration", duration));
+    mIsSession = isSession;
+    mSeedSupplier = ConstantConditions.notNull("supplier instance", seedSupplier);
+    mAccumulateFunction = ConstantConditions.notNull("function instance", accumulateFunction);
+    mRunner = ConstantConditions.notNull("runner instance", runner);
+    mOutputChannel = ConstantConditions.notNull("output channel", outputChannel);
+  }
+
+  public void onComplete() {
+    final Channel<AFTER, ?> outputChannel = mOutputChannel;
+    synchronized (mMutex) {
+      final FlushExecution execution = mExecution;
+      if (execution != null) {
+        mRunner.cancel(execution);
+        mExecution = null;
+        outputChannel.pass(mAccumulated);
+        mAccumulated = null;
+      }
+    }
+
+    outputChannel.close();
+  }
+
+  public void onError(@NotNull final RoutineException error) {
+    clearWindow();
+    mOutputChannel.abort(error);
+  }
+
+  public void onOutput(final OUT output) throws Exception {
+    try {
+      synchronized (mMutex) {
+        final long now = System.nanoTime();
+        if (mExecution == null) {
+          mAccumulated = mAccumulateFunction.apply(mSeedSupplier.get(), output);
+          mDeadline = now + mDurationNanos;
+          final FlushExecution execution = (mExecution = new FlushExecution());
+          mRunner.run(execution, mDurationNanos, TimeUnit.NANOSECONDS);
+
+        } else {
+          mAccumulated = mAccumulateFunction.apply(mAccumulated, output);
+          if (mIsSession) {
+            mDeadline = now + mDurationNanos;
+          }
+        }
+      }
+
+    } catch (final Throwable t) {
+      clearWindow();
+      mOutputChannel.abort(t);
+      InvocationInterruptedException.throwIfInterrupt(t);
+    }
+  }
+
+  private void clearWindow() {
+    synchronized (mMutex) {
+      final FlushExecution execution = mExecution;
+      if (execution != null) {
+        mRunner.cancel(execution);
+        mExecution = null;
+        mAccumulated = null;
+      }
+    }
+  }
+
+  /**
+   * Execution flushing the current window.
+   */
+  private class FlushExecution implements Execution {
+
+    public void run() {
+      synchronized (mMutex) {
+        if (mExecution != this) {
+          return;
+        }
+
+        final long remaining = mDeadline - System.nanoTime();
+        if (remaining > 0) {
+          mRunner.run(this, remaining, TimeUnit.NANOSECONDS);
+          return;
+        }
+
+        mExecution = null;
+        final AFTER accumulated = mAccumulated;
+        mAccumulated = null;
+        mOutputChannel.pass(accumulated);
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import com.github.dm.jrt.core.channel.AbortException;
 import com.github.dm.jrt.core.channel.Channel;
 import com.github.dm.jrt.core.common.BackoffBuilder;
 import com.github.dm.jrt.core.common.RoutineException;
+import com.github.dm.jrt.core.config.ChannelConfiguration;
 import com.github.dm.jrt.core.invocation.IdentityInvocation;
 import com.github.dm.jrt.core.invocation.InvocationException;
 import com.github.dm.jrt.core.invocation.InvocationFactory;
@@ -35,6 +36,7 @@ import com.github.dm.jrt.function.BiConsumer;
 import com.github.dm.jrt.function.BiFunction;
 import com.github.dm.jrt.function.Function;
 import com.github.dm.jrt.function.Functions;
+import com.github.dm.jrt.function.Supplier;
 import com.github.dm.jrt.stream.JRoutineStream;
 import com.github.dm.jrt.stream.builder.StreamBuilder;
 
@@ -43,6 +45,8 @@ import org.assertj.core.data.Offset;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,6 +57,10 @@ import static com.github.dm.jrt.core.util.UnitDuration.seconds;
 import static com.github.dm.jrt.operator.Operators.appendAccept;
 import static com.github.dm.jrt.operator.Operators.reduce;
 import static com.github.dm.jrt.operator.sequence.Sequences.range;
+import static com.github.dm.jrt.stream.transform.Transformations.bulkhead;
+import static com.github.dm.jrt.stream.transform.Transformations.circuitBreaker;
+import static com.github.dm.jrt.stream.transform.Transformations.rateLimit;
+import static com.github.dm.jrt.stream.transform.Transformations.rateLimitInvocations;
 import static com.github.dm.jrt.stream.transform.Transformations.throttle;
 import static com.github.dm.jrt.stream.transform.Transformations.timeoutAfter;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -156,6 +164,72 @@ public class TransformationsTest {
                               .next()).isCloseTo(21, Offset.offset(0.1));
   }
 
+  @Test
+  public void testBulkhead() throws InterruptedException {
+    final Bulkhead bulkhead = new Bulkhead(1, 1);
+    final Routine<Object, Object> routine = JRoutineStream.withStream()
+                                                          .let(bulkhead(bulkhead))
+                                                          .applyInvocationConfiguration()
+                                                          .withRunner(Runners.poolRunner(1))
+                                                          .configured()
+                                                          .buildRoutine();
+    final Channel<Object, Object> channel1 = routine.call().pass("test1");
+    final Channel<Object, Object> channel2 = routine.call().pass("test2");
+    seconds(0.5).sleepAtLeast();
+    assertThat(bulkhead.getActiveCount()).isEqualTo(1);
+    assertThat(bulkhead.getQueuedCount()).isEqualTo(1);
+    assertThat(routine.call("test3").after(seconds(3)).getError()).isExactlyInstanceOf(
+        BulkheadFullException.class);
+    assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+    assertThat(channel1.close().after(seconds(1.5)).next()).isEqualTo("test1");
+    assertThat(channel2.close().after(seconds(1.5)).next()).isEqualTo("test2");
+    seconds(0.5).sleepAtLeast();
+    assertThat(bulkhead.getActiveCount()).isZero();
+    assertThat(bulkhead.getQueuedCount()).isZero();
+    assertThat(JRoutineStream.withStream()
+                             .let(bulkhead(1, 0))
+                             .call("test")
+                             .after(seconds(3))
+                             .all()).containsExactly("test");
+  }
+
+  @Test
+  public void testCircuitBreaker() throws InterruptedException {
+    final CircuitBreaker breaker = new CircuitBreaker(0.5f, 2, millis(500));
+    final Routine<String, String> routine =
+        JRoutineStream.<String>withStream().map(new Function<String, String>() {
+
+          public String apply(final String s) {
+            if ("fail".equals(s)) {
+              throw new IllegalStateException();
+            }
+
+            return s;
+          }
+        }).let(Transformations.<String, String>circuitBreaker(breaker)).buildRoutine();
+    assertThat(routine.call("test1").after(seconds(3)).all()).containsExactly("test1");
+    assertThat(routine.call("fail").after(seconds(3)).getError()).isInstanceOf(
+        InvocationException.class);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(routine.call("test2").after(seconds(3)).getError()).isExactlyInstanceOf(
+        CircuitOpenException.class);
+    assertThat(breaker.getRejectedCount()).isEqualTo(1);
+    seconds(0.6).sleepAtLeast();
+    assertThat(routine.call("fail").after(seconds(3)).getError()).isInstanceOf(
+        InvocationException.class);
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    seconds(0.6).sleepAtLeast();
+    assertThat(routine.call("test3").after(seconds(3)).all()).containsExactly("test3");
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(breaker.getSuccessCount()).isEqualTo(2);
+    assertThat(breaker.getFailureCount()).isEqualTo(2);
+    assertThat(JRoutineStream.withStream()
+                             .let(circuitBreaker(0.5f, 10, 1, TimeUnit.SECONDS))
+                             .call("test")
+                             .after(seconds(3))
+                             .all()).containsExactly("test");
+  }
+
   @Test
   public void testConstructor() {
     boolean failed = false;
@@ -212,6 +286,80 @@ public class TransformationsTest {
     }
   }
 
+  @Test
+  public void testHedge() {
+    final AtomicInteger count1 = new AtomicInteger();
+    final long startTime = System.currentTimeMillis();
+    final Channel<String, String> channel1 =
+        JRoutineStream.<String>withStream().map(new Function<String, String>() {
+
+          public String apply(final String s) throws InterruptedException {
+            if (count1.getAndIncrement() == 0) {
+              seconds(3).sleepAtLeast();
+            }
+
+            return s.toUpperCase();
+          }
+        }).let(Transformations.<String, String>hedge(millis(100), 2)).call("test");
+    assertThat(channel1.after(seconds(2)).all()).containsExactly("TEST");
+    assertThat(System.currentTimeMillis() - startTime).isLessThan(2000);
+    assertThat(count1.get()).isEqualTo(2);
+    final AtomicInteger count2 = new AtomicInteger();
+    final Channel<String, String> channel2 =
+        JRoutineStream.<String>withStream().map(new Function<String, String>() {
+
+          public String apply(final String s) {
+            count2.incrementAndGet();
+            throw new IllegalStateException();
+          }
+        }).let(Transformations.<String, String>hedge(10, TimeUnit.MILLISECONDS, 2)).call("test");
+    assertThat(channel2.after(seconds(3)).getError()).isExactlyInstanceOf(
+        InvocationException.class);
+    assertThat(count2.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testHedgeNullPointerError() {
+    try {
+      Transformations.hedge(null, 1);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+
+    try {
+      Transformations.hedge(1, null, 1);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+  }
+
+  @Test
+  public void testHedgeSlowAttempt() {
+    final AtomicInteger count = new AtomicInteger();
+    final BindHedge<String, String> bindHedge =
+        new BindHedge<String, String>(ChannelConfiguration.defaultConfiguration(),
+            new Function<Channel<?, String>, Channel<?, String>>() {
+
+              public Channel<?, String> apply(final Channel<?, String> channel) throws
+                  InterruptedException {
+                if (count.getAndIncrement() == 0) {
+                  final Channel<String, String> outputChannel = JRoutineCore.io().buildChannel();
+                  outputChannel.after(millis(200)).abort(new IllegalStateException());
+                  return outputChannel;
+                }
+
+                millis(500).sleepAtLeast();
+                return channel;
+              }
+            }, 10, TimeUnit.MILLISECONDS, 1);
+    final Channel<?, String> outputChannel =
+        bindHedge.apply(JRoutineCore.io().<String>of("test"));
+    assertThat(outputChannel.after(seconds(3)).all()).containsExactly("test");
+    assertThat(count.get()).isEqualTo(2);
+  }
+
   @Test
   public void testLag() {
     long startTime = System.currentTimeMillis();
@@ -369,6 +517,94 @@ public class TransformationsTest {
     }
   }
 
+  @Test
+  public void testRateLimit() {
+    final long startTime = System.currentTimeMillis();
+    assertThat(JRoutineStream.withStream()
+                             .let(rateLimit(4, seconds(1), 2, RateLimitActionType.DELAY))
+                             .call(1, 2, 3, 4)
+                             .after(seconds(3))
+                             .all()).containsExactly(1, 2, 3, 4);
+    assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(400);
+    assertThat(JRoutineStream.withStream()
+                             .let(rateLimit(1, seconds(10), 2, RateLimitActionType.DROP))
+                             .call(1, 2, 3, 4)
+                             .after(seconds(3))
+                             .all()).containsExactly(1, 2);
+    assertThat(JRoutineStream.withStream()
+                             .let(rateLimit(1, seconds(10), 2, RateLimitActionType.ABORT))
+                             .call(1, 2, 3, 4)
+                             .after(seconds(3))
+                             .getError()).isExactlyInstanceOf(RateLimitExceededException.class);
+  }
+
+  @Test
+  public void testRateLimitError() {
+    try {
+      rateLimit(2, 1, TimeUnit.NANOSECONDS, 1, RateLimitActionType.DROP);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      rateLimitInvocations(2000, 1, TimeUnit.MICROSECONDS, 1, RateLimitActionType.DROP);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testRateLimitInvocations() {
+    final Function<StreamBuilder<Object, Object>, StreamBuilder<Object, Object>> limit =
+        rateLimitInvocations(1, seconds(10), 1, RateLimitActionType.DROP);
+    final Routine<Object, Object> routine = JRoutineStream.withStream().let(limit).buildRoutine();
+    assertThat(routine.call("test1").after(seconds(3)).all()).containsExactly("test1");
+    assertThat(routine.call("test2").after(seconds(3)).all()).isEmpty();
+    assertThat(JRoutineStream.withStream()
+                             .let(limit)
+                             .call("test3")
+                             .after(seconds(3))
+                             .all()).isEmpty();
+    final Routine<Object, Object> delayed = JRoutineStream.withStream()
+                                                          .let(rateLimitInvocations(2, seconds(1),
+                                                              1, RateLimitActionType.DELAY))
+                                                          .buildRoutine();
+    final long startTime = System.currentTimeMillis();
+    final Channel<Object, Object> channel1 = delayed.call("test1");
+    final Channel<Object, Object> channel2 = delayed.call("test2");
+    assertThat(channel1.after(seconds(3)).next()).isEqualTo("test1");
+    assertThat(channel2.after(seconds(3)).next()).isEqualTo("test2");
+    assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(400);
+  }
+
+  @Test
+  public void testRateLimitInvocationsDrop() {
+    final Routine<Object, Object> routine = JRoutineStream.withStream()
+                                                          .let(rateLimitInvocations(1, seconds(10),
+                                                              1, RateLimitActionType.DROP))
+                                                          .buildRoutine();
+    assertThat(routine.call("test1").after(seconds(3)).all()).containsExactly("test1");
+    final Channel<Object, Object> inputChannel = JRoutineCore.io().buildChannel();
+    inputChannel.pass("test2", "test3").close();
+    final Channel<Object, Object> outputChannel = routine.call().pass(inputChannel).close();
+    assertThat(outputChannel.after(seconds(3)).all()).isEmpty();
+    assertThat(inputChannel.isBound()).isTrue();
+    assertThat(inputChannel.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testRateLimitInvocationsAbort() {
+    final Routine<Object, Object> routine = JRoutineStream.withStream()
+                                                          .let(rateLimitInvocations(1, seconds(10),
+                                                              1, RateLimitActionType.ABORT))
+                                                          .buildRoutine();
+    assertThat(routine.call("test1").after(seconds(3)).all()).containsExactly("test1");
+    assertThat(routine.call("test2").after(seconds(3)).getError()).isExactlyInstanceOf(
+        RateLimitExceededException.class);
+  }
+
   @Test
   public void testRetry() {
     final AtomicInteger count1 = new AtomicInteger();
@@ -467,6 +703,61 @@ public class TransformationsTest {
     }
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSessionWindow() {
+    final Channel<Integer, List<Integer>> channel = JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer>sessionWindow(millis(300))).call();
+    channel.pass(1).pass(2);
+    assertThat(channel.after(seconds(3)).next()).containsExactly(1, 2);
+    channel.now().pass(3).pass(4).close();
+    assertThat(channel.after(seconds(3)).all()).containsExactly(Arrays.asList(3, 4));
+    assertThat(JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer, Integer>sessionWindow(10, TimeUnit.SECONDS,
+            new Supplier<Integer>() {
+
+              public Integer get() {
+                return 0;
+              }
+            }, new BiFunction<Integer, Integer, Integer>() {
+
+              public Integer apply(final Integer sum, final Integer output) {
+                return sum + output;
+              }
+            })).call(1, 2, 3).after(seconds(3)).all()).containsExactly(6);
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testSessionWindowError() {
+    try {
+      Transformations.sessionWindow(0, TimeUnit.SECONDS);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Transformations.sessionWindow(1, null);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+
+    try {
+      Transformations.sessionWindow(1, TimeUnit.SECONDS, null,
+          new BiFunction<Object, Object, Object>() {
+
+            public Object apply(final Object o, final Object o2) {
+              return o;
+            }
+          });
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+  }
+
   @Test
   public void testThrottle() throws InterruptedException {
     final Routine<Object, Object> routine = JRoutineStream.withStream()
@@ -520,6 +811,24 @@ public class TransformationsTest {
         ResultTimeoutException.class);
   }
 
+  @Test
+  public void testTimeoutRestart() throws InterruptedException {
+    final Channel<Object, Object> channel =
+        JRoutineStream.withStream().let(timeoutAfter(millis(300))).call();
+    for (int i = 0; i < 6; ++i) {
+      channel.pass(i);
+      Thread.sleep(100);
+    }
+
+    assertThat(channel.close().after(seconds(1)).all()).containsExactly(0, 1, 2, 3, 4, 5);
+    final Channel<Object, Object> channel2 =
+        JRoutineStream.withStream().let(timeoutAfter(millis(300))).call().pass("test");
+    Thread.sleep(100);
+    channel2.pass("test");
+    assertThat(channel2.after(seconds(1)).getError()).isExactlyInstanceOf(
+        ResultTimeoutException.class);
+  }
+
   @Test
   public void testTryCatch() {
     assertThat(JRoutineStream.<String>withStream().sync()
@@ -640,6 +949,98 @@ public class TransformationsTest {
     }
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testTumblingWindow() {
+    final Channel<Integer, List<Integer>> channel = JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer>tumblingWindow(millis(300))).call();
+    channel.pass(1).pass(2);
+    assertThat(channel.after(seconds(3)).next()).containsExactly(1, 2);
+    channel.now().pass(3).close();
+    assertThat(channel.after(seconds(3)).all()).containsExactly(Arrays.asList(3));
+    assertThat(JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer>tumblingWindow(10, TimeUnit.SECONDS))
+                             .call()
+                             .close()
+                             .after(seconds(3))
+                             .all()).isEmpty();
+    assertThat(JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer, Integer>tumblingWindow(10, TimeUnit.SECONDS,
+            new Supplier<Integer>() {
+
+              public Integer get() {
+                return 0;
+              }
+            }, new BiFunction<Integer, Integer, Integer>() {
+
+              public Integer apply(final Integer sum, final Integer output) {
+                return sum + output;
+              }
+            })).call(1, 2, 3).after(seconds(3)).all()).containsExactly(6);
+  }
+
+  @Test
+  public void testTumblingWindowAbort() {
+    final Channel<Integer, List<Integer>> channel = JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer>tumblingWindow(millis(100))).call();
+    channel.pass(1).abort();
+    assertThat(channel.after(seconds(3)).getError()).isExactlyInstanceOf(AbortException.class);
+  }
+
+  @Test
+  public void testTumblingWindowAccumulateError() {
+    final Channel<Integer, Integer> channel = JRoutineStream.<Integer>withStream().let(
+        Transformations.<Integer, Integer, Integer>tumblingWindow(100, TimeUnit.MILLISECONDS,
+            new Supplier<Integer>() {
+
+              public Integer get() {
+                return 0;
+              }
+            }, new BiFunction<Integer, Integer, Integer>() {
+
+              public Integer apply(final Integer sum, final Integer output) {
+                if (output > 1) {
+                  throw new IllegalStateException();
+                }
+
+                return sum + output;
+              }
+            })).call();
+    channel.pass(1).pass(2);
+    assertThat(channel.after(seconds(3)).getError().getCause()).isExactlyInstanceOf(
+        IllegalStateException.class);
+  }
+
+  @Test
+  @SuppressWarnings("ConstantConditions")
+  public void testTumblingWindowError() {
+    try {
+      Transformations.tumblingWindow(-1, TimeUnit.SECONDS);
+      fail();
+
+    } catch (final IllegalArgumentException ignored) {
+    }
+
+    try {
+      Transformations.tumblingWindow(1, null);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+
+    try {
+      Transformations.tumblingWindow(1, TimeUnit.SECONDS, new Supplier<Object>() {
+
+        public Object get() {
+          return null;
+        }
+      }, null);
+      fail();
+
+    } catch (final NullPointerException ignored) {
+    }
+  }
+
   private static class AbortInvocation extends MappingInvocation<Object, Object> {
 
     private AbortInvocation() {